@@ -0,0 +1,111 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Sets;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the event implementations created by {@link SpongeEventFactory}
+ * at build time, so they don't need to be generated when an event is created
+ * for the first time.
+ *
+ * <p>The generated classes are placed in the same package and use the same
+ * names as the classes generated at runtime, which allows
+ * {@link SpongeEventFactoryUtils} to load them from the class path. Events
+ * that are not part of the API are still generated at runtime.</p>
+ */
+public final class EventImplPregenerator {
+
+    private EventImplPregenerator() {
+    }
+
+    /**
+     * Gets the event interfaces created by the given event factory, which
+     * are the return types of its public static methods.
+     *
+     * @param factoryClass The event factory class
+     * @return The event interfaces
+     */
+    public static Set<Class<?>> getEventTypes(Class<?> factoryClass) {
+        checkNotNull(factoryClass, "factoryClass");
+        Set<Class<?>> types = Sets.newLinkedHashSet();
+        for (Method method : factoryClass.getDeclaredMethods()) {
+            if (Modifier.isPublic(method.getModifiers()) && Modifier.isStatic(method.getModifiers()) && method.getReturnType().isInterface()) {
+                types.add(method.getReturnType());
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Generates the event implementations for all event interfaces created
+     * by the given event factory and writes them to the output directory.
+     *
+     * @param factoryClass The event factory class
+     * @param outputDir The class output directory
+     * @return The number of generated classes
+     * @throws IOException If a class file couldn't be written
+     */
+    public static int generate(Class<?> factoryClass, Path outputDir) throws IOException {
+        checkNotNull(outputDir, "outputDir");
+        int count = 0;
+        for (Class<?> type : getEventTypes(factoryClass)) {
+            for (Map.Entry<String, byte[]> entry : SpongeEventFactoryUtils.generateEventImpl(type).entrySet()) {
+                Path file = outputDir.resolve(entry.getKey().replace('.', '/') + ".class");
+                Files.createDirectories(file.getParent());
+                Files.write(file, entry.getValue());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Generates the event implementations, see {@link #generate(Class, Path)}.
+     *
+     * @param args The class output directory, optionally followed by the
+     *        canonical name of the event factory class
+     * @throws Exception If the classes couldn't be generated
+     */
+    public static void main(String[] args) throws Exception {
+        checkArgument(args.length == 1 || args.length == 2, "Usage: EventImplPregenerator <outputDir> [factoryClass]");
+        Class<?> factoryClass = args.length == 2 ? Class.forName(args[1]) : SpongeEventFactory.class;
+        int count = generate(factoryClass, Paths.get(args[0]));
+        System.out.println("Generated " + count + " event classes for " + factoryClass.getName());
+    }
+
+}
@@ -0,0 +1,649 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.ArrayUtils;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.service.persistence.DataBuilder;
+import org.spongepowered.api.service.persistence.SerializationService;
+import org.spongepowered.api.util.Coerce;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Base implementation of a {@link DataView}, implementing the typed getters
+ * on top of {@link #get(DataQuery)} and the storage independent setters.
+ */
+abstract class AbstractDataView implements DataView {
+
+    /**
+     * Creates a new empty {@link DataContainer} of the same implementation
+     * as this view, used to copy views.
+     *
+     * @return The new container
+     */
+    protected abstract DataContainer createContainer();
+
+    /**
+     * Gets the value stored at the given path without copying it. Arrays
+     * returned by this method must not be modified or leaked.
+     *
+     * @param path The path of the value
+     * @return The stored value, if available
+     */
+    protected abstract Optional<Object> getUnsafe(DataQuery path);
+
+    /**
+     * Copies the given array, so arrays stored in a view can't be modified
+     * from the outside.
+     *
+     * @param array The array
+     * @return The copy of the array
+     */
+    protected static Object copyArray(Object array) {
+        if (array instanceof byte[]) {
+            return ArrayUtils.clone((byte[]) array);
+        } else if (array instanceof short[]) {
+            return ArrayUtils.clone((short[]) array);
+        } else if (array instanceof int[]) {
+            return ArrayUtils.clone((int[]) array);
+        } else if (array instanceof long[]) {
+            return ArrayUtils.clone((long[]) array);
+        } else if (array instanceof float[]) {
+            return ArrayUtils.clone((float[]) array);
+        } else if (array instanceof double[]) {
+            return ArrayUtils.clone((double[]) array);
+        } else if (array instanceof boolean[]) {
+            return ArrayUtils.clone((boolean[]) array);
+        } else if (array instanceof char[]) {
+            return ArrayUtils.clone((char[]) array);
+        } else {
+            return ArrayUtils.clone((Object[]) array);
+        }
+    }
+
+    /**
+     * Copies the given collection to be stored in a view, converting
+     * {@link DataSerializable}s and {@link DataView}s to
+     * {@link DataContainer}s.
+     *
+     * @param value The collection
+     * @return The immutable copy of the collection
+     */
+    protected ImmutableList<Object> copyCollection(Collection<?> value) {
+        ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        for (Object object : value) {
+            if (object instanceof DataSerializable) {
+                builder.add(((DataSerializable) object).toContainer());
+            } else if (object instanceof DataView) {
+                DataContainer view = createContainer();
+                DataView internalView = (DataView) object;
+                for (Map.Entry<DataQuery, Object> entry : internalView.getValues(false).entrySet()) {
+                    view.set(entry.getKey(), entry.getValue());
+                }
+                builder.add(view);
+            } else if (object instanceof Map) {
+                builder.add(ImmutableMap.copyOf((Map<?, ?>) object));
+            } else if (object instanceof Collection) {
+                builder.add(ImmutableList.copyOf((Collection<?>) object));
+            } else {
+                builder.add(object);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent() && val.get().getClass().isArray()) {
+            return Optional.of(copyArray(val.get()));
+        }
+        return val;
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (DataQuery query : getKeys(deep)) {
+            Object value = get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).getValues(deep));
+            } else {
+                builder.put(query, get(query).get());
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key, "Key was null!").getQuery(), value);
+    }
+
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        checkNotNull(path, "path");
+        DataView section = createView(path);
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                section.createView(of('.', entry.getKey().toString()), (Map<?, ?>) entry.getValue());
+            } else {
+                section.set(of('.', entry.getKey().toString()), entry.getValue());
+            }
+        }
+        return section;
+    }
+
+    @Override
+    public Optional<DataView> getView(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                return Optional.of((DataView) val.get());
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+                for (Map.Entry<DataQuery, Object> entry : ((DataView) val.get()).getValues(false).entrySet()) {
+                    builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
+                }
+                return Optional.of(builder.build());
+            } else if (val.get() instanceof Map) {
+                return Optional.of((Map<?, ?>) ensureMappingOf(val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Object ensureMappingOf(Object object) {
+        if (object instanceof DataView) {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<DataQuery, Object> entry : ((DataView) object).getValues(false).entrySet()) {
+                builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                builder.put(entry.getKey().toString(), ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Collection) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (Object entry : (Collection) object) {
+                builder.add(ensureMappingOf(entry));
+            }
+            return builder.build();
+        } else {
+            return object;
+        }
+    }
+
+    /**
+     * Gets the {@link DataView} at the given path without checking whether
+     * the path is valid first.
+     *
+     * @param path The path of the view
+     * @return The view, if available
+     */
+    protected Optional<DataView> getUnsafeView(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                return Optional.of((DataView) val.get());
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asBoolean(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asInteger(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asLong(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asDouble(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getString(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asString(val.get());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<?>> getList(DataQuery path) {
+        // The list is copied anyway, so arrays don't need to be copied first
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
+            }
+            if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ByteBuffer> getByteBuffer(DataQuery path) {
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent() && val.get() instanceof byte[]) {
+            return Optional.of(ByteBuffer.wrap((byte[]) val.get()).asReadOnlyBuffer());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ShortBuffer> getShortBuffer(DataQuery path) {
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent() && val.get() instanceof short[]) {
+            return Optional.of(ShortBuffer.wrap((short[]) val.get()).asReadOnlyBuffer());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<IntBuffer> getIntBuffer(DataQuery path) {
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent() && val.get() instanceof int[]) {
+            return Optional.of(IntBuffer.wrap((int[]) val.get()).asReadOnlyBuffer());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<LongBuffer> getLongBuffer(DataQuery path) {
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent() && val.get() instanceof long[]) {
+            return Optional.of(LongBuffer.wrap((long[]) val.get()).asReadOnlyBuffer());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<FloatBuffer> getFloatBuffer(DataQuery path) {
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent() && val.get() instanceof float[]) {
+            return Optional.of(FloatBuffer.wrap((float[]) val.get()).asReadOnlyBuffer());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<DoubleBuffer> getDoubleBuffer(DataQuery path) {
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent() && val.get() instanceof double[]) {
+            return Optional.of(DoubleBuffer.wrap((double[]) val.get()).asReadOnlyBuffer());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<CharBuffer> getCharBuffer(DataQuery path) {
+        Optional<Object> val = getUnsafe(path);
+        if (val.isPresent() && val.get() instanceof char[]) {
+            return Optional.of(CharBuffer.wrap((char[]) val.get()).asReadOnlyBuffer());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<String> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<String> optional = Coerce.asString(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    private Optional<List<?>> getUnsafeList(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of((List<?>) val.get());
+            } else if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Arrays.asList(((Object[]) val.get())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Character> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Character> optional = Coerce.asChar(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Boolean> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Boolean> optional = Coerce.asBoolean(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Byte> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Byte> optional = Coerce.asByte(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Short> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Short> optional = Coerce.asShort(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Integer> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Integer> optional = Coerce.asInteger(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Long> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Long> optional = Coerce.asLong(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Float> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Float> optional = Coerce.asFloat(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Double> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Double> optional = Coerce.asDouble(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Map<?, ?>> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            if (object instanceof Map) {
+                newList.add((Map<?, ?>) object);
+            }
+        }
+
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<DataView> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            if (object instanceof DataView) {
+                newList.add((DataView) object);
+            }
+        }
+
+        return Optional.of(newList);
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz, SerializationService service) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        checkNotNull(service, "service");
+        Optional<DataView> optional = getUnsafeView(path);
+
+        if (!optional.isPresent()) {
+            return Optional.empty();
+        }
+
+        Optional<DataBuilder<T>> builderOptional = service.getBuilder(clazz);
+        if (!builderOptional.isPresent()) {
+            return Optional.empty();
+        } else {
+            return builderOptional.get().build(optional.get());
+        }
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz, SerializationService service) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        checkNotNull(service, "service");
+        Optional<List<DataView>> optional = getViewList(path);
+
+        if (!optional.isPresent()) {
+            return Optional.empty();
+        }
+
+        Optional<DataBuilder<T>> builderOptional = service.getBuilder(clazz);
+        if (!builderOptional.isPresent()) {
+            return Optional.empty();
+        } else {
+            List<T> newList = Lists.newArrayList();
+            for (DataView view : optional.get()) {
+                Optional<T> element = builderOptional.get().build(view);
+                if (element.isPresent()) {
+                    newList.add(element.get());
+                }
+            }
+            return Optional.of(newList);
+        }
+    }
+
+    @Override
+    public DataContainer copy() {
+        final DataContainer container = createContainer();
+        for (DataQuery query : getKeys(false)) {
+            container.set(query, get(query).get());
+        }
+        return container;
+    }
+
+}
@@ -25,24 +25,54 @@
 package org.spongepowered.api.data;
 
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 import java.util.List;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>A query created by {@link #then(DataQuery)} shares the two queries it
+ * is made of instead of copying their parts. The list of its parts is only
+ * created when it is first needed.</p>
  */
 public final class DataQuery {
 
-    private static final DataQuery EMPTY = new DataQuery();
+    private static final Interner<DataQuery> INTERNER = Interners.newWeakInterner();
+    private static final DataQuery EMPTY = new DataQuery().intern();
+
+    /**
+     * The parts that make up this query, or null if they weren't collected
+     * from the {@link #prefix} and {@link #suffix} yet.
+     */
+    @Nullable private volatile ImmutableList<String> parts;
+
+    /**
+     * The queries this query was joined from by {@link #then(DataQuery)}.
+     * They are cleared once the {@link #parts} are collected, so a query
+     * doesn't keep the queries it was built from reachable.
+     */
+    @Nullable private volatile DataQuery prefix;
+    @Nullable private volatile DataQuery suffix;
+    private final int size;
+
+    /**
+     * The cached hash code, or 0 if it wasn't computed yet.
+     */
+    private int hash;
 
     /**
-     * The parts that make up this query.
+     * Whether this query is the interned instance of its path.
      */
-    private final ImmutableList<String> parts;
+    private volatile boolean interned;
+
+    @Nullable private volatile ImmutableList<DataQuery> queryParts;
 
     /**
      * Constructs a query using the given separator character and path.
@@ -64,7 +94,7 @@ public DataQuery(char separator, String path) {
      * @param parts The parts
      */
     public DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+        this(ImmutableList.copyOf(parts));
     }
 
     /**
@@ -73,7 +103,18 @@ public DataQuery(String... parts) {
      * @param parts The parts
      */
     public DataQuery(List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+        this(ImmutableList.copyOf(parts));
+    }
+
+    private DataQuery(ImmutableList<String> parts) {
+        this.parts = parts;
+        this.size = parts.size();
+    }
+
+    private DataQuery(DataQuery prefix, DataQuery suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.size = prefix.size + suffix.size;
     }
 
     /**
@@ -134,41 +175,125 @@ public static DataQuery of(List<String> parts) {
      * @return The parts of this query
      */
     public List<String> getParts() {
-        return this.parts;
+        @Nullable ImmutableList<String> parts = this.parts;
+        if (parts == null) {
+            String[] array = new String[this.size];
+            copyParts(array, 0);
+            parts = ImmutableList.copyOf(array);
+            // The parts are set first, so they are visible to any thread
+            // that sees the cleared queries
+            this.parts = parts;
+            this.prefix = null;
+            this.suffix = null;
+        }
+        return parts;
+    }
+
+    private void copyParts(String[] array, int offset) {
+        // Walk down the prefixes without recursion, queries created by
+        // appending one part at a time are deep on that side
+        DataQuery query = this;
+        @Nullable ImmutableList<String> parts;
+        while ((parts = query.parts) == null) {
+            @Nullable DataQuery prefix = query.prefix;
+            @Nullable DataQuery suffix = query.suffix;
+            if (prefix == null || suffix == null) {
+                // Another thread collected the parts in the meantime
+                parts = query.parts;
+                break;
+            }
+            suffix.copyParts(array, offset + prefix.size);
+            query = prefix;
+        }
+        for (int i = 0; i < parts.size(); i++) {
+            array[offset + i] = parts.get(i);
+        }
+    }
+
+    /**
+     * Gets the number of parts that make up this query.
+     *
+     * @return The number of parts
+     */
+    public int getPartCount() {
+        return this.size;
+    }
+
+    /**
+     * Gets the part at the given index of this query. Together with
+     * {@link #getPartCount()} this can be used to iterate the parts without
+     * creating an iterator or any new queries.
+     *
+     * @param index The index of the part
+     * @return The part
+     * @throws IndexOutOfBoundsException If the index is out of bounds
+     */
+    public String getPart(int index) {
+        return getParts().get(index);
     }
 
     /**
      * Returns a new query that is made up of this query's parts followed by the
      * given query's parts.
      *
+     * <p>This doesn't copy the parts of either query, so it takes constant
+     * time.</p>
+     *
      * @param that The given query to follow this one
      * @return The constructed query
      */
     public DataQuery then(DataQuery that) {
-        ImmutableList.Builder<String> builder =
-                new ImmutableList.Builder<String>();
-
-        builder.addAll(this.parts);
-        builder.addAll(that.parts);
-
-        return new DataQuery(builder.build());
+        if (that.size == 0) {
+            return this;
+        } else if (this.size == 0) {
+            return that;
+        }
+        return new DataQuery(this, that);
     }
 
     /**
      * Returns the parts of this query as individual queries. The returned list
      * is immutable.
      *
+     * <p>The list is created once per query, so repeated calls on the same
+     * query don't create any new queries.</p>
+     *
      * @return The constructed queries
      */
     public List<DataQuery> getQueryParts() {
-        ImmutableList.Builder<DataQuery> builder =
-                new ImmutableList.Builder<DataQuery>();
-
-        for (String part : getParts()) {
-            builder.add(new DataQuery(part));
+        @Nullable ImmutableList<DataQuery> queryParts = this.queryParts;
+        if (queryParts == null) {
+            if (this.size == 1) {
+                queryParts = ImmutableList.of(this);
+            } else {
+                ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
+                for (String part : getParts()) {
+                    builder.add(new DataQuery(ImmutableList.of(part)));
+                }
+                queryParts = builder.build();
+            }
+            this.queryParts = queryParts;
         }
+        return queryParts;
+    }
 
-        return builder.build();
+    /**
+     * Returns the canonical instance of this query, which is shared by all
+     * interned queries with the same parts.
+     *
+     * <p>Interned queries compare by identity, which makes them faster to
+     * use as keys. Constant queries, such as the queries of {@link
+     * org.spongepowered.api.data.key.Key}s, should be interned.</p>
+     *
+     * @return The interned query
+     */
+    public DataQuery intern() {
+        if (this.interned) {
+            return this;
+        }
+        DataQuery query = INTERNER.intern(this);
+        query.interned = true;
+        return query;
     }
 
     /**
@@ -178,7 +303,7 @@ public List<DataQuery> getQueryParts() {
      * @return This query as a string
      */
     public String asString(String separator) {
-        return Joiner.on(separator).join(this.parts);
+        return Joiner.on(separator).join(getParts());
     }
 
     /**
@@ -198,11 +323,16 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = getParts().hashCode();
+            this.hash = hash;
+        }
+        return hash;
     }
 
     @Override
-    public boolean equals(Object obj) {
+    public boolean equals(@Nullable Object obj) {
         if (this == obj) {
             return true;
         }
@@ -210,6 +340,10 @@ public boolean equals(Object obj) {
             return false;
         }
         final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        if (this.interned && other.interned) {
+            // Both are canonical instances, but not the same one
+            return false;
+        }
+        return this.size == other.size && hashCode() == other.hashCode() && getParts().equals(other.getParts());
     }
 }
@@ -29,6 +29,13 @@
 import org.spongepowered.api.service.persistence.DataBuilder;
 import org.spongepowered.api.service.persistence.SerializationService;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -128,6 +135,12 @@ public interface DataView {
      * Gets an object from the desired path. If the path is not defined,
      * an absent Optional is returned.
      *
+     * <p>Arrays are copied when they are set and before they are returned.
+     * The buffer getters such as {@link #getByteBuffer(DataQuery)} wrap the
+     * stored array instead, so large arrays can be read without copying
+     * them. These buffers are read-only and are not affected by later
+     * changes to the view.</p>
+     *
      * @param path The path to the Object
      * @return The Object, if available
      */
@@ -283,6 +296,69 @@ public interface DataView {
      */
     Optional<List<?>> getList(DataQuery path);
 
+    /**
+     * Gets a read-only {@link ByteBuffer} of the {@code byte[]} at the given
+     * path, if available.
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer, if available
+     */
+    Optional<ByteBuffer> getByteBuffer(DataQuery path);
+
+    /**
+     * Gets a read-only {@link ShortBuffer} of the {@code short[]} at the given
+     * path, if available.
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer, if available
+     */
+    Optional<ShortBuffer> getShortBuffer(DataQuery path);
+
+    /**
+     * Gets a read-only {@link IntBuffer} of the {@code int[]} at the given
+     * path, if available.
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer, if available
+     */
+    Optional<IntBuffer> getIntBuffer(DataQuery path);
+
+    /**
+     * Gets a read-only {@link LongBuffer} of the {@code long[]} at the given
+     * path, if available.
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer, if available
+     */
+    Optional<LongBuffer> getLongBuffer(DataQuery path);
+
+    /**
+     * Gets a read-only {@link FloatBuffer} of the {@code float[]} at the given
+     * path, if available.
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer, if available
+     */
+    Optional<FloatBuffer> getFloatBuffer(DataQuery path);
+
+    /**
+     * Gets a read-only {@link DoubleBuffer} of the {@code double[]} at the given
+     * path, if available.
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer, if available
+     */
+    Optional<DoubleBuffer> getDoubleBuffer(DataQuery path);
+
+    /**
+     * Gets a read-only {@link CharBuffer} of the {@code char[]} at the given
+     * path, if available.
+     *
+     * @param path The path of the value to get
+     * @return The read-only buffer, if available
+     */
+    Optional<CharBuffer> getCharBuffer(DataQuery path);
+
     /**
      * Gets the {@link List} of {@link String} by path, if available.
      *
@@ -0,0 +1,383 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * The storage of a {@link FlatDataContainer} and all of its views.
+ *
+ * <p>Every key of the container and its views is a node, identified by an
+ * index into the node arrays. Keys are stored as indices into a table of
+ * interned path segments, and the children of a node are found through a
+ * single open-addressed hash table keyed by the parent node and the segment.
+ * Nodes that are views store {@link #VIEW} as their value, and link their
+ * children in insertion order.</p>
+ */
+final class FlatDataTable {
+
+    static final int NONE = -1;
+    static final int ROOT = 0;
+
+    /**
+     * The value of nodes that are views.
+     */
+    private static final Object VIEW = new Object();
+
+    private static final int DELETED = -1;
+
+    // Interned path segments, the slots contain the segment index + 1
+    private String[] segments = new String[16];
+    private int segmentCount;
+    private int[] segmentSlots = new int[32];
+
+    // The nodes
+    private int[] parents = new int[16];
+    private int[] keys = new int[16];
+    private int[] firstChildren = new int[16];
+    private int[] lastChildren = new int[16];
+    private int[] nextSiblings = new int[16];
+    private int[] previousSiblings = new int[16];
+    private Object[] values = new Object[16];
+    private FlatDataView[] views = new FlatDataView[16];
+    private int nodeCount;
+    // Removed nodes, linked through their next sibling
+    private int freeNodes = NONE;
+
+    // The children of all nodes, the slots contain the node index + 1
+    private int[] childSlots = new int[32];
+    private int children;
+    private int deletedChildren;
+
+    FlatDataTable(FlatDataContainer container) {
+        int root = allocateNode(NONE, NONE);
+        this.values[root] = VIEW;
+        this.views[root] = container;
+    }
+
+    private static int hash(int value) {
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(int parent, int segment) {
+        return hash(parent * 31 + segment);
+    }
+
+    /**
+     * Gets the index of the given path segment, if it was interned before.
+     *
+     * @param segment The path segment
+     * @return The index of the segment, or {@link #NONE}
+     */
+    int findSegment(String segment) {
+        int mask = this.segmentSlots.length - 1;
+        for (int slot = hash(segment.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int index = this.segmentSlots[slot] - 1;
+            if (index == NONE) {
+                return NONE;
+            } else if (this.segments[index].equals(segment)) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the given path segment, interning it if necessary.
+     *
+     * @param segment The path segment
+     * @return The index of the segment
+     */
+    int internSegment(String segment) {
+        int index = findSegment(segment);
+        if (index != NONE) {
+            return index;
+        }
+        if (this.segmentCount == this.segments.length) {
+            this.segments = Arrays.copyOf(this.segments, this.segmentCount * 2);
+        }
+        index = this.segmentCount++;
+        this.segments[index] = segment;
+        if (this.segmentCount * 2 > this.segmentSlots.length) {
+            this.segmentSlots = new int[this.segmentSlots.length * 2];
+            for (int i = 0; i < this.segmentCount; i++) {
+                insertSegment(i);
+            }
+        } else {
+            insertSegment(index);
+        }
+        return index;
+    }
+
+    private void insertSegment(int index) {
+        int mask = this.segmentSlots.length - 1;
+        int slot = hash(this.segments[index].hashCode()) & mask;
+        while (this.segmentSlots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.segmentSlots[slot] = index + 1;
+    }
+
+    /**
+     * Gets the child of the given node with the given key.
+     *
+     * @param parent The parent node
+     * @param segment The index of the key segment
+     * @return The child node, or {@link #NONE}
+     */
+    int getChild(int parent, int segment) {
+        int mask = this.childSlots.length - 1;
+        for (int slot = hash(parent, segment) & mask; ; slot = (slot + 1) & mask) {
+            int value = this.childSlots[slot];
+            if (value == 0) {
+                return NONE;
+            } else if (value != DELETED) {
+                int node = value - 1;
+                if (this.keys[node] == segment && this.parents[node] == parent) {
+                    return node;
+                }
+            }
+        }
+    }
+
+    boolean isView(int node) {
+        return this.values[node] == VIEW;
+    }
+
+    String getKey(int node) {
+        return this.segments[this.keys[node]];
+    }
+
+    int getFirstChild(int node) {
+        return this.firstChildren[node];
+    }
+
+    int getNextSibling(int node) {
+        return this.nextSiblings[node];
+    }
+
+    /**
+     * Gets the value of the given node.
+     *
+     * @param node The node
+     * @return The value, or the view if the node is a view
+     */
+    Object getValue(int node) {
+        Object value = this.values[node];
+        return value == VIEW ? getView(node) : value;
+    }
+
+    /**
+     * Gets the {@link FlatDataView} of the given node, which must be a view.
+     *
+     * @param node The node
+     * @return The view
+     */
+    FlatDataView getView(int node) {
+        @Nullable FlatDataView view = this.views[node];
+        if (view == null) {
+            view = new FlatDataView(getView(this.parents[node]), node);
+            this.views[node] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Sets the value of the child of the given node with the given key,
+     * removing the previous value.
+     *
+     * @param parent The parent node
+     * @param segment The index of the key segment
+     * @param value The value
+     */
+    void setValue(int parent, int segment, Object value) {
+        int node = getChild(parent, segment);
+        if (node == NONE) {
+            node = addChild(parent, segment);
+        } else if (this.values[node] == VIEW) {
+            clearView(node);
+            detachView(node);
+        }
+        this.values[node] = value;
+    }
+
+    /**
+     * Gets the child view of the given node with the given key, replacing a
+     * previous value that isn't a view.
+     *
+     * @param parent The parent node
+     * @param segment The index of the key segment
+     * @param clear Whether to remove the contents of an existing view
+     * @return The view node
+     */
+    int getOrCreateView(int parent, int segment, boolean clear) {
+        int node = getChild(parent, segment);
+        if (node == NONE) {
+            node = addChild(parent, segment);
+        } else if (this.values[node] == VIEW) {
+            if (clear) {
+                clearView(node);
+            }
+            return node;
+        }
+        this.values[node] = VIEW;
+        return node;
+    }
+
+    /**
+     * Removes the given node and all of its children.
+     *
+     * @param node The node
+     */
+    void remove(int node) {
+        int parent = this.parents[node];
+        int previous = this.previousSiblings[node];
+        int next = this.nextSiblings[node];
+        if (previous == NONE) {
+            this.firstChildren[parent] = next;
+        } else {
+            this.nextSiblings[previous] = next;
+        }
+        if (next == NONE) {
+            this.lastChildren[parent] = previous;
+        } else {
+            this.previousSiblings[next] = previous;
+        }
+        free(node);
+    }
+
+    private void clearView(int node) {
+        for (int child = this.firstChildren[node]; child != NONE; ) {
+            int next = this.nextSiblings[child];
+            free(child);
+            child = next;
+        }
+        this.firstChildren[node] = NONE;
+        this.lastChildren[node] = NONE;
+    }
+
+    private void detachView(int node) {
+        @Nullable FlatDataView view = this.views[node];
+        if (view != null) {
+            view.detach();
+            this.views[node] = null;
+        }
+    }
+
+    private void free(int node) {
+        if (this.values[node] == VIEW) {
+            clearView(node);
+            detachView(node);
+        }
+        removeChildSlot(node);
+        this.values[node] = null;
+        this.nextSiblings[node] = this.freeNodes;
+        this.freeNodes = node;
+    }
+
+    private int addChild(int parent, int segment) {
+        int node = allocateNode(parent, segment);
+        int last = this.lastChildren[parent];
+        this.previousSiblings[node] = last;
+        if (last == NONE) {
+            this.firstChildren[parent] = node;
+        } else {
+            this.nextSiblings[last] = node;
+        }
+        this.lastChildren[parent] = node;
+
+        if ((this.children + this.deletedChildren + 1) * 4 > this.childSlots.length * 3) {
+            rehashChildren();
+        }
+        insertChildSlot(node);
+        this.children++;
+        return node;
+    }
+
+    private int allocateNode(int parent, int segment) {
+        int node = this.freeNodes;
+        if (node != NONE) {
+            this.freeNodes = this.nextSiblings[node];
+        } else {
+            if (this.nodeCount == this.parents.length) {
+                int capacity = this.nodeCount * 2;
+                this.parents = Arrays.copyOf(this.parents, capacity);
+                this.keys = Arrays.copyOf(this.keys, capacity);
+                this.firstChildren = Arrays.copyOf(this.firstChildren, capacity);
+                this.lastChildren = Arrays.copyOf(this.lastChildren, capacity);
+                this.nextSiblings = Arrays.copyOf(this.nextSiblings, capacity);
+                this.previousSiblings = Arrays.copyOf(this.previousSiblings, capacity);
+                this.values = Arrays.copyOf(this.values, capacity);
+                this.views = Arrays.copyOf(this.views, capacity);
+            }
+            node = this.nodeCount++;
+        }
+        this.parents[node] = parent;
+        this.keys[node] = segment;
+        this.firstChildren[node] = NONE;
+        this.lastChildren[node] = NONE;
+        this.nextSiblings[node] = NONE;
+        this.previousSiblings[node] = NONE;
+        return node;
+    }
+
+    private void insertChildSlot(int node) {
+        int mask = this.childSlots.length - 1;
+        int slot = hash(this.parents[node], this.keys[node]) & mask;
+        while (this.childSlots[slot] > 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (this.childSlots[slot] == DELETED) {
+            this.deletedChildren--;
+        }
+        this.childSlots[slot] = node + 1;
+    }
+
+    private void removeChildSlot(int node) {
+        int mask = this.childSlots.length - 1;
+        int slot = hash(this.parents[node], this.keys[node]) & mask;
+        while (this.childSlots[slot] != node + 1) {
+            slot = (slot + 1) & mask;
+        }
+        this.childSlots[slot] = DELETED;
+        this.children--;
+        this.deletedChildren++;
+    }
+
+    private void rehashChildren() {
+        // Grow only if the table is filled with children, not deleted slots
+        int capacity = (this.children + 1) * 2 > this.childSlots.length ? this.childSlots.length * 2 : this.childSlots.length;
+        this.childSlots = new int[capacity];
+        this.deletedChildren = 0;
+        for (int node = ROOT + 1; node < this.nodeCount; node++) {
+            if (this.values[node] != null) {
+                insertChildSlot(node);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,292 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} of a {@link FlatDataContainer}.
+ *
+ * <p>Unlike {@link MemoryDataView}, a view doesn't store its own values.
+ * All keys of the container are stored in a single table, so resolving a
+ * {@link DataQuery} only walks its parts without creating intermediate
+ * queries or views. A view that is removed from its container, or replaced
+ * by a value, is empty and can't be modified anymore.</p>
+ */
+public class FlatDataView extends AbstractDataView {
+
+    final FlatDataTable table;
+    private final DataContainer container;
+    @Nullable private final DataView parent;
+    private final DataQuery path;
+    private int node;
+
+    protected FlatDataView() {
+        checkState(this instanceof FlatDataContainer, "Cannot construct a root FlatDataView without a container!");
+        this.table = new FlatDataTable((FlatDataContainer) this);
+        this.container = (DataContainer) this;
+        this.parent = null;
+        this.path = of();
+        this.node = FlatDataTable.ROOT;
+    }
+
+    FlatDataView(FlatDataView parent, int node) {
+        this.table = parent.table;
+        this.container = parent.container;
+        this.parent = parent;
+        this.path = parent.path.then(of(parent.table.getKey(node)));
+        this.node = node;
+    }
+
+    void detach() {
+        this.node = FlatDataTable.NONE;
+    }
+
+    private int getNode() {
+        checkState(this.node != FlatDataTable.NONE, "The view was removed from its container");
+        return this.node;
+    }
+
+    /**
+     * Resolves the node at the given path relative to this view.
+     *
+     * @param path The path
+     * @return The node, or {@link FlatDataTable#NONE}
+     */
+    private int resolve(DataQuery path) {
+        int current = this.node;
+        List<String> parts = path.getParts();
+        for (int i = 0; i < parts.size() && current != FlatDataTable.NONE; i++) {
+            if (!this.table.isView(current)) {
+                return FlatDataTable.NONE;
+            }
+            int segment = this.table.findSegment(parts.get(i));
+            if (segment == FlatDataTable.NONE) {
+                return FlatDataTable.NONE;
+            }
+            current = this.table.getChild(current, segment);
+        }
+        return current;
+    }
+
+    /**
+     * Gets or creates the views for the first parts of the given path.
+     *
+     * @param parts The parts of the path
+     * @param count The number of parts to create views for
+     * @return The node of the last view
+     */
+    private int createViews(List<String> parts, int count) {
+        int current = getNode();
+        for (int i = 0; i < count; i++) {
+            current = this.table.getOrCreateView(current, this.table.internSegment(parts.get(i)), false);
+        }
+        return current;
+    }
+
+    @Override
+    protected DataContainer createContainer() {
+        return new FlatDataContainer();
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        if (this.node == FlatDataTable.NONE) {
+            return builder.build();
+        }
+        for (int child = this.table.getFirstChild(this.node); child != FlatDataTable.NONE; child = this.table.getNextSibling(child)) {
+            builder.add(of(this.table.getKey(child)));
+        }
+        if (deep) {
+            for (int child = this.table.getFirstChild(this.node); child != FlatDataTable.NONE; child = this.table.getNextSibling(child)) {
+                if (this.table.isView(child)) {
+                    DataQuery key = of(this.table.getKey(child));
+                    for (DataQuery query : this.table.getView(child).getKeys(true)) {
+                        builder.add(key.then(query));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        return resolve(path) != FlatDataTable.NONE;
+    }
+
+    @Override
+    protected Optional<Object> getUnsafe(DataQuery path) {
+        checkNotNull(path, "path");
+        int node = resolve(path);
+        if (node == FlatDataTable.NONE) {
+            return Optional.empty();
+        }
+        return Optional.of(this.table.getValue(node));
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+
+        if (value instanceof DataView) {
+            checkArgument(value != this, "Cannot set a DataView to itself.");
+            copyDataView(path, (DataView) value);
+        } else if (value instanceof DataSerializable) {
+            DataContainer valueContainer = ((DataSerializable) value).toContainer();
+            checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
+            copyDataView(path, valueContainer);
+        } else {
+            List<String> parts = path.getParts();
+            checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+            int parent = createViews(parts, parts.size() - 1);
+            int segment = this.table.internSegment(parts.get(parts.size() - 1));
+            if (value instanceof Collection) {
+                this.table.setValue(parent, segment, copyCollection((Collection) value));
+            } else if (value instanceof Map) {
+                DataView view = this.table.getView(this.table.getOrCreateView(parent, segment, true));
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    view.set(of(entry.getKey().toString()), entry.getValue());
+                }
+            } else if (value.getClass().isArray()) {
+                this.table.setValue(parent, segment, copyArray(value));
+            } else {
+                this.table.setValue(parent, segment, value);
+            }
+        }
+        return this;
+    }
+
+    private void copyDataView(DataQuery path, DataView value) {
+        Collection<DataQuery> valueKeys = value.getKeys(true);
+        for (DataQuery oldKey : valueKeys) {
+            set(path.then(oldKey), value.get(oldKey).get());
+        }
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+        getNode();
+        int node = resolve(path);
+        if (node != FlatDataTable.NONE) {
+            this.table.remove(node);
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+        int parent = createViews(parts, parts.size() - 1);
+        return this.table.getView(this.table.getOrCreateView(parent, this.table.internSegment(parts.get(parts.size() - 1)), true));
+    }
+
+    /**
+     * Gets the direct children of this view by their key.
+     *
+     * @return The children
+     */
+    private Map<String, Object> getChildren() {
+        Map<String, Object> children = Maps.newLinkedHashMap();
+        if (this.node != FlatDataTable.NONE) {
+            for (int child = this.table.getFirstChild(this.node); child != FlatDataTable.NONE; child = this.table.getNextSibling(child)) {
+                children.put(this.table.getKey(child), this.table.getValue(child));
+            }
+        }
+        return children;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getChildren(), this.path);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final FlatDataView other = (FlatDataView) obj;
+
+        return Objects.equal(this.path, other.path)
+               && Objects.equal(getChildren().entrySet(), other.getChildren().entrySet());
+    }
+
+    @Override
+    public String toString() {
+        final Objects.ToStringHelper helper = Objects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        return helper.add("map", getChildren()).toString();
+    }
+}
@@ -30,19 +30,10 @@
 import static org.spongepowered.api.data.DataQuery.of;
 
 import com.google.common.base.Objects;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import org.apache.commons.lang3.ArrayUtils;
-import org.spongepowered.api.data.key.Key;
-import org.spongepowered.api.data.value.BaseValue;
-import org.spongepowered.api.service.persistence.DataBuilder;
-import org.spongepowered.api.service.persistence.SerializationService;
-import org.spongepowered.api.util.Coerce;
-
-import java.util.Arrays;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -54,7 +45,7 @@
 /**
  * Default implementation of a {@link DataView} being used in memory.
  */
-public class MemoryDataView implements DataView {
+public class MemoryDataView extends AbstractDataView {
 
     protected final Map<String, Object> map = Maps.newLinkedHashMap();
     private final DataContainer container;
@@ -115,20 +106,6 @@ public Set<DataQuery> getKeys(boolean deep) {
         return builder.build();
     }
 
-    @Override
-    public Map<DataQuery, Object> getValues(boolean deep) {
-        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
-        for (DataQuery query : getKeys(deep)) {
-            Object value = get(query).get();
-            if (value instanceof DataView) {
-                builder.put(query, ((DataView) value).getValues(deep));
-            } else {
-                builder.put(query, get(query).get());
-            }
-        }
-        return builder.build();
-    }
-
     @Override
     public boolean contains(DataQuery path) {
         checkNotNull(path, "path");
@@ -152,7 +129,7 @@ public boolean contains(DataQuery path) {
     }
 
     @Override
-    public Optional<Object> get(DataQuery path) {
+    protected Optional<Object> getUnsafe(DataQuery path) {
         checkNotNull(path, "path");
         List<DataQuery> queryParts = path.getQueryParts();
 
@@ -165,26 +142,6 @@ public Optional<Object> get(DataQuery path) {
         if (sz == 1) {
             String key = queryParts.get(0).getParts().get(0);
             if (this.map.containsKey(key)) {
-                final Object object = this.map.get(key);
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
-                    }
-                }
                 return Optional.of(this.map.get(key));
             } else {
                 return Optional.empty();
@@ -202,6 +159,9 @@ public Optional<Object> get(DataQuery path) {
         for (int i = 1; i < queryParts.size(); i++) {
             subParts.add(queryParts.get(i).asString("."));
         }
+        if (subView instanceof AbstractDataView) {
+            return ((AbstractDataView) subView).getUnsafe(of(subParts));
+        }
         return subView.get(of(subParts));
 
     }
@@ -244,23 +204,7 @@ public DataView set(DataQuery path, Object value) {
                 } else if (value instanceof Map) {
                     setMap(parts.get(0), (Map) value);
                 } else if (value.getClass().isArray()) {
-                    if (value instanceof byte[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((byte[]) value));
-                    } else if (value instanceof short[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((short[]) value));
-                    } else if (value instanceof int[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((int[]) value));
-                    } else if (value instanceof long[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((long[]) value));
-                    } else if (value instanceof float[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((float[]) value));
-                    } else if (value instanceof double[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((double[]) value));
-                    } else if (value instanceof boolean[]) {
-                        this.map.put(parts.get(0), ArrayUtils.clone((boolean[]) value));
-                    } else {
-                        this.map.put(parts.get(0), ArrayUtils.clone((Object[]) value));
-                    }
+                    this.map.put(parts.get(0), copyArray(value));
                 } else {
                     this.map.put(parts.get(0), value);
                 }
@@ -269,32 +213,8 @@ public DataView set(DataQuery path, Object value) {
         return this;
     }
 
-    @Override
-    public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
-        return set(checkNotNull(key, "Key was null!").getQuery(), value);
-    }
-
     private void setCollection(String key, Collection<?> value) {
-        ImmutableList.Builder<Object> builder = ImmutableList.builder();
-        for (Object object : value) {
-            if (object instanceof DataSerializable) {
-                builder.add(((DataSerializable) object).toContainer());
-            } else if (object instanceof DataView) {
-                MemoryDataView view = new MemoryDataContainer();
-                DataView internalView = (DataView) object;
-                for (Map.Entry<DataQuery, Object> entry : internalView.getValues(false).entrySet()) {
-                    view.set(entry.getKey(), entry.getValue());
-                }
-                builder.add(view);
-            } else if (object instanceof Map) {
-                builder.add(ImmutableMap.copyOf((Map<?, ?>) object));
-            } else if (object instanceof Collection) {
-                builder.add(ImmutableList.copyOf((Collection<?>) object));
-            } else {
-                builder.add(object);
-            }
-        }
-        this.map.put(key, builder.build());
+        this.map.put(key, copyCollection(value));
     }
 
     private void setMap(String key, Map<?, ?> value) {
@@ -367,416 +287,8 @@ public DataView createView(DataQuery path) {
     }
 
     @Override
-    @SuppressWarnings("rawtypes")
-    public DataView createView(DataQuery path, Map<?, ?> map) {
-        checkNotNull(path, "path");
-        DataView section = createView(path);
-
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
-            if (entry.getValue() instanceof Map) {
-                section.createView(of('.', entry.getKey().toString()), (Map<?, ?>) entry.getValue());
-            } else {
-                section.set(of('.', entry.getKey().toString()), entry.getValue());
-            }
-        }
-        return section;
-    }
-
-    @Override
-    public Optional<DataView> getView(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                return Optional.of((DataView) val.get());
-            }
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
-                for (Map.Entry<DataQuery, Object> entry : ((DataView) val.get()).getValues(false).entrySet()) {
-                    builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
-                }
-                return Optional.of(builder.build());
-            } else if (val.get() instanceof Map) {
-                return Optional.of((Map<?, ?>) ensureMappingOf(val.get()));
-            }
-        }
-        return Optional.empty();
-    }
-
-    private Object ensureMappingOf(Object object) {
-        if (object instanceof DataView) {
-            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
-            for (Map.Entry<DataQuery, Object> entry : ((DataView) object).getValues(false).entrySet()) {
-                builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
-            }
-            return builder.build();
-        } else if (object instanceof Map) {
-            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
-            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
-                builder.put(entry.getKey().toString(), ensureMappingOf(entry.getValue()));
-            }
-            return builder.build();
-        } else if (object instanceof Collection) {
-            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
-            for (Object entry : (Collection) object) {
-                builder.add(ensureMappingOf(entry));
-            }
-            return builder.build();
-        } else {
-            return object;
-        }
-    }
-
-    private Optional<DataView> getUnsafeView(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                return Optional.of((DataView) val.get());
-            }
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<Boolean> getBoolean(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asBoolean(val.get());
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<Integer> getInt(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asInteger(val.get());
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<Long> getLong(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asLong(val.get());
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<Double> getDouble(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asDouble(val.get());
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<String> getString(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asString(val.get());
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<List<?>> getList(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof List<?>) {
-                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
-            }
-            if (val.get() instanceof Object[]) {
-                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
-            }
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<List<String>> getStringList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<String> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<String> optional = Coerce.asString(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    private Optional<List<?>> getUnsafeList(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof List<?>) {
-                return Optional.<List<?>>of((List<?>) val.get());
-            } else if (val.get() instanceof Object[]) {
-                return Optional.<List<?>>of(Arrays.asList(((Object[]) val.get())));
-            }
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<List<Character>> getCharacterList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Character> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Character> optional = Coerce.asChar(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Boolean> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Boolean> optional = Coerce.asBoolean(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Byte>> getByteList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Byte> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Byte> optional = Coerce.asByte(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Short>> getShortList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Short> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Short> optional = Coerce.asShort(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Integer>> getIntegerList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Integer> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Integer> optional = Coerce.asInteger(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Long>> getLongList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Long> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Long> optional = Coerce.asLong(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Float>> getFloatList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Float> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Float> optional = Coerce.asFloat(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Double>> getDoubleList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Double> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Double> optional = Coerce.asDouble(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<Map<?, ?>> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            if (object instanceof Map) {
-                newList.add((Map<?, ?>) object);
-            }
-        }
-
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<DataView>> getViewList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.empty();
-        }
-
-        List<DataView> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            if (object instanceof DataView) {
-                newList.add((DataView) object);
-            }
-        }
-
-        return Optional.of(newList);
-    }
-
-    @Override
-    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz, SerializationService service) {
-        checkNotNull(path, "path");
-        checkNotNull(clazz, "clazz");
-        checkNotNull(service, "service");
-        Optional<DataView> optional = getUnsafeView(path);
-
-        if (!optional.isPresent()) {
-            return Optional.empty();
-        }
-
-        Optional<DataBuilder<T>> builderOptional = service.getBuilder(clazz);
-        if (!builderOptional.isPresent()) {
-            return Optional.empty();
-        } else {
-            return builderOptional.get().build(optional.get());
-        }
-    }
-
-    @Override
-    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz, SerializationService service) {
-        checkNotNull(path, "path");
-        checkNotNull(clazz, "clazz");
-        checkNotNull(service, "service");
-        Optional<List<DataView>> optional = getViewList(path);
-
-        if (!optional.isPresent()) {
-            return Optional.empty();
-        }
-
-        Optional<DataBuilder<T>> builderOptional = service.getBuilder(clazz);
-        if (!builderOptional.isPresent()) {
-            return Optional.empty();
-        } else {
-            List<T> newList = Lists.newArrayList();
-            for (DataView view : optional.get()) {
-                Optional<T> element = builderOptional.get().build(view);
-                if (element.isPresent()) {
-                    newList.add(element.get());
-                }
-            }
-            return Optional.of(newList);
-        }
-    }
-
-    @Override
-    public DataContainer copy() {
-        final DataContainer container = new MemoryDataContainer();
-        for (DataQuery query : getKeys(false)) {
-            container.set(query, get(query).get());
-        }
-        return container;
+    protected DataContainer createContainer() {
+        return new MemoryDataContainer();
     }
 
     @Override
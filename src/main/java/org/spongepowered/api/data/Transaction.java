@@ -34,11 +34,11 @@
 
 public final class Transaction<T extends DataSerializable> implements DataSerializable {
 
-    public static final DataQuery TYPE_CLASS = of("TypeClass");
-    public static final DataQuery ORIGINAL = of("Original");
-    public static final DataQuery DEFAULT_REPLACEMENT = of("DefaultReplacement");
-    public static final DataQuery CUSTOM_REPLACEMENT = of("CustomReplacement");
-    public static final DataQuery VALID = of("IsValid");
+    public static final DataQuery TYPE_CLASS = of("TypeClass").intern();
+    public static final DataQuery ORIGINAL = of("Original").intern();
+    public static final DataQuery DEFAULT_REPLACEMENT = of("DefaultReplacement").intern();
+    public static final DataQuery CUSTOM_REPLACEMENT = of("CustomReplacement").intern();
+    public static final DataQuery VALID = of("IsValid").intern();
 
     private final T original;
     private final T defaultReplacement;
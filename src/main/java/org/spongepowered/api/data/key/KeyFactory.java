@@ -54,6 +54,8 @@ private KeyFactory() {}
      * to avoid generating {@link Key}s of potentially conflicting
      * {@link DataQuery}(s).</p>
      *
+     * <p>The query of the key is {@link DataQuery#intern() interned}.</p>
+     *
      * @param elementClass The element class
      * @param valueClass The value class
      * @param query The query
@@ -62,6 +64,7 @@ private KeyFactory() {}
      * @return The generated key
      */
     public static <E, V extends BaseValue<E>> Key<V> makeSingleKey(final Class<E> elementClass, final Class<V> valueClass, final DataQuery query) {
+        final DataQuery internedQuery = query.intern();
         return new Key<V>() {
             @Override
             public Class<V> getValueClass() {
@@ -70,12 +73,12 @@ public Class<V> getValueClass() {
 
             @Override
             public DataQuery getQuery() {
-                return query;
+                return internedQuery;
             }
 
             @Override
             public int hashCode() {
-                return Objects.hashCode(elementClass, valueClass, query);
+                return Objects.hashCode(elementClass, valueClass, internedQuery);
             }
 
             @Override
@@ -95,6 +98,7 @@ public String toString() {
      * @return The generated key
      */
     public static <E> Key<ListValue<E>> makeListKey(final Class<E> elementClass, final DataQuery query) {
+        final DataQuery internedQuery = query.intern();
         return new Key<ListValue<E>>() {
             @Override
             public Class<ListValue<E>> getValueClass() {
@@ -103,12 +107,12 @@ public Class<ListValue<E>> getValueClass() {
 
             @Override
             public DataQuery getQuery() {
-                return query;
+                return internedQuery;
             }
 
             @Override
             public int hashCode() {
-                return Objects.hashCode(elementClass, query);
+                return Objects.hashCode(elementClass, internedQuery);
             }
 
             @Override
@@ -128,6 +132,7 @@ public String toString() {
      * @return The generated key
      */
     public static <E> Key<SetValue<E>> makeSetKey(final Class<E> elementClass, final DataQuery query) {
+        final DataQuery internedQuery = query.intern();
         return new Key<SetValue<E>>() {
             @Override
             public Class<SetValue<E>> getValueClass() {
@@ -136,12 +141,12 @@ public Class<SetValue<E>> getValueClass() {
 
             @Override
             public DataQuery getQuery() {
-                return query;
+                return internedQuery;
             }
 
             @Override
             public int hashCode() {
-                return Objects.hashCode(elementClass, query);
+                return Objects.hashCode(elementClass, internedQuery);
             }
 
             @Override
@@ -164,6 +169,7 @@ public String toString() {
      * @return The generated key
      */
     public static <K, V> Key<MapValue<K, V>> makeMapKey(final Class<K> keyClass, final Class<V> valueclass, final DataQuery query) {
+        final DataQuery internedQuery = query.intern();
         return new Key<MapValue<K, V>>() {
             @Override
             public Class<MapValue<K, V>> getValueClass() {
@@ -172,12 +178,12 @@ public Class<MapValue<K, V>> getValueClass() {
 
             @Override
             public DataQuery getQuery() {
-                return query;
+                return internedQuery;
             }
 
             @Override
             public int hashCode() {
-                return Objects.hashCode(keyClass, valueclass, query);
+                return Objects.hashCode(keyClass, valueclass, internedQuery);
             }
 
             @Override
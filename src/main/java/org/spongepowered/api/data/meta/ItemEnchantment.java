@@ -43,8 +43,8 @@
  */
 public final class ItemEnchantment implements DataSerializable {
 
-    public static final DataQuery ENCHANTMENT_ID = of("Enchantment");
-    public static final DataQuery LEVEL = of("Level");
+    public static final DataQuery ENCHANTMENT_ID = of("Enchantment").intern();
+    public static final DataQuery LEVEL = of("Level").intern();
 
     private final Enchantment enchantment;
     private final int level;
@@ -67,4 +67,27 @@
      */
     boolean beforeModifications() default false;
 
+    /**
+     * Whether this listener should be called asynchronously, after all
+     * synchronous listeners were called. Asynchronous listeners are intended
+     * for listeners that only observe events, for example to log them, and
+     * may block without delaying the server.
+     *
+     * <p>Asynchronous listeners are called in their {@link #order()} on a
+     * bounded executor of the {@link EventManager}, and may not be called at
+     * all if the executor is overloaded, see
+     * {@link EventManager#getAsyncStatistics()}. They can't be called
+     * {@link #beforeModifications() before modifications}.</p>
+     *
+     * <p>The event may still be used by the thread that posted it, so
+     * asynchronous listeners receive a read-only view of it, which throws an
+     * {@link UnsupportedOperationException} from methods that don't return a
+     * value, such as setters. Objects returned by the event must not be
+     * modified either. The parameter of an asynchronous listener must
+     * therefore be an event interface.</p>
+     *
+     * @return If the listener should be called asynchronously
+     */
+    boolean async() default false;
+
 }
@@ -24,11 +24,16 @@
  */
 package org.spongepowered.api.event;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Defaults;
+import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.google.common.collect.MapMaker;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.event.game.state.GameStateEvent;
 import org.spongepowered.api.eventgencore.classwrapper.reflection.ReflectionUtils;
@@ -38,8 +43,15 @@
 import org.spongepowered.api.util.event.factory.plugin.AccessorModifierEventFactoryPlugin;
 import org.spongepowered.api.util.event.factory.plugin.EventFactoryPlugin;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
 
 /**
  * A class to hold the logic for {@link SpongeEventFactory}
@@ -62,9 +74,32 @@ public EventFactory<?> load(Class<?> type) {
                 }
             });
 
+    private static final ConcurrentMap<ConstructorKey, MethodHandle> constructors = new MapMaker().makeMap();
+
+    private static final LoadingCache<Class<?>, MethodHandle> stateConstructors = CacheBuilder.newBuilder().build(
+        new CacheLoader<Class<?>, MethodHandle>() {
+
+                @Override
+                public MethodHandle load(Class<?> type) {
+                    return getConstructor(type, "game", "state");
+                }
+            });
 
     static {
         factoryProvider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        factoryProvider.setUsePregenerated(true);
+    }
+
+    /**
+     * Generates the event class and the event factory for the given event
+     * interface with the same settings used at runtime. This is used by the
+     * {@code EventImplPregenerator} of the build.
+     *
+     * @param type The event interface
+     * @return The bytes of the generated classes, by their canonical name
+     */
+    static Map<String, byte[]> generateEventImpl(Class<?> type) {
+        return factoryProvider.generate(type, ReflectionUtils.getBaseClass(type).getActualClass(), plugins);
     }
 
     /**
@@ -80,6 +115,80 @@ public static <T> T createEventImpl(Class<T> type, Map<String, Object> values) {
         return (T) factories.getUnchecked(type).apply(values);
     }
 
+    /**
+     * Gets the factory used to create implementations of the given event
+     * interface.
+     *
+     * <p>Callers creating many events of the same type can keep the returned
+     * factory and use {@link EventFactory#create(Object...)} to pass the
+     * properties positionally, which avoids filling a map for every event.</p>
+     *
+     * @param type The event interface
+     * @param <T> The type of event
+     * @return The event factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EventFactory<T> getEventFactory(Class<T> type) {
+        return (EventFactory<T>) factories.getUnchecked(type);
+    }
+
+    /**
+     * Gets a method handle that creates an implementation of the given event
+     * interface from the properties with the given names, in that order.
+     *
+     * <p>The handle takes the properties with their exact types, so primitive
+     * properties are not boxed. Properties that are not named are left at
+     * their default value. The handle is cached per event interface and
+     * names, but callers creating many events should keep the handle rather
+     * than looking it up for every event.</p>
+     *
+     * @param type The event interface
+     * @param parameterNames The names of the properties
+     * @return The method handle
+     */
+    static MethodHandle getConstructor(Class<?> type, String... parameterNames) {
+        ConstructorKey key = new ConstructorKey(type, parameterNames);
+        @Nullable MethodHandle constructor = constructors.get(key);
+        if (constructor == null) {
+            constructor = createConstructor(type, parameterNames);
+            constructors.put(key, constructor);
+        }
+        return constructor;
+    }
+
+    private static MethodHandle createConstructor(Class<?> type, String[] parameterNames) {
+        EventFactory<?> factory = factories.getUnchecked(type);
+        MethodHandle constructor = factory.getConstructor();
+        List<String> names = factory.getParameterNames();
+        List<String> order = Arrays.asList(parameterNames);
+        for (String name : order) {
+            checkArgument(names.contains(name), "%s has no property named %s", type, name);
+        }
+
+        // Fill in the properties that are not named, last to first so the
+        // indexes of the remaining parameters don't change
+        for (int i = names.size() - 1; i >= 0; i--) {
+            if (!order.contains(names.get(i))) {
+                constructor = MethodHandles.insertArguments(constructor, i, Defaults.defaultValue(constructor.type().parameterType(i)));
+            }
+        }
+
+        // Reorder the remaining parameters, which are still in the order of
+        // the property names
+        Class<?>[] parameterTypes = new Class<?>[parameterNames.length];
+        int[] reorder = new int[parameterNames.length];
+        int index = 0;
+        for (String name : names) {
+            int position = order.indexOf(name);
+            if (position != -1) {
+                parameterTypes[position] = constructor.type().parameterType(index);
+                reorder[index++] = position;
+            }
+        }
+        return MethodHandles.permuteArguments(constructor, MethodType.methodType(constructor.type().returnType(), parameterTypes), reorder)
+                .asType(MethodType.methodType(type, parameterTypes));
+    }
+
     /**
      * Creates a new {@link GameStateEvent} of the given type.
      *
@@ -88,11 +197,38 @@ public static <T> T createEventImpl(Class<T> type, Map<String, Object> values) {
      * @param <T> The type of the state event
      * @return A new instance of the event
      */
+    @SuppressWarnings("unchecked")
     public static <T extends GameStateEvent> T createState(Class<T> type, Game game) {
-        Map<String, Object> values = Maps.newHashMapWithExpectedSize(1);
-        values.put("game", game);
-        values.put("state", game.getState());
-        return SpongeEventFactoryUtils.createEventImpl(type, values);
+        try {
+            return (T) stateConstructors.getUnchecked(type).invoke(game, game.getState());
+        } catch (Throwable t) {
+            throw Throwables.propagate(t);
+        }
+    }
+
+    private static final class ConstructorKey {
+
+        private final Class<?> type;
+        private final List<String> parameterNames;
+
+        ConstructorKey(Class<?> type, String[] parameterNames) {
+            this.type = type;
+            this.parameterNames = ImmutableList.copyOf(parameterNames);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof ConstructorKey)) {
+                return false;
+            }
+            ConstructorKey other = (ConstructorKey) obj;
+            return this.type == other.type && this.parameterNames.equals(other.parameterNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.type.hashCode() * 31 + this.parameterNames.hashCode();
+        }
     }
 
 }
@@ -28,9 +28,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.apache.commons.lang3.Validate.noNullElements;
 
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
-import org.apache.commons.lang3.ArrayUtils;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.cause.entity.damage.source.DamageSource;
@@ -40,8 +38,10 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
@@ -237,14 +237,41 @@ public static Cause ofNullable(@Nullable Object... objects) {
     @Override
     public abstract int hashCode();
 
+    /**
+     * A non-empty {@link Cause}.
+     *
+     * <p>The objects are stored in an array that may be shared with other
+     * causes and may have spare capacity. Each cause only uses the first
+     * {@link #size} elements of it. The first cause that is appended to
+     * claims the spare capacity and can add the objects in place, so
+     * building a cause chain with repeated calls to {@link #with(Object...)}
+     * only copies the array when it is full.</p>
+     *
+     * <p>Lookups by class scan the objects, which is cheaper than memoising
+     * them for the few objects a cause usually holds.</p>
+     */
     private static final class PresentCause extends Cause {
+
         private final Object[] cause;
+        private final int size;
+        // The number of elements of the shared array that are in use
+        private final AtomicInteger claimed;
+
+        @Nullable private volatile ImmutableList<Object> all;
 
         PresentCause(Object... causes) {
             for (Object aCause : causes) {
                 checkNotNull(aCause, "Null cause element!");
             }
             this.cause = Arrays.copyOf(causes, causes.length);
+            this.size = causes.length;
+            this.claimed = new AtomicInteger(this.size);
+        }
+
+        private PresentCause(Object[] cause, int size, AtomicInteger claimed) {
+            this.cause = cause;
+            this.size = size;
+            this.claimed = claimed;
         }
 
         @Override
@@ -259,9 +286,10 @@ public Optional<?> root() {
 
         @Override
         public <T> Optional<T> first(Class<T> target) {
-            for (Object aCause : this.cause) {
-                if (target.isInstance(aCause)) {
-                    return Optional.of((T) aCause);
+            checkArgument(target != null, "The provided class cannot be null!");
+            for (int i = 0; i < this.size; i++) {
+                if (target.isInstance(this.cause[i])) {
+                    return Optional.of((T) this.cause[i]);
                 }
             }
             return Optional.empty();
@@ -269,10 +297,11 @@ public <T> Optional<T> first(Class<T> target) {
 
         @Override
         public <T> List<T> allOf(Class<T> target) {
+            checkArgument(target != null, "The provided class cannot be null!");
             ImmutableList.Builder<T> builder = ImmutableList.builder();
-            for (Object aCause : this.cause) {
-                if (target.isInstance(aCause)) {
-                    builder.add((T) aCause);
+            for (int i = 0; i < this.size; i++) {
+                if (target.isInstance(this.cause[i])) {
+                    builder.add((T) this.cause[i]);
                 }
             }
             return builder.build();
@@ -280,10 +309,11 @@ public <T> List<T> allOf(Class<T> target) {
 
         @Override
         public List<Object> noneOf(Class<?> ignoredClass) {
+            checkArgument(ignoredClass != null, "The provided class cannot be null!");
             ImmutableList.Builder<Object> builder = ImmutableList.builder();
-            for (Object cause : this.cause) {
-                if (!ignoredClass.isInstance(cause)) {
-                    builder.add(cause);
+            for (int i = 0; i < this.size; i++) {
+                if (!ignoredClass.isInstance(this.cause[i])) {
+                    builder.add(this.cause[i]);
                 }
             }
             return builder.build();
@@ -291,7 +321,8 @@ public List<Object> noneOf(Class<?> ignoredClass) {
 
         @Override
         public <T> Optional<T> last(Class<T> target) {
-            for (int i = this.cause.length - 1; i >= 0; i--) {
+            checkArgument(target != null, "The provided class cannot be null!");
+            for (int i = this.size - 1; i >= 0; i--) {
                 if (target.isInstance(this.cause[i])) {
                     return Optional.of((T) this.cause[i]);
                 }
@@ -302,11 +333,8 @@ public <T> Optional<T> last(Class<T> target) {
         @Override
         public Optional<?> before(Class<?> clazz) {
             checkArgument(clazz != null, "The provided class cannot be null!");
-            if (this.cause.length == 1) {
-                return Optional.empty();
-            }
-            for (int i = 0; i < this.cause.length; i++) {
-                if (clazz.isInstance(this.cause[i]) && i > 0) {
+            for (int i = 1; i < this.size; i++) {
+                if (clazz.isInstance(this.cause[i])) {
                     return Optional.of(this.cause[i - 1]);
                 }
             }
@@ -316,11 +344,8 @@ public Optional<?> before(Class<?> clazz) {
         @Override
         public Optional<?> after(Class<?> clazz) {
             checkArgument(clazz != null, "The provided class cannot be null!");
-            if (this.cause.length == 1) {
-                return Optional.empty();
-            }
-            for (int i = 0; i < this.cause.length; i++) {
-                if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
+            for (int i = 0; i + 1 < this.size; i++) {
+                if (clazz.isInstance(this.cause[i])) {
                     return Optional.of(this.cause[i + 1]);
                 }
             }
@@ -330,56 +355,99 @@ public Optional<?> after(Class<?> clazz) {
         @Override
         public boolean any(Class<?> target) {
             checkArgument(target != null, "The provided class cannot be null!");
-            for (Object aCause : this.cause) {
-                if (target.isInstance(aCause)) {
+            for (int i = 0; i < this.size; i++) {
+                if (target.isInstance(this.cause[i])) {
                     return true;
                 }
             }
-
             return false;
         }
 
         @Override
         public List<Object> all() {
-            return ImmutableList.copyOf(this.cause);
+            @Nullable ImmutableList<Object> all = this.all;
+            if (all == null) {
+                this.all = all = ImmutableList.copyOf(Arrays.asList(this.cause).subList(0, this.size));
+            }
+            return all;
+        }
+
+        /**
+         * Creates a new cause with the given objects added at the end,
+         * sharing the array of this cause if possible.
+         *
+         * @param additional The additional objects, which may only be used
+         *        as long as the new cause isn't returned
+         * @param count The number of additional objects
+         * @return The new cause
+         */
+        private Cause append(Object[] additional, int count) {
+            if (count == 0) {
+                return this;
+            }
+            int newSize = this.size + count;
+            if (newSize <= this.cause.length && this.claimed.compareAndSet(this.size, newSize)) {
+                System.arraycopy(additional, 0, this.cause, this.size, count);
+                return new PresentCause(this.cause, newSize, this.claimed);
+            }
+            Object[] array = Arrays.copyOf(this.cause, Math.max(newSize, this.size * 2));
+            System.arraycopy(additional, 0, array, this.size, count);
+            return new PresentCause(array, newSize, new AtomicInteger(newSize));
         }
 
         @Override
         public Cause with(Object... additional) {
             checkArgument(additional != null, "Cannot add a null argument!");
-            return of(ArrayUtils.addAll(this.cause, additional));
+            noNullElements(additional, "No elements in a cause can be null!");
+            return append(additional, additional.length);
         }
 
         @Override
         public Cause with(Iterable<?> iterable) {
-            List<Object> list = new ArrayList<Object>();
-            for (Object o : this.cause) {
-                list.add(o);
-            }
+            Object[] additional = iterable instanceof Collection ? new Object[((Collection<?>) iterable).size()] : new Object[4];
+            int count = 0;
             for (Object o : iterable) {
                 checkArgument(o != null, "Cannot add null causes");
-                list.add(o);
+                if (count == additional.length) {
+                    additional = Arrays.copyOf(additional, count * 2 + 1);
+                }
+                additional[count++] = o;
             }
-            return of(list.toArray());
+            return append(additional, count);
         }
 
         @Override
         public boolean equals(@Nullable Object object) {
+            if (object == this) {
+                return true;
+            }
             if (object instanceof PresentCause) {
                 PresentCause cause = ((PresentCause) object);
-                return Arrays.equals(this.cause, cause.cause);
+                if (this.size != cause.size) {
+                    return false;
+                }
+                for (int i = 0; i < this.size; i++) {
+                    if (!this.cause[i].equals(cause.cause[i])) {
+                        return false;
+                    }
+                }
+                return true;
             }
             return false;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hashCode(this.cause);
+            int result = 1;
+            for (int i = 0; i < this.size; i++) {
+                result = 31 * result + this.cause[i].hashCode();
+            }
+            return result;
         }
 
         @Override
         public String toString() {
-            return "Cause{" + Arrays.deepToString(this.cause) + "}";
+            return "Cause{" + Arrays.deepToString(Arrays.copyOf(this.cause, this.size)) + "}";
         }
     }
 
@@ -27,6 +27,8 @@
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.text.sink.MessageSink;
+import org.spongepowered.api.util.command.CommandSource;
 
 import java.util.function.Consumer;
 
@@ -71,11 +73,16 @@ interface IndexedMessageChannel extends ChannelBinding {
          *
          * <p>The message ID is used to identify this message class as it is
          * sent and received across the network, it is a single byte and thus
-         * has a range of 0 to 255.</p>
+         * has a range of 0 to 255. The ID {@link MessageBatcher#BATCH_ID} is
+         * reserved while the channel coalesces messages, see
+         * {@link #setCoalescing(boolean)}.</p>
          *
          * @param messageClass The class of the message being registered. Note:
          *        the class must have a publicly accessible no-args constructor
          * @param messageId A unique ID for this message
+         * @throws IllegalArgumentException If the ID is
+         *         {@link MessageBatcher#BATCH_ID} and the channel coalesces
+         *         messages
          */
         void registerMessage(Class<? extends Message> messageClass, int messageId);
 
@@ -102,6 +109,17 @@ interface IndexedMessageChannel extends ChannelBinding {
          */
         <M extends Message> void registerMessage(Class<M> messageClass, int messageId, Platform.Type side, MessageHandler<M> handler);
 
+        /**
+         * Encodes the message once, so the returned frame can be sent to many
+         * players without encoding the message for each of them.
+         *
+         * @param message The message to encode
+         * @return The encoded message
+         * @throws IllegalArgumentException If the message class is not
+         *         registered to this channel
+         */
+        MessageFrame encode(Message message);
+
         /**
          * Sends the message to the player across this channel. The message may
          * not be sent if the player doesn't have a registered handler.
@@ -111,6 +129,50 @@ interface IndexedMessageChannel extends ChannelBinding {
          */
         void sendTo(Player player, Message message);
 
+        /**
+         * Sends the encoded message to the player across this channel. The
+         * message may not be sent if the player doesn't have a registered
+         * handler.
+         *
+         * @param player The player to send the message to
+         * @param frame The encoded message, see {@link #encode(Message)}
+         * @throws IllegalArgumentException If the frame was encoded for
+         *         another channel
+         */
+        void sendTo(Player player, MessageFrame frame);
+
+        /**
+         * Sends the encoded message to each of the players across this
+         * channel.
+         *
+         * @param players The players to send the message to
+         * @param frame The encoded message, see {@link #encode(Message)}
+         * @throws IllegalArgumentException If the frame was encoded for
+         *         another channel
+         */
+        default void sendTo(Iterable<? extends Player> players, MessageFrame frame) {
+            for (Player player : players) {
+                sendTo(player, frame);
+            }
+        }
+
+        /**
+         * Sends the encoded message to the players among the recipients of
+         * the message sink across this channel.
+         *
+         * @param sink The sink whose recipients to send the message to
+         * @param frame The encoded message, see {@link #encode(Message)}
+         * @throws IllegalArgumentException If the frame was encoded for
+         *         another channel
+         */
+        default void sendTo(MessageSink sink, MessageFrame frame) {
+            for (CommandSource recipient : sink.getRecipients()) {
+                if (recipient instanceof Player) {
+                    sendTo((Player) recipient, frame);
+                }
+            }
+        }
+
         /**
          * Sends the message to the server. The message may not be sent if there
          * is no registered handler. This <strong>must</strong> be called from
@@ -126,6 +188,49 @@ interface IndexedMessageChannel extends ChannelBinding {
          * @param message The message to send
          */
         void sendToAll(Message message);
+
+        /**
+         * Sends the encoded message to all players on the server.
+         *
+         * @param frame The encoded message, see {@link #encode(Message)}
+         * @throws IllegalArgumentException If the frame was encoded for
+         *         another channel
+         */
+        void sendToAll(MessageFrame frame);
+
+        /**
+         * Enables or disables coalescing of the messages sent by this
+         * channel. While enabled, the messages sent to the same connection
+         * are buffered and sent as a single batch at the end of the tick, or
+         * earlier if the batch reaches the maximum payload size, see
+         * {@link MessageBatcher}. Received batches are split before the
+         * messages are handled, so handlers don't see the difference.
+         *
+         * <p>The message ID {@link MessageBatcher#BATCH_ID} marks a batch and
+         * can't be used by messages of a coalescing channel. Both sides of
+         * the channel have to use the same mode.</p>
+         *
+         * @param coalescing Whether to coalesce messages
+         * @throws IllegalStateException If a message class is registered with
+         *         the ID {@link MessageBatcher#BATCH_ID}
+         */
+        void setCoalescing(boolean coalescing);
+
+        /**
+         * Gets whether this channel coalesces messages, see
+         * {@link #setCoalescing(boolean)}.
+         *
+         * @return True if messages are coalesced
+         */
+        boolean isCoalescing();
+
+        /**
+         * Gets the counters of the messages this channel coalesced since
+         * coalescing was enabled.
+         *
+         * @return The statistics
+         */
+        MessageBatcher.Statistics getCoalescingStatistics();
     }
 
     /**
@@ -166,6 +271,28 @@ interface RawDataChannel extends ChannelBinding {
          */
         void sendTo(Player player, Consumer<ChannelBuf> payload);
 
+        /**
+         * Sends the readable bytes of the buffer to the player across this
+         * channel. The data may not be sent if the player doesn't have a
+         * registered handler.
+         *
+         * <p>The channel takes over the reference of the caller to the
+         * buffer and releases it once it was sent, see
+         * {@link ChannelBuf#release()}. The buffer has to be retained before
+         * if the caller wants to keep using it, for example to send the same
+         * payload to more players without encoding it again.</p>
+         *
+         * @param player The player to send the message to
+         * @param payload The buffer to send
+         */
+        default void sendTo(Player player, ChannelBuf payload) {
+            try {
+                sendTo(player, buf -> buf.writeBytes(payload.nioBuffer()));
+            } finally {
+                payload.release();
+            }
+        }
+
         /**
          * Sends the raw payload to the server. The data may not be sent if
          * there is no registered handler. This <strong>must</strong> be called
@@ -182,6 +309,21 @@ interface RawDataChannel extends ChannelBinding {
          */
         void sendToAll(Consumer<ChannelBuf> payload);
 
+        /**
+         * Sends the readable bytes of the buffer to all players on the
+         * server, releasing the buffer once it was sent like
+         * {@link #sendTo(Player, ChannelBuf)}.
+         *
+         * @param payload The buffer to send
+         */
+        default void sendToAll(ChannelBuf payload) {
+            try {
+                sendToAll(buf -> buf.writeBytes(payload.nioBuffer()));
+            } finally {
+                payload.release();
+            }
+        }
+
     }
 
 }
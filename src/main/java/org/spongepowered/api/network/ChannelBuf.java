@@ -26,12 +26,18 @@
 
 import org.spongepowered.api.data.DataView;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.UUID;
 
 /**
  * A ChannelStream allows for plugins and the server to read and write Java primitive
  * data and some higher level data to {@link DataView} if necessary.
+ *
+ * <p>Buffers may be reference counted, see {@link #release()}. A buffer
+ * obtained from a {@link ChannelBufAllocator} starts with a reference count
+ * of 1 and has to be released by its last user, after which its memory may be
+ * reused for another buffer.</p>
  */
 public interface ChannelBuf {
 
@@ -49,6 +55,42 @@ public interface ChannelBuf {
      */
     int available();
 
+    /**
+     * Gets the reference count of this buffer. Buffers that aren't reference
+     * counted always return 1.
+     *
+     * @return The reference count
+     */
+    default int refCnt() {
+        return 1;
+    }
+
+    /**
+     * Increases the reference count of this buffer by 1.
+     *
+     * @return This stream for chaining
+     * @throws IllegalStateException If this buffer was already released
+     */
+    default ChannelBuf retain() {
+        return this;
+    }
+
+    /**
+     * Decreases the reference count of this buffer by 1 and deallocates it if
+     * the reference count reaches 0. A deallocated buffer can't be accessed
+     * anymore. Buffers that aren't reference counted are reclaimed by the
+     * garbage collector instead and ignore this method.
+     *
+     * <p>Slices and buffers returned by {@link #order(ByteOrder)} share the
+     * reference count of this buffer.</p>
+     *
+     * @return True if the buffer was deallocated
+     * @throws IllegalStateException If this buffer was already released
+     */
+    default boolean release() {
+        return false;
+    }
+
     /**
      * Returns a buffer with the specified endianness which shares the whole
      * region, indexes, and marks of this buffer. Modifying the content, the
@@ -183,6 +225,32 @@ public interface ChannelBuf {
      */
     byte[] array();
 
+    /**
+     * Gets this buffer's readable bytes as a {@link ByteBuffer} with the
+     * byte order of this buffer. This method is identical to
+     * {@code buf.nioBuffer(buf.readerIndex(), buf.available())}.
+     *
+     * @return The byte buffer
+     */
+    default ByteBuffer nioBuffer() {
+        return nioBuffer(readerIndex(), available());
+    }
+
+    /**
+     * Gets a sub-region of this buffer as a {@link ByteBuffer} with the byte
+     * order of this buffer. Buffers backed by a single region of memory
+     * return a view that shares the content of this buffer, others may return
+     * a copy. The position and limit of the returned buffer are independent
+     * of the indexes of this buffer.
+     *
+     * @param index The starting index
+     * @param length The number of bytes
+     * @return The byte buffer
+     */
+    default ByteBuffer nioBuffer(int index, int length) {
+        return ByteBuffer.wrap(array(), index, length).slice().order(getByteOrder());
+    }
+
     /**
      * Sets the specified boolean at the current writerIndex and increases
      * the writerIndex by 1 in this buffer.
@@ -219,7 +287,6 @@ public interface ChannelBuf {
      */
     boolean getBoolean(int index);
 
-
     /**
      * Sets the specified byte at the current writerIndex and increases
      * the writerIndex by 1 in this buffer.
@@ -256,6 +323,76 @@ public interface ChannelBuf {
      */
     byte getByte(int index);
 
+    /**
+     * Writes the given bytes at the current writerIndex and increases the
+     * writerIndex by their number in this buffer.
+     *
+     * @param data The bytes
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeBytes(byte[] data) {
+        return writeBytes(data, 0, data.length);
+    }
+
+    /**
+     * Writes a region of the given array at the current writerIndex and
+     * increases the writerIndex by the length in this buffer.
+     *
+     * @param data The bytes
+     * @param offset The index of the first byte to write
+     * @param length The number of bytes to write
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeBytes(byte[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            writeByte(data[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the remaining bytes of the given buffer at the current
+     * writerIndex and increases the writerIndex by their number in this
+     * buffer. The position of the given buffer is not modified.
+     *
+     * @param data The bytes
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeBytes(ByteBuffer data) {
+        for (int i = data.position(); i < data.limit(); i++) {
+            writeByte(data.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * Reads bytes from the current readerIndex into the given array until
+     * it is full and increases the readerIndex by the length of the array
+     * in this buffer.
+     *
+     * @param dst The destination array
+     * @return This stream for chaining
+     */
+    default ChannelBuf readBytes(byte[] dst) {
+        return readBytes(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads bytes from the current readerIndex into a region of the given
+     * array and increases the readerIndex by the length in this buffer.
+     *
+     * @param dst The destination array
+     * @param offset The index in the array of the first byte to read
+     * @param length The number of bytes to read
+     * @return This stream for chaining
+     */
+    default ChannelBuf readBytes(byte[] dst, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            dst[i] = readByte();
+        }
+        return this;
+    }
+
     /**
      * Sets the specified short integer at the current writerIndex and
      * increases the writerIndex by 2 in this buffer.
@@ -364,6 +501,62 @@ public interface ChannelBuf {
      */
     int getInteger(int index);
 
+    /**
+     * Writes the given integers at the current writerIndex and increases the
+     * writerIndex by 4 times their number in this buffer.
+     *
+     * @param data The integers
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeIntegers(int[] data) {
+        return writeIntegers(data, 0, data.length);
+    }
+
+    /**
+     * Writes a region of the given array at the current writerIndex and
+     * increases the writerIndex by 4 times the length in this buffer.
+     *
+     * @param data The integers
+     * @param offset The index of the first integer to write
+     * @param length The number of integers to write
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeIntegers(int[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            writeInteger(data[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Reads integers from the current readerIndex into the given array until
+     * it is full and increases the readerIndex by 4 times the length of
+     * the array in this buffer.
+     *
+     * @param dst The destination array
+     * @return This stream for chaining
+     */
+    default ChannelBuf readIntegers(int[] dst) {
+        return readIntegers(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads integers from the current readerIndex into a region of the given
+     * array and increases the readerIndex by 4 times the length in this
+     * buffer.
+     *
+     * @param dst The destination array
+     * @param offset The index in the array of the first integer to read
+     * @param length The number of integers to read
+     * @return This stream for chaining
+     */
+    default ChannelBuf readIntegers(int[] dst, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            dst[i] = readInteger();
+        }
+        return this;
+    }
+
     /**
      * Sets the specified long integer at the current writerIndex and
      * increases the writerIndex by 8 in this buffer.
@@ -400,6 +593,62 @@ public interface ChannelBuf {
      */
     long getLong(int index);
 
+    /**
+     * Writes the given long integers at the current writerIndex and increases the
+     * writerIndex by 8 times their number in this buffer.
+     *
+     * @param data The long integers
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeLongs(long[] data) {
+        return writeLongs(data, 0, data.length);
+    }
+
+    /**
+     * Writes a region of the given array at the current writerIndex and
+     * increases the writerIndex by 8 times the length in this buffer.
+     *
+     * @param data The long integers
+     * @param offset The index of the first long integer to write
+     * @param length The number of long integers to write
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeLongs(long[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            writeLong(data[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Reads long integers from the current readerIndex into the given array until
+     * it is full and increases the readerIndex by 8 times the length of
+     * the array in this buffer.
+     *
+     * @param dst The destination array
+     * @return This stream for chaining
+     */
+    default ChannelBuf readLongs(long[] dst) {
+        return readLongs(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads long integers from the current readerIndex into a region of the given
+     * array and increases the readerIndex by 8 times the length in this
+     * buffer.
+     *
+     * @param dst The destination array
+     * @param offset The index in the array of the first long integer to read
+     * @param length The number of long integers to read
+     * @return This stream for chaining
+     */
+    default ChannelBuf readLongs(long[] dst, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            dst[i] = readLong();
+        }
+        return this;
+    }
+
     /**
      * Sets the specified float at the current writerIndex and increases
      * the writerIndex by 4 in this buffer.
@@ -436,6 +685,62 @@ public interface ChannelBuf {
      */
     float getFloat(int index);
 
+    /**
+     * Writes the given floats at the current writerIndex and increases the
+     * writerIndex by 4 times their number in this buffer.
+     *
+     * @param data The floats
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeFloats(float[] data) {
+        return writeFloats(data, 0, data.length);
+    }
+
+    /**
+     * Writes a region of the given array at the current writerIndex and
+     * increases the writerIndex by 4 times the length in this buffer.
+     *
+     * @param data The floats
+     * @param offset The index of the first float to write
+     * @param length The number of floats to write
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeFloats(float[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            writeFloat(data[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Reads floats from the current readerIndex into the given array until
+     * it is full and increases the readerIndex by 4 times the length of
+     * the array in this buffer.
+     *
+     * @param dst The destination array
+     * @return This stream for chaining
+     */
+    default ChannelBuf readFloats(float[] dst) {
+        return readFloats(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads floats from the current readerIndex into a region of the given
+     * array and increases the readerIndex by 4 times the length in this
+     * buffer.
+     *
+     * @param dst The destination array
+     * @param offset The index in the array of the first float to read
+     * @param length The number of floats to read
+     * @return This stream for chaining
+     */
+    default ChannelBuf readFloats(float[] dst, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            dst[i] = readFloat();
+        }
+        return this;
+    }
+
     /**
      * Sets the specified double at the current writerIndex and increases
      * the writerIndex by 8 in this buffer.
@@ -472,6 +777,62 @@ public interface ChannelBuf {
      */
     double getDouble(int index);
 
+    /**
+     * Writes the given doubles at the current writerIndex and increases the
+     * writerIndex by 8 times their number in this buffer.
+     *
+     * @param data The doubles
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeDoubles(double[] data) {
+        return writeDoubles(data, 0, data.length);
+    }
+
+    /**
+     * Writes a region of the given array at the current writerIndex and
+     * increases the writerIndex by 8 times the length in this buffer.
+     *
+     * @param data The doubles
+     * @param offset The index of the first double to write
+     * @param length The number of doubles to write
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeDoubles(double[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            writeDouble(data[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Reads doubles from the current readerIndex into the given array until
+     * it is full and increases the readerIndex by 8 times the length of
+     * the array in this buffer.
+     *
+     * @param dst The destination array
+     * @return This stream for chaining
+     */
+    default ChannelBuf readDoubles(double[] dst) {
+        return readDoubles(dst, 0, dst.length);
+    }
+
+    /**
+     * Reads doubles from the current readerIndex into a region of the given
+     * array and increases the readerIndex by 8 times the length in this
+     * buffer.
+     *
+     * @param dst The destination array
+     * @param offset The index in the array of the first double to read
+     * @param length The number of doubles to read
+     * @return This stream for chaining
+     */
+    default ChannelBuf readDoubles(double[] dst, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            dst[i] = readDouble();
+        }
+        return this;
+    }
+
     /**
      * Sets the specified string at the current writerIndex and increases
      * the writerIndex by the length of the string.
@@ -508,6 +869,172 @@ public interface ChannelBuf {
      */
     String getString(int index);
 
+    /**
+     * Writes the integer at the current writerIndex in 1 to 5 bytes and
+     * increases the writerIndex accordingly. Each byte holds 7 bits, starting
+     * with the least significant bits, and its most significant bit is set
+     * if more bytes follow, so small positive values take fewer bytes than
+     * {@link #writeInteger(int)}. Negative values always take 5 bytes, see
+     * {@link #writeSignedVarInt(int)}.
+     *
+     * @param data The integer
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeVarInt(int data) {
+        while ((data & ~0x7F) != 0) {
+            writeByte((byte) (data & 0x7F | 0x80));
+            data >>>= 7;
+        }
+        return writeByte((byte) data);
+    }
+
+    /**
+     * Reads an integer written by {@link #writeVarInt(int)} at the current
+     * readerIndex and increases the readerIndex accordingly.
+     *
+     * @return The integer
+     * @throws IllegalStateException If the integer takes more than 5 bytes
+     */
+    default int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = readByte();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("VarInt is too long");
+    }
+
+    /**
+     * Writes the long integer at the current writerIndex in 1 to 10 bytes
+     * like {@link #writeVarInt(int)} and increases the writerIndex
+     * accordingly.
+     *
+     * @param data The long integer
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeVarLong(long data) {
+        while ((data & ~0x7FL) != 0) {
+            writeByte((byte) (data & 0x7F | 0x80));
+            data >>>= 7;
+        }
+        return writeByte((byte) data);
+    }
+
+    /**
+     * Reads a long integer written by {@link #writeVarLong(long)} at the
+     * current readerIndex and increases the readerIndex accordingly.
+     *
+     * @return The long integer
+     * @throws IllegalStateException If the integer takes more than 10 bytes
+     */
+    default long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = readByte();
+            result |= (b & 0x7FL) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("VarLong is too long");
+    }
+
+    /**
+     * Writes the integer like {@link #writeVarInt(int)} after mapping signed
+     * values to unsigned values with the zig-zag encoding, so values close
+     * to 0 take few bytes whether they are positive or negative.
+     *
+     * @param data The integer
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeSignedVarInt(int data) {
+        return writeVarInt(data << 1 ^ data >> 31);
+    }
+
+    /**
+     * Reads an integer written by {@link #writeSignedVarInt(int)} at the
+     * current readerIndex and increases the readerIndex accordingly.
+     *
+     * @return The integer
+     * @throws IllegalStateException If the integer takes more than 5 bytes
+     */
+    default int readSignedVarInt() {
+        int data = readVarInt();
+        return data >>> 1 ^ -(data & 1);
+    }
+
+    /**
+     * Writes the long integer like {@link #writeVarLong(long)} after mapping
+     * signed values to unsigned values with the zig-zag encoding.
+     *
+     * @param data The long integer
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeSignedVarLong(long data) {
+        return writeVarLong(data << 1 ^ data >> 63);
+    }
+
+    /**
+     * Reads a long integer written by {@link #writeSignedVarLong(long)} at
+     * the current readerIndex and increases the readerIndex accordingly.
+     *
+     * @return The long integer
+     * @throws IllegalStateException If the integer takes more than 10 bytes
+     */
+    default long readSignedVarLong() {
+        long data = readVarLong();
+        return data >>> 1 ^ -(data & 1);
+    }
+
+    /**
+     * Writes the characters at the current writerIndex as their length in
+     * UTF-8 bytes, written like {@link #writeVarInt(int)}, followed by the
+     * bytes, and increases the writerIndex accordingly.
+     *
+     * @param data The characters
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeUtf8(CharSequence data) {
+        byte[] bytes = new byte[Utf8.getEncodedLength(data)];
+        Utf8.encode(data, ByteBuffer.wrap(bytes), 0);
+        return writeVarInt(bytes.length).writeBytes(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeUtf8(CharSequence)} at the
+     * current readerIndex and increases the readerIndex accordingly.
+     *
+     * @return The string
+     */
+    default String readUtf8() {
+        StringBuilder builder = new StringBuilder();
+        readUtf8(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Reads a string written by {@link #writeUtf8(CharSequence)} at the
+     * current readerIndex, appends it to the given builder and increases the
+     * readerIndex accordingly. Reusing the builder avoids allocating a string
+     * for each value that is only compared or parsed.
+     *
+     * @param dst The builder to append the string to
+     * @return This stream for chaining
+     */
+    default ChannelBuf readUtf8(StringBuilder dst) {
+        int length = readVarInt();
+        if (length < 0 || length > available()) {
+            throw new IndexOutOfBoundsException("length: " + length + ", available: " + available());
+        }
+        byte[] bytes = new byte[length];
+        readBytes(bytes);
+        Utf8.decode(ByteBuffer.wrap(bytes), 0, bytes.length, dst);
+        return this;
+    }
+
     /**
      * Sets the specified {@link UUID} at the current writerIndex and
      * increases the writerIndex by 16 in this buffer.
@@ -581,4 +1108,30 @@ public interface ChannelBuf {
      */
     DataView getDataView(int index);
 
+    /**
+     * Writes the data view at the current writerIndex in a compact binary
+     * encoding and increases the writerIndex accordingly. Integers, lengths
+     * and sizes are written as VarInts, and keys that occur more than once,
+     * like the keys of views in a list, are written once and then referred
+     * to by their index. The view has to be read with
+     * {@link #readCompactDataView()}.
+     *
+     * @param data The data view
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeCompactDataView(DataView data) {
+        DataViewCodec.writeCompact(this, data);
+        return this;
+    }
+
+    /**
+     * Reads a data view written by {@link #writeCompactDataView(DataView)}
+     * at the current readerIndex and increases the readerIndex accordingly.
+     *
+     * @return The data view
+     */
+    default DataView readCompactDataView() {
+        return DataViewCodec.readCompact(this);
+    }
+
 }
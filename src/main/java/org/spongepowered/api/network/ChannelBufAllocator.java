@@ -0,0 +1,55 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+/**
+ * Allocates {@link ChannelBuf}s that are released by their last user, see
+ * {@link ChannelBuf#release()}, so their memory can be reused for the next
+ * buffer instead of allocating a new array per message.
+ *
+ * <p>Buffers grow as data is written to them, the initial capacity only
+ * avoids copying the data when the final size is known in advance.</p>
+ */
+public interface ChannelBufAllocator {
+
+    /**
+     * Allocates a buffer on the heap.
+     *
+     * @param initialCapacity The initial capacity in bytes
+     * @return The new buffer, with a reference count of 1
+     */
+    ChannelBuf buffer(int initialCapacity);
+
+    /**
+     * Allocates a buffer in direct memory, outside of the heap. Direct
+     * buffers are more expensive to allocate, but can be written to a
+     * network channel without an additional copy.
+     *
+     * @param initialCapacity The initial capacity in bytes
+     * @return The new buffer, with a reference count of 1
+     */
+    ChannelBuf directBuffer(int initialCapacity);
+
+}
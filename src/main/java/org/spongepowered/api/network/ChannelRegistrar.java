@@ -85,4 +85,15 @@ public interface ChannelRegistrar {
      */
     boolean isChannelAvailable(String channelName);
 
+    /**
+     * Gets the allocator for buffers that are sent with
+     * {@link ChannelBinding.RawDataChannel#sendTo(org.spongepowered.api.entity.living.player.Player, ChannelBuf)}
+     * and {@link ChannelBinding.RawDataChannel#sendToAll(ChannelBuf)}.
+     *
+     * @return The buffer allocator
+     */
+    default ChannelBufAllocator getBufferAllocator() {
+        return PooledChannelBufAllocator.DEFAULT;
+    }
+
 }
@@ -0,0 +1,408 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes {@link DataView}s to {@link ChannelBuf}s in a binary format.
+ *
+ * <p>A view is written as its entries, each as the tag of the value type,
+ * the key and the value, followed by an end tag. Lists are written as their
+ * size followed by the tag and value of each element. {@link Map}s in lists
+ * are written as views and read as {@link DataContainer}s.</p>
+ *
+ * <p>The compact format writes integers, lengths and sizes as VarInts, see
+ * {@link ChannelBuf#writeVarInt(int)}. Each key is written as its UTF-8
+ * string the first time it occurs, and as its index among the previously
+ * written keys after that.</p>
+ */
+final class DataViewCodec {
+
+    private static final byte END = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte BYTE = 2;
+    private static final byte SHORT = 3;
+    private static final byte CHAR = 4;
+    private static final byte INTEGER = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte STRING = 9;
+    private static final byte VIEW = 10;
+    private static final byte LIST = 11;
+    private static final byte BYTE_ARRAY = 12;
+    private static final byte INTEGER_ARRAY = 13;
+    private static final byte LONG_ARRAY = 14;
+    private static final byte FLOAT_ARRAY = 15;
+    private static final byte DOUBLE_ARRAY = 16;
+
+    private final ChannelBuf buf;
+    private final boolean compact;
+    // The indexes of the written keys, or the read keys, in compact mode
+    @Nullable private Map<String, Integer> keyIndexes;
+    @Nullable private List<String> keys;
+
+    private DataViewCodec(ChannelBuf buf, boolean compact) {
+        this.buf = buf;
+        this.compact = compact;
+    }
+
+    /**
+     * Writes the view at the current writerIndex of the buffer.
+     *
+     * @param buf The buffer
+     * @param view The view
+     */
+    static void write(ChannelBuf buf, DataView view) {
+        new DataViewCodec(buf, false).writeView(view);
+    }
+
+    /**
+     * Writes the view at the current writerIndex of the buffer in the
+     * compact format.
+     *
+     * @param buf The buffer
+     * @param view The view
+     */
+    static void writeCompact(ChannelBuf buf, DataView view) {
+        new DataViewCodec(buf, true).writeView(view);
+    }
+
+    /**
+     * Reads a view from the current readerIndex of the buffer.
+     *
+     * @param buf The buffer
+     * @return The view
+     */
+    static DataContainer read(ChannelBuf buf) {
+        return new DataViewCodec(buf, false).readView();
+    }
+
+    /**
+     * Reads a view in the compact format from the current readerIndex of
+     * the buffer.
+     *
+     * @param buf The buffer
+     * @return The view
+     */
+    static DataContainer readCompact(ChannelBuf buf) {
+        return new DataViewCodec(buf, true).readView();
+    }
+
+    private void writeView(DataView view) {
+        for (DataQuery key : view.getKeys(false)) {
+            writeEntry(key.toString(), view.get(key).get());
+        }
+        this.buf.writeByte(END);
+    }
+
+    private void writeMap(Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeEntry(entry.getKey().toString(), entry.getValue());
+        }
+        this.buf.writeByte(END);
+    }
+
+    private void writeEntry(String key, Object value) {
+        this.buf.writeByte(getTag(value));
+        writeKey(key);
+        writeValue(value);
+    }
+
+    private void writeKey(String key) {
+        if (!this.compact) {
+            this.buf.writeString(key);
+            return;
+        }
+        if (this.keyIndexes == null) {
+            this.keyIndexes = Maps.newHashMap();
+        }
+        @Nullable Integer index = this.keyIndexes.get(key);
+        if (index == null) {
+            this.keyIndexes.put(key, this.keyIndexes.size());
+            this.buf.writeVarInt(0).writeUtf8(key);
+        } else {
+            this.buf.writeVarInt(index + 1);
+        }
+    }
+
+    private void writeLength(int length) {
+        if (this.compact) {
+            this.buf.writeVarInt(length);
+        } else {
+            this.buf.writeInteger(length);
+        }
+    }
+
+    private static byte getTag(Object value) {
+        if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof Byte) {
+            return BYTE;
+        } else if (value instanceof Short) {
+            return SHORT;
+        } else if (value instanceof Character) {
+            return CHAR;
+        } else if (value instanceof Integer) {
+            return INTEGER;
+        } else if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof Float) {
+            return FLOAT;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof String) {
+            return STRING;
+        } else if (value instanceof DataView || value instanceof Map) {
+            return VIEW;
+        } else if (value instanceof List) {
+            return LIST;
+        } else if (value instanceof byte[]) {
+            return BYTE_ARRAY;
+        } else if (value instanceof int[]) {
+            return INTEGER_ARRAY;
+        } else if (value instanceof long[]) {
+            return LONG_ARRAY;
+        } else if (value instanceof float[]) {
+            return FLOAT_ARRAY;
+        } else if (value instanceof double[]) {
+            return DOUBLE_ARRAY;
+        }
+        throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+    }
+
+    private void writeValue(Object value) {
+        ChannelBuf buf = this.buf;
+        switch (getTag(value)) {
+            case BOOLEAN:
+                buf.writeBoolean((Boolean) value);
+                break;
+            case BYTE:
+                buf.writeByte((Byte) value);
+                break;
+            case SHORT:
+                if (this.compact) {
+                    buf.writeSignedVarInt((Short) value);
+                } else {
+                    buf.writeShort((Short) value);
+                }
+                break;
+            case CHAR:
+                buf.writeChar((Character) value);
+                break;
+            case INTEGER:
+                if (this.compact) {
+                    buf.writeSignedVarInt((Integer) value);
+                } else {
+                    buf.writeInteger((Integer) value);
+                }
+                break;
+            case LONG:
+                if (this.compact) {
+                    buf.writeSignedVarLong((Long) value);
+                } else {
+                    buf.writeLong((Long) value);
+                }
+                break;
+            case FLOAT:
+                buf.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                buf.writeDouble((Double) value);
+                break;
+            case STRING:
+                if (this.compact) {
+                    buf.writeUtf8((String) value);
+                } else {
+                    buf.writeString((String) value);
+                }
+                break;
+            case VIEW:
+                if (value instanceof DataView) {
+                    writeView((DataView) value);
+                } else {
+                    writeMap((Map<?, ?>) value);
+                }
+                break;
+            case LIST:
+                List<?> list = (List<?>) value;
+                writeLength(list.size());
+                for (Object element : list) {
+                    buf.writeByte(getTag(element));
+                    writeValue(element);
+                }
+                break;
+            case BYTE_ARRAY:
+                writeLength(((byte[]) value).length);
+                buf.writeBytes((byte[]) value);
+                break;
+            case INTEGER_ARRAY:
+                int[] ints = (int[]) value;
+                writeLength(ints.length);
+                if (this.compact) {
+                    for (int i : ints) {
+                        buf.writeSignedVarInt(i);
+                    }
+                } else {
+                    buf.writeIntegers(ints);
+                }
+                break;
+            case LONG_ARRAY:
+                long[] longs = (long[]) value;
+                writeLength(longs.length);
+                if (this.compact) {
+                    for (long l : longs) {
+                        buf.writeSignedVarLong(l);
+                    }
+                } else {
+                    buf.writeLongs(longs);
+                }
+                break;
+            case FLOAT_ARRAY:
+                writeLength(((float[]) value).length);
+                buf.writeFloats((float[]) value);
+                break;
+            default:
+                writeLength(((double[]) value).length);
+                buf.writeDoubles((double[]) value);
+                break;
+        }
+    }
+
+    private DataContainer readView() {
+        DataContainer container = new MemoryDataContainer();
+        for (byte tag = this.buf.readByte(); tag != END; tag = this.buf.readByte()) {
+            DataQuery key = DataQuery.of(readKey());
+            container.set(key, readValue(tag));
+        }
+        return container;
+    }
+
+    private String readKey() {
+        if (!this.compact) {
+            return this.buf.readString();
+        }
+        if (this.keys == null) {
+            this.keys = Lists.newArrayList();
+        }
+        int index = this.buf.readVarInt();
+        if (index == 0) {
+            String key = this.buf.readUtf8();
+            this.keys.add(key);
+            return key;
+        }
+        if (index > this.keys.size()) {
+            throw new IllegalStateException("Unknown key index: " + index);
+        }
+        return this.keys.get(index - 1);
+    }
+
+    private int readLength() {
+        int length = this.compact ? this.buf.readVarInt() : this.buf.readInteger();
+        if (length < 0 || length > this.buf.available()) {
+            throw new IllegalStateException("Invalid length: " + length);
+        }
+        return length;
+    }
+
+    private Object readValue(byte tag) {
+        ChannelBuf buf = this.buf;
+        switch (tag) {
+            case BOOLEAN:
+                return buf.readBoolean();
+            case BYTE:
+                return buf.readByte();
+            case SHORT:
+                return this.compact ? (short) buf.readSignedVarInt() : buf.readShort();
+            case CHAR:
+                return buf.readChar();
+            case INTEGER:
+                return this.compact ? buf.readSignedVarInt() : buf.readInteger();
+            case LONG:
+                return this.compact ? buf.readSignedVarLong() : buf.readLong();
+            case FLOAT:
+                return buf.readFloat();
+            case DOUBLE:
+                return buf.readDouble();
+            case STRING:
+                return this.compact ? buf.readUtf8() : buf.readString();
+            case VIEW:
+                return readView();
+            case LIST:
+                Object[] elements = new Object[readLength()];
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = readValue(buf.readByte());
+                }
+                return Arrays.asList(elements);
+            case BYTE_ARRAY:
+                byte[] bytes = new byte[readLength()];
+                buf.readBytes(bytes);
+                return bytes;
+            case INTEGER_ARRAY:
+                int[] ints = new int[readLength()];
+                if (this.compact) {
+                    for (int i = 0; i < ints.length; i++) {
+                        ints[i] = buf.readSignedVarInt();
+                    }
+                } else {
+                    buf.readIntegers(ints);
+                }
+                return ints;
+            case LONG_ARRAY:
+                long[] longs = new long[readLength()];
+                if (this.compact) {
+                    for (int i = 0; i < longs.length; i++) {
+                        longs[i] = buf.readSignedVarLong();
+                    }
+                } else {
+                    buf.readLongs(longs);
+                }
+                return longs;
+            case FLOAT_ARRAY:
+                float[] floats = new float[readLength()];
+                buf.readFloats(floats);
+                return floats;
+            case DOUBLE_ARRAY:
+                double[] doubles = new double[readLength()];
+                buf.readDoubles(doubles);
+                return doubles;
+            default:
+                throw new IllegalStateException("Unknown value type: " + tag);
+        }
+    }
+
+}
@@ -0,0 +1,355 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Objects;
+import com.google.common.collect.Maps;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Coalesces the {@link MessageFrame}s sent to the same
+ * {@link RemoteConnection} into batches, for implementations of
+ * {@link ChannelBinding.IndexedMessageChannel#setCoalescing(boolean)}.
+ *
+ * <p>The frames added for a connection are kept until {@link #flush()} is
+ * called at the end of the tick, or until the batch would grow beyond the
+ * flush threshold. A single pending frame is sent as it is, several frames
+ * are sent as one payload that starts with {@link #BATCH_ID}, followed by
+ * the length of each frame, written like {@link ChannelBuf#writeVarInt(int)},
+ * and the frame itself. The receiving side splits the payload with
+ * {@link #forEachMessage(ChannelBuf, Consumer)} before handling the
+ * messages.</p>
+ *
+ * <p>This class is thread-safe. Payloads are sent without holding the lock
+ * that guards the pending batches, so sending doesn't block adding frames,
+ * and the sender may add frames itself.</p>
+ */
+public final class MessageBatcher {
+
+    /**
+     * The message ID that marks a batch of messages. It can't be registered
+     * to a channel that coalesces messages.
+     */
+    public static final int BATCH_ID = 255;
+
+    private final ChannelBufAllocator allocator;
+    private final int flushThreshold;
+    private final BiConsumer<RemoteConnection, ChannelBuf> sender;
+    private final Map<RemoteConnection, Batch> pending = Maps.newIdentityHashMap();
+
+    private long flushes;
+    private long messages;
+    private long bytesSaved;
+
+    /**
+     * Creates a new batcher.
+     *
+     * @param allocator The allocator of the batch buffers
+     * @param flushThreshold The size in bytes at which a batch is sent
+     *        before the end of the tick
+     * @param sender The function that sends a payload to a connection and
+     *        releases it, which may be called by several threads at once
+     */
+    public MessageBatcher(ChannelBufAllocator allocator, int flushThreshold, BiConsumer<RemoteConnection, ChannelBuf> sender) {
+        checkArgument(flushThreshold > 0, "flushThreshold must be positive");
+        this.allocator = checkNotNull(allocator, "allocator");
+        this.flushThreshold = flushThreshold;
+        this.sender = checkNotNull(sender, "sender");
+    }
+
+    /**
+     * Adds the frame to the pending batch of the connection.
+     *
+     * @param connection The connection
+     * @param frame The encoded message
+     * @throws IllegalArgumentException If the frame has the message ID
+     *         {@link #BATCH_ID}, or if it belongs to another channel than the
+     *         pending frames of the connection
+     */
+    public void add(RemoteConnection connection, MessageFrame frame) {
+        checkNotNull(connection, "connection");
+        checkNotNull(frame, "frame");
+        checkArgument(frame.getMessageId() != BATCH_ID, "The message ID %s is reserved for batches", BATCH_ID);
+        @Nullable ChannelBuf payload = null;
+        synchronized (this) {
+            @Nullable Batch batch = this.pending.get(connection);
+            // The payload is sent on a single channel
+            checkArgument(batch == null || batch.first.getChannel() == frame.getChannel(),
+                    "The frame belongs to another channel than the pending frames of the connection");
+            if (batch != null && batch.size() + getEntrySize(frame) > this.flushThreshold) {
+                payload = toPayload(batch);
+                batch = null;
+            }
+            if (batch == null) {
+                this.pending.put(connection, new Batch(frame));
+            } else {
+                batch.add(frame);
+            }
+        }
+        if (payload != null) {
+            this.sender.accept(connection, payload);
+        }
+    }
+
+    private static int getEntrySize(MessageFrame frame) {
+        int length = frame.getLength() + 1;
+        return getVarIntSize(length) + length;
+    }
+
+    private static int getVarIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Sends the pending batch of the connection, if it has one.
+     *
+     * @param connection The connection
+     */
+    public void flush(RemoteConnection connection) {
+        ChannelBuf payload;
+        synchronized (this) {
+            @Nullable Batch batch = this.pending.remove(connection);
+            if (batch == null) {
+                return;
+            }
+            payload = toPayload(batch);
+        }
+        this.sender.accept(connection, payload);
+    }
+
+    /**
+     * Sends the pending batches of all connections.
+     */
+    public void flush() {
+        Map<RemoteConnection, ChannelBuf> payloads = new IdentityHashMap<>();
+        synchronized (this) {
+            if (this.pending.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<RemoteConnection, Batch> entry : this.pending.entrySet()) {
+                payloads.put(entry.getKey(), toPayload(entry.getValue()));
+            }
+            this.pending.clear();
+        }
+        for (Map.Entry<RemoteConnection, ChannelBuf> entry : payloads.entrySet()) {
+            this.sender.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Discards the pending batch of the connection, for example because it
+     * was closed.
+     *
+     * @param connection The connection
+     */
+    public synchronized void discard(RemoteConnection connection) {
+        @Nullable Batch batch = this.pending.remove(connection);
+        if (batch != null && batch.buf != null) {
+            batch.buf.release();
+        }
+    }
+
+    /**
+     * Creates the payload of the batch and counts it in the statistics.
+     *
+     * @param batch The batch
+     * @return The payload
+     */
+    private ChannelBuf toPayload(Batch batch) {
+        ChannelBuf payload;
+        if (batch.buf == null) {
+            payload = this.allocator.buffer(batch.first.getLength() + 1);
+            batch.first.writeTo(payload);
+        } else {
+            payload = batch.buf;
+            // Every message after the first would have been sent with its own packet header
+            int packetHeader = getPacketHeaderSize(batch.first.getChannel().getName());
+            this.bytesSaved += (long) (batch.count - 1) * packetHeader - (payload.available() - batch.length);
+        }
+        this.flushes++;
+        this.messages += batch.count;
+        return payload;
+    }
+
+    /**
+     * Gets the size of the header of a custom payload packet on the given
+     * channel, its packet ID and the channel name.
+     *
+     * @param channel The channel name
+     * @return The size in bytes
+     */
+    private static int getPacketHeaderSize(String channel) {
+        int length = channel.getBytes(Charsets.UTF_8).length;
+        return 1 + getVarIntSize(length) + length;
+    }
+
+    /**
+     * Calls the consumer with each message of the payload, which is either
+     * a single message or a batch. The message buffers start with the
+     * message ID, followed by the encoded message.
+     *
+     * @param payload The received payload
+     * @param consumer The consumer of the messages
+     * @throws IllegalArgumentException If a message of the batch is empty or
+     *         longer than the rest of the payload
+     */
+    public static void forEachMessage(ChannelBuf payload, Consumer<ChannelBuf> consumer) {
+        if (payload.available() == 0 || (payload.getByte(payload.readerIndex()) & 0xFF) != BATCH_ID) {
+            consumer.accept(payload);
+            return;
+        }
+        payload.readByte();
+        while (payload.available() > 0) {
+            int length = payload.readVarInt();
+            checkArgument(length >= 1 && length <= payload.available(), "Invalid message length in batch: %s, available: %s", length,
+                    payload.available());
+            ChannelBuf message = payload.slice(payload.readerIndex(), length);
+            payload.setReadIndex(payload.readerIndex() + length);
+            consumer.accept(message);
+        }
+    }
+
+    /**
+     * Gets a snapshot of the counters of this batcher.
+     *
+     * @return The statistics
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(this.flushes, this.messages, this.bytesSaved);
+    }
+
+    private final class Batch {
+
+        final MessageFrame first;
+        @Nullable ChannelBuf buf;
+        int count = 1;
+        // The total length of the frames
+        int length;
+
+        Batch(MessageFrame first) {
+            this.first = first;
+            this.length = first.getLength() + 1;
+        }
+
+        int size() {
+            return this.buf != null ? this.buf.available() : 1 + getEntrySize(this.first);
+        }
+
+        void add(MessageFrame frame) {
+            if (this.buf == null) {
+                this.buf = MessageBatcher.this.allocator.buffer(MessageBatcher.this.flushThreshold);
+                this.buf.writeByte((byte) BATCH_ID);
+                append(this.buf, this.first);
+            }
+            append(this.buf, frame);
+            this.count++;
+            this.length += frame.getLength() + 1;
+        }
+
+        private void append(ChannelBuf buf, MessageFrame frame) {
+            buf.writeVarInt(frame.getLength() + 1);
+            frame.writeTo(buf);
+        }
+    }
+
+    /**
+     * A snapshot of the counters of a {@link MessageBatcher}.
+     */
+    public static final class Statistics {
+
+        private final long flushCount;
+        private final long messageCount;
+        private final long bytesSaved;
+
+        Statistics(long flushCount, long messageCount, long bytesSaved) {
+            this.flushCount = flushCount;
+            this.messageCount = messageCount;
+            this.bytesSaved = bytesSaved;
+        }
+
+        /**
+         * Gets the number of payloads that were sent.
+         *
+         * @return The number of payloads
+         */
+        public long getFlushCount() {
+            return this.flushCount;
+        }
+
+        /**
+         * Gets the number of messages that were sent.
+         *
+         * @return The number of messages
+         */
+        public long getMessageCount() {
+            return this.messageCount;
+        }
+
+        /**
+         * Gets the average number of messages per payload.
+         *
+         * @return The average number of messages per payload
+         */
+        public double getMessagesPerFlush() {
+            return this.flushCount == 0 ? 0 : (double) this.messageCount / this.flushCount;
+        }
+
+        /**
+         * Gets the estimated number of bytes saved by coalescing messages,
+         * the size of the packet headers of the coalesced messages minus the
+         * size of the batch framing.
+         *
+         * @return The number of bytes saved
+         */
+        public long getBytesSaved() {
+            return this.bytesSaved;
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("flushes", this.flushCount)
+                    .add("messages", this.messageCount)
+                    .add("bytesSaved", this.bytesSaved)
+                    .toString();
+        }
+    }
+
+}
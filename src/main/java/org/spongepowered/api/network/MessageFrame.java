@@ -0,0 +1,149 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Message} that was encoded for an
+ * {@link ChannelBinding.IndexedMessageChannel}, see
+ * {@link ChannelBinding.IndexedMessageChannel#encode(Message)}.
+ *
+ * <p>A frame is immutable and only stores the encoded bytes, so it can be
+ * sent to any number of players, at any time and from any thread, without
+ * running {@link Message#writeTo(ChannelBuf)} again.</p>
+ */
+public final class MessageFrame {
+
+    private final ChannelBinding.IndexedMessageChannel channel;
+    private final int messageId;
+    private final Class<? extends Message> messageType;
+    private final byte[] payload;
+
+    private MessageFrame(ChannelBinding.IndexedMessageChannel channel, int messageId, Class<? extends Message> messageType, byte[] payload) {
+        this.channel = channel;
+        this.messageId = messageId;
+        this.messageType = messageType;
+        this.payload = payload;
+    }
+
+    /**
+     * Encodes the message with the given message ID. This method is used by
+     * implementations of
+     * {@link ChannelBinding.IndexedMessageChannel#encode(Message)}, plugins
+     * should call that method instead.
+     *
+     * @param channel The channel the frame is sent on
+     * @param messageId The registered ID of the message class
+     * @param message The message
+     * @return The encoded frame
+     */
+    public static MessageFrame encode(ChannelBinding.IndexedMessageChannel channel, int messageId, Message message) {
+        checkNotNull(channel, "channel");
+        checkNotNull(message, "message");
+        checkArgument(messageId >= 0 && messageId <= 255, "messageId must be between 0 and 255");
+        ChannelBuf buf = channel.getRegistrar().getBufferAllocator().buffer(256);
+        try {
+            message.writeTo(buf);
+            byte[] payload = new byte[buf.available()];
+            buf.readBytes(payload);
+            return new MessageFrame(channel, messageId, message.getClass(), payload);
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * Gets the channel this frame was encoded for.
+     *
+     * @return The channel
+     */
+    public ChannelBinding.IndexedMessageChannel getChannel() {
+        return this.channel;
+    }
+
+    /**
+     * Gets the ID of the message class in the channel.
+     *
+     * @return The message ID
+     */
+    public int getMessageId() {
+        return this.messageId;
+    }
+
+    /**
+     * Gets the class of the encoded message.
+     *
+     * @return The message class
+     */
+    public Class<? extends Message> getMessageType() {
+        return this.messageType;
+    }
+
+    /**
+     * Gets the number of bytes of the encoded message, without the message
+     * ID.
+     *
+     * @return The length of the payload
+     */
+    public int getLength() {
+        return this.payload.length;
+    }
+
+    /**
+     * Gets a read-only view of the encoded message, without the message ID.
+     *
+     * @return The payload
+     */
+    public ByteBuffer getPayload() {
+        return ByteBuffer.wrap(this.payload).asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes the message ID as a single byte followed by the payload at the
+     * current writerIndex of the buffer.
+     *
+     * @param buf The buffer
+     */
+    public void writeTo(ChannelBuf buf) {
+        buf.writeByte((byte) this.messageId).writeBytes(this.payload);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("channel", this.channel.getName())
+                .add("messageId", this.messageId)
+                .add("messageType", this.messageType.getName())
+                .add("length", this.payload.length)
+                .toString();
+    }
+
+}
@@ -0,0 +1,836 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.data.DataView;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ChannelBuf} allocated by a {@link PooledChannelBufAllocator}.
+ *
+ * <p>The buffer is backed by a single heap or direct {@link ByteBuffer} of
+ * the pool, which is replaced by a larger one when the buffer grows. Slices
+ * and buffers of another byte order share the memory and the reference count
+ * of the buffer they were created from, but slices can't grow.</p>
+ *
+ * <p>The memory is returned to the pool when the buffer is released, so
+ * views returned by {@link #nioBuffer(int, int)} must not be used after
+ * that. Memory replaced when the buffer grows isn't returned to the pool.</p>
+ *
+ * <p>Strings are written like {@link #writeUtf8(CharSequence)}. Unique ids
+ * are written as their most and least significant bits. {@link DataView}s
+ * are written in the format of {@link DataViewCodec}.</p>
+ */
+final class PooledChannelBuf implements ChannelBuf {
+
+    private final Memory memory;
+    private final Indexes indexes;
+    private final ByteOrder order;
+    private final int offset;
+    // The capacity of a slice, or -1 if this buffer uses all of the memory
+    private final int capacity;
+
+    PooledChannelBuf(PooledChannelBufAllocator.Pool pool, int initialCapacity) {
+        checkArgument(initialCapacity >= 0, "initialCapacity must not be negative");
+        this.memory = new Memory(pool, pool.allocate(initialCapacity));
+        this.indexes = new Indexes();
+        this.order = ByteOrder.BIG_ENDIAN;
+        this.offset = 0;
+        this.capacity = -1;
+    }
+
+    private PooledChannelBuf(Memory memory, Indexes indexes, ByteOrder order, int offset, int capacity) {
+        this.memory = memory;
+        this.indexes = indexes;
+        this.order = order;
+        this.offset = offset;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the memory of this buffer in the byte order of this buffer.
+     *
+     * @return The memory
+     */
+    private ByteBuffer memory() {
+        checkState(this.memory.refCnt.get() > 0, "The buffer was released");
+        return this.order == ByteOrder.BIG_ENDIAN ? this.memory.buffer : this.memory.getSwapped();
+    }
+
+    /**
+     * Checks that the given region can be accessed.
+     *
+     * @param index The index of the region
+     * @param length The length of the region
+     * @return The index of the region in the memory
+     */
+    private int checkIndex(int index, int length) {
+        if (index < 0 || length < 0 || index > getCapacity() - length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length + ", capacity: " + getCapacity());
+        }
+        return this.offset + index;
+    }
+
+    /**
+     * Checks that the given number of bytes can be read and increases the
+     * readerIndex by it.
+     *
+     * @param length The number of bytes
+     * @return The previous readerIndex in the memory
+     */
+    private int read(int length) {
+        int index = this.indexes.reader;
+        if (length < 0 || length > this.indexes.writer - index) {
+            throw new IndexOutOfBoundsException("readerIndex: " + index + ", length: " + length + ", writerIndex: " + this.indexes.writer);
+        }
+        this.indexes.reader = index + length;
+        return this.offset + index;
+    }
+
+    /**
+     * Grows the buffer if the given number of bytes can't be written and
+     * increases the writerIndex by it.
+     *
+     * @param length The number of bytes
+     * @return The previous writerIndex in the memory
+     */
+    private int write(int length) {
+        int index = this.indexes.writer;
+        ensureWritable(length);
+        this.indexes.writer = index + length;
+        return this.offset + index;
+    }
+
+    private void ensureWritable(int length) {
+        int required = this.indexes.writer + length;
+        if (length < 0 || required < 0) {
+            throw new IndexOutOfBoundsException("writerIndex: " + this.indexes.writer + ", length: " + length);
+        }
+        if (required > getCapacity()) {
+            if (this.capacity >= 0) {
+                throw new IndexOutOfBoundsException("writerIndex: " + this.indexes.writer + ", length: " + length + ", capacity: " + this.capacity);
+            }
+            memory();
+            this.memory.grow(required);
+        }
+    }
+
+    @Override
+    public int refCnt() {
+        return this.memory.refCnt.get();
+    }
+
+    @Override
+    public ChannelBuf retain() {
+        while (true) {
+            int refCnt = this.memory.refCnt.get();
+            checkState(refCnt > 0, "The buffer was released");
+            if (this.memory.refCnt.compareAndSet(refCnt, refCnt + 1)) {
+                return this;
+            }
+        }
+    }
+
+    @Override
+    public boolean release() {
+        while (true) {
+            int refCnt = this.memory.refCnt.get();
+            checkState(refCnt > 0, "The buffer was released");
+            if (this.memory.refCnt.compareAndSet(refCnt, refCnt - 1)) {
+                if (refCnt == 1) {
+                    this.memory.pool.recycle(this.memory.buffer);
+                    return true;
+                }
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return this.capacity >= 0 ? this.capacity : this.memory.buffer.capacity();
+    }
+
+    @Override
+    public int available() {
+        return this.indexes.writer - this.indexes.reader;
+    }
+
+    @Override
+    public ChannelBuf order(ByteOrder order) {
+        if (checkNotNull(order, "order") == this.order) {
+            return this;
+        }
+        return new PooledChannelBuf(this.memory, this.indexes, order, this.offset, this.capacity);
+    }
+
+    @Override
+    public ByteOrder getByteOrder() {
+        return this.order;
+    }
+
+    @Override
+    public int readerIndex() {
+        return this.indexes.reader;
+    }
+
+    @Override
+    public ChannelBuf setReadIndex(int index) {
+        return setIndex(index, this.indexes.writer);
+    }
+
+    @Override
+    public int writerIndex() {
+        return this.indexes.writer;
+    }
+
+    @Override
+    public ChannelBuf setWriteIndex(int index) {
+        return setIndex(this.indexes.reader, index);
+    }
+
+    @Override
+    public ChannelBuf setIndex(int readIndex, int writeIndex) {
+        if (readIndex < 0 || readIndex > writeIndex || writeIndex > getCapacity()) {
+            throw new IndexOutOfBoundsException("readerIndex: " + readIndex + ", writerIndex: " + writeIndex + ", capacity: " + getCapacity());
+        }
+        this.indexes.reader = readIndex;
+        this.indexes.writer = writeIndex;
+        return this;
+    }
+
+    @Override
+    public ChannelBuf clear() {
+        this.indexes.reader = 0;
+        this.indexes.writer = 0;
+        return this;
+    }
+
+    @Override
+    public ChannelBuf markRead() {
+        this.indexes.markedReader = this.indexes.reader;
+        return this;
+    }
+
+    @Override
+    public ChannelBuf markWrite() {
+        this.indexes.markedWriter = this.indexes.writer;
+        return this;
+    }
+
+    @Override
+    public ChannelBuf resetRead() {
+        return setReadIndex(this.indexes.markedReader);
+    }
+
+    @Override
+    public ChannelBuf resetWrite() {
+        return setWriteIndex(this.indexes.markedWriter);
+    }
+
+    @Override
+    public ChannelBuf slice() {
+        return slice(this.indexes.reader, available());
+    }
+
+    @Override
+    public ChannelBuf slice(int index, int length) {
+        int start = checkIndex(index, length);
+        memory();
+        Indexes indexes = new Indexes();
+        indexes.writer = length;
+        return new PooledChannelBuf(this.memory, indexes, this.order, start, length);
+    }
+
+    @Override
+    public byte[] array() {
+        byte[] array = new byte[getCapacity()];
+        nioBuffer(0, array.length).get(array);
+        return array;
+    }
+
+    @Override
+    public ByteBuffer nioBuffer(int index, int length) {
+        int start = checkIndex(index, length);
+        ByteBuffer buffer = memory().duplicate();
+        buffer.limit(start + length).position(start);
+        return buffer.slice().order(this.order);
+    }
+
+    /**
+     * Gets a view of the memory starting at the given index.
+     *
+     * @param start The index in the memory
+     * @return The view, in the byte order of this buffer
+     */
+    private ByteBuffer view(int start) {
+        ByteBuffer buffer = memory().duplicate();
+        buffer.position(start);
+        return buffer.order(this.order);
+    }
+
+    @Override
+    public ChannelBuf writeBoolean(boolean data) {
+        return writeByte((byte) (data ? 1 : 0));
+    }
+
+    @Override
+    public ChannelBuf setBoolean(int index, boolean data) {
+        return setByte(index, (byte) (data ? 1 : 0));
+    }
+
+    @Override
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return getByte(index) != 0;
+    }
+
+    @Override
+    public ChannelBuf writeByte(byte data) {
+        int index = write(1);
+        memory().put(index, data);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setByte(int index, byte data) {
+        memory().put(checkIndex(index, 1), data);
+        return this;
+    }
+
+    @Override
+    public byte readByte() {
+        return memory().get(read(1));
+    }
+
+    @Override
+    public byte getByte(int index) {
+        return memory().get(checkIndex(index, 1));
+    }
+
+    @Override
+    public ChannelBuf writeBytes(byte[] data, int offset, int length) {
+        checkIndexes(data.length, offset, length);
+        view(write(length)).put(data, offset, length);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf writeBytes(ByteBuffer data) {
+        view(write(data.remaining())).put(data.duplicate());
+        return this;
+    }
+
+    @Override
+    public ChannelBuf readBytes(byte[] dst, int offset, int length) {
+        checkIndexes(dst.length, offset, length);
+        view(read(length)).get(dst, offset, length);
+        return this;
+    }
+
+    private static void checkIndexes(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + arrayLength);
+        }
+    }
+
+    @Override
+    public ChannelBuf writeShort(short data) {
+        int index = write(2);
+        memory().putShort(index, data);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setShort(int index, short data) {
+        memory().putShort(checkIndex(index, 2), data);
+        return this;
+    }
+
+    @Override
+    public short readShort() {
+        return memory().getShort(read(2));
+    }
+
+    @Override
+    public short getShort(int index) {
+        return memory().getShort(checkIndex(index, 2));
+    }
+
+    @Override
+    public ChannelBuf writeChar(char data) {
+        int index = write(2);
+        memory().putChar(index, data);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setChar(int index, char data) {
+        memory().putChar(checkIndex(index, 2), data);
+        return this;
+    }
+
+    @Override
+    public char readChar() {
+        return memory().getChar(read(2));
+    }
+
+    @Override
+    public char getChar(int index) {
+        return memory().getChar(checkIndex(index, 2));
+    }
+
+    @Override
+    public ChannelBuf writeInteger(int data) {
+        int index = write(4);
+        memory().putInt(index, data);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setInteger(int index, int data) {
+        memory().putInt(checkIndex(index, 4), data);
+        return this;
+    }
+
+    @Override
+    public int readInteger() {
+        return memory().getInt(read(4));
+    }
+
+    @Override
+    public int getInteger(int index) {
+        return memory().getInt(checkIndex(index, 4));
+    }
+
+    @Override
+    public ChannelBuf writeIntegers(int[] data, int offset, int length) {
+        checkIndexes(data.length, offset, length);
+        view(write(length * 4)).asIntBuffer().put(data, offset, length);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf readIntegers(int[] dst, int offset, int length) {
+        checkIndexes(dst.length, offset, length);
+        view(read(length * 4)).asIntBuffer().get(dst, offset, length);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf writeLong(long data) {
+        int index = write(8);
+        memory().putLong(index, data);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setLong(int index, long data) {
+        memory().putLong(checkIndex(index, 8), data);
+        return this;
+    }
+
+    @Override
+    public long readLong() {
+        return memory().getLong(read(8));
+    }
+
+    @Override
+    public long getLong(int index) {
+        return memory().getLong(checkIndex(index, 8));
+    }
+
+    @Override
+    public ChannelBuf writeLongs(long[] data, int offset, int length) {
+        checkIndexes(data.length, offset, length);
+        view(write(length * 8)).asLongBuffer().put(data, offset, length);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf readLongs(long[] dst, int offset, int length) {
+        checkIndexes(dst.length, offset, length);
+        view(read(length * 8)).asLongBuffer().get(dst, offset, length);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf writeFloat(float data) {
+        int index = write(4);
+        memory().putFloat(index, data);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setFloat(int index, float data) {
+        memory().putFloat(checkIndex(index, 4), data);
+        return this;
+    }
+
+    @Override
+    public float readFloat() {
+        return memory().getFloat(read(4));
+    }
+
+    @Override
+    public float getFloat(int index) {
+        return memory().getFloat(checkIndex(index, 4));
+    }
+
+    @Override
+    public ChannelBuf writeFloats(float[] data, int offset, int length) {
+        checkIndexes(data.length, offset, length);
+        view(write(length * 4)).asFloatBuffer().put(data, offset, length);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf readFloats(float[] dst, int offset, int length) {
+        checkIndexes(dst.length, offset, length);
+        view(read(length * 4)).asFloatBuffer().get(dst, offset, length);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf writeDouble(double data) {
+        int index = write(8);
+        memory().putDouble(index, data);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setDouble(int index, double data) {
+        memory().putDouble(checkIndex(index, 8), data);
+        return this;
+    }
+
+    @Override
+    public double readDouble() {
+        return memory().getDouble(read(8));
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return memory().getDouble(checkIndex(index, 8));
+    }
+
+    @Override
+    public ChannelBuf writeDoubles(double[] data, int offset, int length) {
+        checkIndexes(data.length, offset, length);
+        view(write(length * 8)).asDoubleBuffer().put(data, offset, length);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf readDoubles(double[] dst, int offset, int length) {
+        checkIndexes(dst.length, offset, length);
+        view(read(length * 8)).asDoubleBuffer().get(dst, offset, length);
+        return this;
+    }
+
+    /**
+     * Gets the number of bytes of the integer in the encoding of
+     * {@link #putVarInt(ByteBuffer, int, int)}.
+     *
+     * @param data The integer
+     * @return The number of bytes
+     */
+    private static int getVarIntSize(int data) {
+        int size = 1;
+        while ((data & ~0x7F) != 0) {
+            data >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Puts the integer in 1 to 5 bytes, 7 bits per byte starting with the
+     * least significant bits. The most significant bit of each byte is set
+     * if more bytes follow.
+     *
+     * @param memory The memory
+     * @param index The index in the memory
+     * @param data The integer
+     */
+    private static void putVarInt(ByteBuffer memory, int index, int data) {
+        while ((data & ~0x7F) != 0) {
+            memory.put(index++, (byte) (data & 0x7F | 0x80));
+            data >>>= 7;
+        }
+        memory.put(index, (byte) data);
+    }
+
+    @Override
+    public ChannelBuf writeVarInt(int data) {
+        int index = write(getVarIntSize(data));
+        putVarInt(memory(), index, data);
+        return this;
+    }
+
+    @Override
+    public int readVarInt() {
+        ByteBuffer memory = memory();
+        int index = this.indexes.reader;
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (index >= this.indexes.writer) {
+                throw new IndexOutOfBoundsException("readerIndex: " + this.indexes.reader + ", writerIndex: " + this.indexes.writer);
+            }
+            byte b = memory.get(this.offset + index++);
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                this.indexes.reader = index;
+                return result;
+            }
+        }
+        throw new IllegalStateException("VarInt is too long");
+    }
+
+    @Override
+    public ChannelBuf writeVarLong(long data) {
+        int size = 1;
+        for (long remaining = data >>> 7; remaining != 0; remaining >>>= 7) {
+            size++;
+        }
+        int index = write(size);
+        ByteBuffer memory = memory();
+        while ((data & ~0x7FL) != 0) {
+            memory.put(index++, (byte) (data & 0x7F | 0x80));
+            data >>>= 7;
+        }
+        memory.put(index, (byte) data);
+        return this;
+    }
+
+    @Override
+    public long readVarLong() {
+        ByteBuffer memory = memory();
+        int index = this.indexes.reader;
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            if (index >= this.indexes.writer) {
+                throw new IndexOutOfBoundsException("readerIndex: " + this.indexes.reader + ", writerIndex: " + this.indexes.writer);
+            }
+            byte b = memory.get(this.offset + index++);
+            result |= (b & 0x7FL) << shift;
+            if (b >= 0) {
+                this.indexes.reader = index;
+                return result;
+            }
+        }
+        throw new IllegalStateException("VarLong is too long");
+    }
+
+    @Override
+    public ChannelBuf writeUtf8(CharSequence data) {
+        int length = Utf8.getEncodedLength(checkNotNull(data, "data"));
+        int size = getVarIntSize(length);
+        putUtf8(write(size + length), size, length, data);
+        return this;
+    }
+
+    private void putUtf8(int start, int size, int length, CharSequence data) {
+        ByteBuffer memory = memory();
+        putVarInt(memory, start, length);
+        Utf8.encode(data, memory, start + size);
+    }
+
+    @Override
+    public String readUtf8() {
+        int length = readVarInt();
+        ByteBuffer memory = memory();
+        int start = read(length);
+        StringBuilder builder = new StringBuilder(length);
+        Utf8.decode(memory, start, length, builder);
+        return builder.toString();
+    }
+
+    @Override
+    public ChannelBuf readUtf8(StringBuilder dst) {
+        int length = readVarInt();
+        int start = read(length);
+        Utf8.decode(memory(), start, length, dst);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf writeString(String data) {
+        return writeUtf8(data);
+    }
+
+    @Override
+    public ChannelBuf setString(int index, String data) {
+        int length = Utf8.getEncodedLength(checkNotNull(data, "data"));
+        int size = getVarIntSize(length);
+        putUtf8(checkIndex(index, size + length), size, length, data);
+        return this;
+    }
+
+    @Override
+    public String readString() {
+        return readUtf8();
+    }
+
+    @Override
+    public String getString(int index) {
+        return slice(index, getCapacity() - index).readString();
+    }
+
+    @Override
+    public ChannelBuf writeUniqueId(UUID data) {
+        checkNotNull(data, "data");
+        int index = write(16);
+        memory().putLong(index, data.getMostSignificantBits()).putLong(index + 8, data.getLeastSignificantBits());
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setUniqueId(int index, UUID data) {
+        checkNotNull(data, "data");
+        int start = checkIndex(index, 16);
+        memory().putLong(start, data.getMostSignificantBits()).putLong(start + 8, data.getLeastSignificantBits());
+        return this;
+    }
+
+    @Override
+    public UUID readUniqueId() {
+        int index = read(16);
+        ByteBuffer memory = memory();
+        return new UUID(memory.getLong(index), memory.getLong(index + 8));
+    }
+
+    @Override
+    public UUID getUniqueId(int index) {
+        int start = checkIndex(index, 16);
+        ByteBuffer memory = memory();
+        return new UUID(memory.getLong(start), memory.getLong(start + 8));
+    }
+
+    @Override
+    public ChannelBuf writeDataView(DataView data) {
+        DataViewCodec.write(this, checkNotNull(data, "data"));
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setDataView(int index, DataView data) {
+        checkNotNull(data, "data");
+        ChannelBuf encoded = new PooledChannelBuf(this.memory.pool, 0);
+        try {
+            DataViewCodec.write(encoded, data);
+            int start = checkIndex(index, encoded.available());
+            view(start).put(encoded.nioBuffer());
+        } finally {
+            encoded.release();
+        }
+        return this;
+    }
+
+    @Override
+    public DataView readDataView() {
+        return DataViewCodec.read(this);
+    }
+
+    @Override
+    public DataView getDataView(int index) {
+        return DataViewCodec.read(slice(index, getCapacity() - index));
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("readerIndex", this.indexes.reader)
+                .add("writerIndex", this.indexes.writer)
+                .add("capacity", getCapacity())
+                .add("order", this.order)
+                .add("direct", this.memory.buffer.isDirect())
+                .add("refCnt", refCnt())
+                .toString();
+    }
+
+    /**
+     * The indexes and marks of a buffer, shared with the buffers returned by
+     * {@link #order(ByteOrder)}.
+     */
+    private static final class Indexes {
+
+        int reader;
+        int writer;
+        int markedReader;
+        int markedWriter;
+    }
+
+    /**
+     * The memory and reference count of a buffer, shared with its slices.
+     */
+    private static final class Memory {
+
+        final PooledChannelBufAllocator.Pool pool;
+        final AtomicInteger refCnt = new AtomicInteger(1);
+        ByteBuffer buffer;
+        @Nullable private ByteBuffer swapped;
+
+        Memory(PooledChannelBufAllocator.Pool pool, ByteBuffer buffer) {
+            this.pool = pool;
+            this.buffer = buffer;
+        }
+
+        ByteBuffer getSwapped() {
+            @Nullable ByteBuffer swapped = this.swapped;
+            if (swapped == null) {
+                this.swapped = swapped = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return swapped;
+        }
+
+        void grow(int required) {
+            ByteBuffer buffer = this.pool.allocate(Math.max(required, this.buffer.capacity() * 2));
+            ByteBuffer old = this.buffer.duplicate();
+            old.clear();
+            buffer.put(old).clear();
+            // The old memory isn't recycled, as views returned by nioBuffer
+            // may still refer to it
+            this.buffer = buffer;
+            this.swapped = null;
+        }
+    }
+
+}
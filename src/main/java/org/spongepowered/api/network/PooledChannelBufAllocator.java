@@ -0,0 +1,207 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Objects;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ChannelBufAllocator} that keeps the memory of released buffers in
+ * a pool.
+ *
+ * <p>Capacities are rounded up to powers of two, and the pool keeps a limited
+ * number of released buffers for each capacity up to a maximum capacity.
+ * Larger buffers are left to the garbage collector.</p>
+ *
+ * <p>This class is thread-safe, the buffers it allocates are not.</p>
+ */
+public final class PooledChannelBufAllocator implements ChannelBufAllocator {
+
+    /**
+     * The allocator used by {@link ChannelRegistrar#getBufferAllocator()}
+     * unless the implementation provides its own.
+     */
+    public static final PooledChannelBufAllocator DEFAULT = new PooledChannelBufAllocator(32, 1 << 16);
+
+    static final int MIN_CAPACITY = 64;
+
+    private final Pool heap;
+    private final Pool direct;
+
+    /**
+     * Creates a new allocator.
+     *
+     * @param maxPooledPerCapacity The maximum number of released buffers to
+     *        keep for each capacity
+     * @param maxPooledCapacity The maximum capacity of pooled buffers
+     */
+    public PooledChannelBufAllocator(int maxPooledPerCapacity, int maxPooledCapacity) {
+        checkArgument(maxPooledPerCapacity >= 0, "maxPooledPerCapacity must not be negative");
+        checkArgument(maxPooledCapacity >= MIN_CAPACITY, "maxPooledCapacity must be at least %s", MIN_CAPACITY);
+        this.heap = new Pool(false, maxPooledPerCapacity, maxPooledCapacity);
+        this.direct = new Pool(true, maxPooledPerCapacity, maxPooledCapacity);
+    }
+
+    @Override
+    public ChannelBuf buffer(int initialCapacity) {
+        return new PooledChannelBuf(this.heap, initialCapacity);
+    }
+
+    @Override
+    public ChannelBuf directBuffer(int initialCapacity) {
+        return new PooledChannelBuf(this.direct, initialCapacity);
+    }
+
+    /**
+     * Gets the number of released buffers that are currently kept in the
+     * pool.
+     *
+     * @return The number of pooled buffers
+     */
+    public int getPooledCount() {
+        return this.heap.getPooledCount() + this.direct.getPooledCount();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("heap", this.heap.getPooledCount())
+                .add("direct", this.direct.getPooledCount())
+                .toString();
+    }
+
+    /**
+     * Rounds the given capacity up to a capacity of the pool.
+     *
+     * @param capacity The capacity
+     * @return The rounded capacity
+     */
+    static int roundCapacity(int capacity) {
+        if (capacity <= MIN_CAPACITY) {
+            return MIN_CAPACITY;
+        }
+        int rounded = Integer.highestOneBit(capacity - 1) << 1;
+        return rounded < 0 ? Integer.MAX_VALUE : rounded;
+    }
+
+    /**
+     * The released memory of either heap or direct buffers.
+     */
+    static final class Pool {
+
+        private final boolean direct;
+        private final int maxPooledPerCapacity;
+        private final int maxPooledCapacity;
+        private final Queue<ByteBuffer>[] queues;
+        private final AtomicInteger[] counts;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Pool(boolean direct, int maxPooledPerCapacity, int maxPooledCapacity) {
+            this.direct = direct;
+            this.maxPooledPerCapacity = maxPooledPerCapacity;
+            this.maxPooledCapacity = roundCapacity(maxPooledCapacity);
+            int classes = indexOf(this.maxPooledCapacity) + 1;
+            this.queues = new Queue[classes];
+            this.counts = new AtomicInteger[classes];
+            for (int i = 0; i < classes; i++) {
+                this.queues[i] = new ConcurrentLinkedQueue<>();
+                this.counts[i] = new AtomicInteger();
+            }
+        }
+
+        private static int indexOf(int roundedCapacity) {
+            return Integer.numberOfTrailingZeros(roundedCapacity) - Integer.numberOfTrailingZeros(MIN_CAPACITY);
+        }
+
+        /**
+         * Takes a buffer of at least the given capacity from the pool, or
+         * allocates a new one.
+         *
+         * @param capacity The minimum capacity
+         * @return The buffer, in big endian byte order
+         */
+        ByteBuffer allocate(int capacity) {
+            int rounded = roundCapacity(capacity);
+            if (rounded <= this.maxPooledCapacity) {
+                int index = indexOf(rounded);
+                @Nullable ByteBuffer buffer = this.queues[index].poll();
+                if (buffer != null) {
+                    this.counts[index].decrementAndGet();
+                    buffer.clear();
+                    return buffer;
+                }
+            }
+            return this.direct ? ByteBuffer.allocateDirect(rounded) : ByteBuffer.allocate(rounded);
+        }
+
+        /**
+         * Returns the buffer to the pool if there is room for it. The content
+         * of pooled buffers is cleared, so it isn't visible to the next owner.
+         *
+         * @param buffer The buffer that is no longer used
+         */
+        void recycle(ByteBuffer buffer) {
+            int capacity = buffer.capacity();
+            if (capacity <= this.maxPooledCapacity && roundCapacity(capacity) == capacity) {
+                int index = indexOf(capacity);
+                if (this.counts[index].incrementAndGet() <= this.maxPooledPerCapacity) {
+                    zero(buffer);
+                    this.queues[index].offer(buffer);
+                } else {
+                    this.counts[index].decrementAndGet();
+                }
+            }
+        }
+
+        private static void zero(ByteBuffer buffer) {
+            if (buffer.hasArray()) {
+                Arrays.fill(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.capacity(), (byte) 0);
+            } else {
+                // Pooled capacities are multiples of MIN_CAPACITY
+                for (int i = 0; i < buffer.capacity(); i += 8) {
+                    buffer.putLong(i, 0);
+                }
+            }
+        }
+
+        int getPooledCount() {
+            int count = 0;
+            for (AtomicInteger c : this.counts) {
+                count += c.get();
+            }
+            return count;
+        }
+    }
+
+}
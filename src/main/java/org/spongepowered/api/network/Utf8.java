@@ -0,0 +1,154 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes UTF-8 at absolute indexes of {@link ByteBuffer}s,
+ * without allocating intermediate arrays.
+ *
+ * <p>Unpaired surrogates are encoded as '?', like
+ * {@link String#getBytes(java.nio.charset.Charset)} does, and malformed input
+ * is decoded as the replacement character U+FFFD.</p>
+ */
+final class Utf8 {
+
+    private static final char REPLACEMENT = (char) 0xFFFD;
+
+    private Utf8() {
+    }
+
+    /**
+     * Gets the number of bytes of the given characters in UTF-8.
+     *
+     * @param data The characters
+     * @return The number of bytes
+     */
+    static int getEncodedLength(CharSequence data) {
+        int length = data.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = data.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+                    // 4 bytes for 2 characters
+                    bytes += 2;
+                    i++;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Encodes the characters, starting at the given index of the buffer.
+     * The buffer must have room for {@link #getEncodedLength(CharSequence)}
+     * bytes.
+     *
+     * @param data The characters
+     * @param dst The buffer
+     * @param index The index in the buffer
+     */
+    static void encode(CharSequence data, ByteBuffer dst, int index) {
+        int length = data.length();
+        for (int i = 0; i < length; i++) {
+            char c = data.charAt(i);
+            if (c < 0x80) {
+                dst.put(index++, (byte) c);
+            } else if (c < 0x800) {
+                dst.put(index++, (byte) (0xC0 | c >> 6));
+                dst.put(index++, (byte) (0x80 | c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                dst.put(index++, (byte) (0xE0 | c >> 12));
+                dst.put(index++, (byte) (0x80 | c >> 6 & 0x3F));
+                dst.put(index++, (byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                dst.put(index++, (byte) (0xF0 | codePoint >> 18));
+                dst.put(index++, (byte) (0x80 | codePoint >> 12 & 0x3F));
+                dst.put(index++, (byte) (0x80 | codePoint >> 6 & 0x3F));
+                dst.put(index++, (byte) (0x80 | codePoint & 0x3F));
+            } else {
+                dst.put(index++, (byte) '?');
+            }
+        }
+    }
+
+    /**
+     * Decodes the given region of the buffer and appends the characters to
+     * the string builder.
+     *
+     * @param src The buffer
+     * @param index The index of the region in the buffer
+     * @param length The number of bytes
+     * @param dst The string builder
+     */
+    static void decode(ByteBuffer src, int index, int length, StringBuilder dst) {
+        int end = index + length;
+        while (index < end) {
+            int b = src.get(index++);
+            if (b >= 0) {
+                dst.append((char) b);
+                continue;
+            }
+            int following;
+            int codePoint;
+            int min;
+            if ((b & 0xE0) == 0xC0) {
+                following = 1;
+                codePoint = b & 0x1F;
+                min = 0x80;
+            } else if ((b & 0xF0) == 0xE0) {
+                following = 2;
+                codePoint = b & 0x0F;
+                min = 0x800;
+            } else if ((b & 0xF8) == 0xF0) {
+                following = 3;
+                codePoint = b & 0x07;
+                min = 0x10000;
+            } else {
+                dst.append(REPLACEMENT);
+                continue;
+            }
+            int read = 0;
+            while (read < following && index < end && (src.get(index) & 0xC0) == 0x80) {
+                codePoint = codePoint << 6 | src.get(index++) & 0x3F;
+                read++;
+            }
+            if (read < following || codePoint < min || codePoint > Character.MAX_CODE_POINT
+                    || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                dst.append(REPLACEMENT);
+            } else {
+                dst.appendCodePoint(codePoint);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import com.google.common.base.Objects;
+
+/**
+ * A snapshot of the statistics of the asynchronous event dispatch of an
+ * {@link EventManager}, which can be used to detect when asynchronous
+ * listeners can't keep up with the posted events.
+ *
+ * <p>Each posted event with at least one asynchronous listener is queued once
+ * and its asynchronous listeners are then called in order. The counters are
+ * cumulative since the creation of the event manager.</p>
+ */
+public final class AsyncEventStatistics {
+
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final long submittedEvents;
+    private final long completedEvents;
+    private final long droppedEvents;
+    private final long lateEvents;
+
+    /**
+     * Creates a new {@link AsyncEventStatistics} snapshot.
+     *
+     * @param queueDepth The number of events waiting to be dispatched
+     * @param queueCapacity The maximum number of events that can wait to be
+     *        dispatched
+     * @param submittedEvents The number of events that were queued
+     * @param completedEvents The number of events that were dispatched to all
+     *        asynchronous listeners
+     * @param droppedEvents The number of events that were not dispatched to the
+     *        asynchronous listeners because the queue was full
+     * @param lateEvents The number of events that were dispatched later than
+     *        the configured delay after being posted
+     */
+    public AsyncEventStatistics(int queueDepth, int queueCapacity, long submittedEvents, long completedEvents, long droppedEvents,
+            long lateEvents) {
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.submittedEvents = submittedEvents;
+        this.completedEvents = completedEvents;
+        this.droppedEvents = droppedEvents;
+        this.lateEvents = lateEvents;
+    }
+
+    /**
+     * Gets the number of events that are waiting to be dispatched to the
+     * asynchronous listeners.
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * Gets the maximum number of events that can wait to be dispatched to
+     * the asynchronous listeners before further events are dropped.
+     *
+     * @return The queue capacity
+     */
+    public int getQueueCapacity() {
+        return this.queueCapacity;
+    }
+
+    /**
+     * Gets the number of events that were queued to be dispatched to the
+     * asynchronous listeners.
+     *
+     * @return The number of submitted events
+     */
+    public long getSubmittedEvents() {
+        return this.submittedEvents;
+    }
+
+    /**
+     * Gets the number of events that were dispatched to all of their
+     * asynchronous listeners.
+     *
+     * @return The number of completed events
+     */
+    public long getCompletedEvents() {
+        return this.completedEvents;
+    }
+
+    /**
+     * Gets the number of events that were not dispatched to the asynchronous
+     * listeners because the queue was full.
+     *
+     * @return The number of dropped events
+     */
+    public long getDroppedEvents() {
+        return this.droppedEvents;
+    }
+
+    /**
+     * Gets the number of events whose dispatch to the asynchronous listeners
+     * started later than the delay configured for the event manager.
+     *
+     * @return The number of late events
+     */
+    public long getLateEvents() {
+        return this.lateEvents;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("queueDepth", this.queueDepth)
+                .add("queueCapacity", this.queueCapacity)
+                .add("submittedEvents", this.submittedEvents)
+                .add("completedEvents", this.completedEvents)
+                .add("droppedEvents", this.droppedEvents)
+                .add("lateEvents", this.lateEvents)
+                .toString();
+    }
+
+}
@@ -28,6 +28,11 @@
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Manages the registration of event listeners and the dispatching of events.
@@ -99,6 +104,24 @@ public interface EventManager {
     <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
                                     EventListener<? super T> listener);
 
+    /**
+     * Registers an event listener that is called asynchronously for a
+     * specific event class, see {@link Listener#async()}.
+     *
+     * <p>Asynchronous listeners are called in the specified order after all
+     * synchronous listeners were called. They receive a read-only view of
+     * the event, so they can't cancel or modify it.</p>
+     *
+     * @param plugin The plugin instance
+     * @param eventClass The event interface to listen to
+     * @param order The order the listener will get called at, relative to
+     *        other asynchronous listeners
+     * @param listener The listener to receive the events
+     * @param <T> The type of the event
+     * @throws IllegalArgumentException If the event class is not an interface
+     */
+    <T extends Event> void registerAsyncListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> listener);
+
     /**
      * Un-registers an object from receiving {@link Event}s.
      *
@@ -113,12 +136,108 @@ <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Orde
      */
     void unregisterPluginListeners(Object plugin);
 
+    /**
+     * Gets the listeners that are called when an event of the given class is
+     * posted, in the order they are called. This includes the listeners
+     * registered for any of the supertypes of the event class.
+     *
+     * <p>The returned list is an immutable snapshot. Implementations are
+     * expected to compute it once per event class and to only recompute it
+     * after a listener was registered or unregistered, so that
+     * {@link #post(Event)} does not need to resolve the type hierarchy of
+     * the posted event.</p>
+     *
+     * @param eventClass The event class
+     * @param <T> The type of the event
+     * @return The listeners for the event class
+     */
+    <T extends Event> List<RegisteredListener<? super T>> getListeners(Class<T> eventClass);
+
+    /**
+     * Checks whether any listener would be called when an event of the given
+     * class is posted.
+     *
+     * <p>This check is expected to be cheap, so it can be used to skip
+     * constructing events that nobody listens to. Note that listeners
+     * registered for the implementation class of an event rather than one of
+     * its interfaces are not taken into account when checking the event
+     * interface.</p>
+     *
+     * @param eventClass The event class
+     * @return True if there is at least one listener for the event class
+     */
+    boolean hasListeners(Class<? extends Event> eventClass);
+
+    /**
+     * Gets a snapshot of the statistics of the asynchronous event dispatch,
+     * such as the number of events waiting to be dispatched to asynchronous
+     * listeners or dropped because too many events were waiting.
+     *
+     * @return The asynchronous event statistics
+     */
+    AsyncEventStatistics getAsyncStatistics();
+
+    /**
+     * Gets whether the time spent in each listener is recorded, see
+     * {@link #getTimings()}.
+     *
+     * @return Whether timings are enabled
+     */
+    boolean isTimingsEnabled();
+
+    /**
+     * Sets whether the time spent in each listener is recorded, see
+     * {@link #getTimings()}. Timings are disabled by default, in which case
+     * they don't add any overhead to calling listeners.
+     *
+     * @param enabled Whether timings are enabled
+     */
+    void setTimingsEnabled(boolean enabled);
+
+    /**
+     * Gets a snapshot of the time spent in each listener for each posted
+     * event class, grouped by the plugin that registered the listener. The
+     * timings of each plugin are sorted by the total time spent, longest
+     * first.
+     *
+     * <p>Timings are only recorded while they are
+     * {@link #setTimingsEnabled(boolean) enabled}. They are kept for
+     * listeners that have been unregistered until {@link #resetTimings()} is
+     * called.</p>
+     *
+     * @return The timings by plugin
+     */
+    Map<PluginContainer, List<ListenerTimings>> getTimings();
+
+    /**
+     * Discards all recorded timings.
+     */
+    void resetTimings();
+
     /**
      * Calls a {@link Event} to all listeners that listen to it.
      *
+     * <p>Asynchronous listeners are not called before this method returns,
+     * instead the event is queued to be dispatched to them.</p>
+     *
      * @param event The event
      * @return True if cancelled, false if not
      */
     boolean post(Event event);
 
+    /**
+     * Calls the {@link Event} created by the given supplier to all listeners
+     * that listen to it. The event is only created if there is at least one
+     * listener for the given event class, see
+     * {@link #hasListeners(Class)}.
+     *
+     * @param eventClass The class of the event to post
+     * @param eventSupplier The supplier creating the event
+     * @param <T> The type of the event
+     * @return True if cancelled, false if not or if the event wasn't created
+     */
+    default <T extends Event> boolean post(Class<T> eventClass, Supplier<? extends T> eventSupplier) {
+        return hasListeners(eventClass) && post(eventSupplier.get());
+    }
+
 }
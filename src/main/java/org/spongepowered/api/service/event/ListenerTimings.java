@@ -0,0 +1,129 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.event.Event;
+
+/**
+ * A snapshot of the time spent in a {@link RegisteredListener} for one
+ * posted event class, see {@link EventManager#getTimings()}.
+ */
+public final class ListenerTimings {
+
+    private final RegisteredListener<?> listener;
+    private final Class<? extends Event> eventClass;
+    private final long invocations;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Creates a new {@link ListenerTimings} snapshot.
+     *
+     * @param listener The listener
+     * @param eventClass The class of the posted events
+     * @param invocations The number of times the listener was called
+     * @param totalNanos The total time spent in the listener, in nanoseconds
+     * @param maxNanos The longest time spent in a single call of the
+     *        listener, in nanoseconds
+     */
+    public ListenerTimings(RegisteredListener<?> listener, Class<? extends Event> eventClass, long invocations, long totalNanos, long maxNanos) {
+        this.listener = checkNotNull(listener, "listener");
+        this.eventClass = checkNotNull(eventClass, "eventClass");
+        this.invocations = invocations;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the listener that was timed.
+     *
+     * @return The listener
+     */
+    public RegisteredListener<?> getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Gets the class of the posted events, which may be a subtype of the
+     * event class the listener was registered for.
+     *
+     * @return The event class
+     */
+    public Class<? extends Event> getEventClass() {
+        return this.eventClass;
+    }
+
+    /**
+     * Gets the number of times the listener was called.
+     *
+     * @return The number of invocations
+     */
+    public long getInvocations() {
+        return this.invocations;
+    }
+
+    /**
+     * Gets the total time spent in the listener, in nanoseconds.
+     *
+     * @return The total time
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+
+    /**
+     * Gets the longest time spent in a single call of the listener, in
+     * nanoseconds.
+     *
+     * @return The maximum time
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Gets the average time spent in a call of the listener, in nanoseconds.
+     *
+     * @return The average time
+     */
+    public long getAverageNanos() {
+        return this.invocations == 0 ? 0 : this.totalNanos / this.invocations;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("listener", this.listener)
+                .add("eventClass", this.eventClass.getName())
+                .add("invocations", this.invocations)
+                .add("totalNanos", this.totalNanos)
+                .add("maxNanos", this.maxNanos)
+                .toString();
+    }
+
+}
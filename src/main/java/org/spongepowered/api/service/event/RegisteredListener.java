@@ -0,0 +1,206 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * Represents an {@link EventListener} that has been registered to an
+ * {@link EventManager}, together with the settings it was registered with.
+ *
+ * <p>Registered listeners are sorted first by whether they are called
+ * {@link #isBeforeModifications() before modifications} and then by their
+ * {@link Order}, which is the order in which they are called when an event is
+ * posted.</p>
+ *
+ * @param <T> The type of event handled by the listener
+ */
+public final class RegisteredListener<T extends Event> implements EventListener<T>, Comparable<RegisteredListener<?>> {
+
+    private final PluginContainer plugin;
+    private final Class<T> eventClass;
+    private final Order order;
+    private final boolean beforeModifications;
+    private final boolean ignoreCancelled;
+    private final boolean async;
+    private final EventListener<? super T> listener;
+    private final Object handle;
+
+    /**
+     * Creates a new {@link RegisteredListener}.
+     *
+     * @param plugin The plugin that registered the listener
+     * @param eventClass The event class the listener was registered for
+     * @param order The order the listener is called at
+     * @param beforeModifications Whether the listener is called before other
+     *        server modifications
+     * @param ignoreCancelled Whether the listener ignores cancelled events
+     * @param listener The listener that handles the events
+     * @param handle The object the listener was registered with, used to
+     *        unregister the listener again
+     */
+    public RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, boolean beforeModifications, boolean ignoreCancelled,
+            EventListener<? super T> listener, Object handle) {
+        this(plugin, eventClass, order, beforeModifications, ignoreCancelled, false, listener, handle);
+    }
+
+    /**
+     * Creates a new {@link RegisteredListener}.
+     *
+     * @param plugin The plugin that registered the listener
+     * @param eventClass The event class the listener was registered for
+     * @param order The order the listener is called at
+     * @param beforeModifications Whether the listener is called before other
+     *        server modifications
+     * @param ignoreCancelled Whether the listener ignores cancelled events
+     * @param async Whether the listener is called asynchronously, after all
+     *        synchronous listeners were called
+     * @param listener The listener that handles the events
+     * @param handle The object the listener was registered with, used to
+     *        unregister the listener again
+     */
+    public RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, boolean beforeModifications, boolean ignoreCancelled,
+            boolean async, EventListener<? super T> listener, Object handle) {
+        checkArgument(!(async && beforeModifications), "Asynchronous listeners can't be called before modifications");
+        this.plugin = checkNotNull(plugin, "plugin");
+        this.eventClass = checkNotNull(eventClass, "eventClass");
+        this.order = checkNotNull(order, "order");
+        this.beforeModifications = beforeModifications;
+        this.ignoreCancelled = ignoreCancelled;
+        this.async = async;
+        this.listener = checkNotNull(listener, "listener");
+        this.handle = checkNotNull(handle, "handle");
+    }
+
+    /**
+     * Gets the plugin that registered this listener.
+     *
+     * @return The plugin container
+     */
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets the event class this listener was registered for.
+     *
+     * @return The event class
+     */
+    public Class<T> getEventClass() {
+        return this.eventClass;
+    }
+
+    /**
+     * Gets the order this listener is called at.
+     *
+     * @return The order
+     */
+    public Order getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Gets whether this listener is called before other server modifications.
+     *
+     * @return Whether the listener is called before modifications
+     */
+    public boolean isBeforeModifications() {
+        return this.beforeModifications;
+    }
+
+    /**
+     * Gets whether this listener ignores events that have already been
+     * cancelled.
+     *
+     * @return Whether cancelled events are ignored
+     */
+    public boolean isIgnoreCancelled() {
+        return this.ignoreCancelled;
+    }
+
+    /**
+     * Gets whether this listener is called asynchronously, after all
+     * synchronous listeners were called.
+     *
+     * @return Whether the listener is called asynchronously
+     */
+    public boolean isAsync() {
+        return this.async;
+    }
+
+    /**
+     * Gets the {@link EventListener} that handles the events.
+     *
+     * @return The event listener
+     */
+    public EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Gets the object this listener was registered with. This is either the
+     * object passed to {@link EventManager#registerListeners(Object, Object)}
+     * or the {@link EventListener} itself.
+     *
+     * @return The handle
+     */
+    public Object getHandle() {
+        return this.handle;
+    }
+
+    @Override
+    public void handle(T event) throws Exception {
+        this.listener.handle(event);
+    }
+
+    @Override
+    public int compareTo(RegisteredListener<?> that) {
+        if (this.beforeModifications != that.beforeModifications) {
+            return this.beforeModifications ? -1 : 1;
+        }
+        return this.order.compareTo(that.order);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("eventClass", this.eventClass.getName())
+                .add("order", this.order)
+                .add("beforeModifications", this.beforeModifications)
+                .add("ignoreCancelled", this.ignoreCancelled)
+                .add("async", this.async)
+                .add("listener", this.listener)
+                .toString();
+    }
+
+}
@@ -0,0 +1,579 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.util.event.factory.EventListenerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+
+/**
+ * The default implementation of {@link EventManager}.
+ *
+ * <p>The listeners for each posted event class are baked into an immutable,
+ * sorted array the first time the event class is posted. The baked arrays
+ * are discarded whenever a listener is registered or unregistered, so
+ * posting an event or checking {@link #hasListeners(Class)} only requires a
+ * single map lookup. Annotated listener methods are called through generated
+ * classes instead of reflection.</p>
+ *
+ * <p>Asynchronous listeners are called on a bounded thread pool. Each posted
+ * event with asynchronous listeners is queued once and its listeners are
+ * then called in order on one of the threads with a read-only view of the
+ * event, so they can't modify the event while the posting thread still uses
+ * it. Events are dropped for the asynchronous listeners if the queue is full
+ * or the thread pool was {@link #shutdown(long, TimeUnit) shut down}.</p>
+ *
+ * <p>If timings are enabled, a timer for each listener is baked together
+ * with the listeners of each event class. The timers use striped counters,
+ * so listeners called concurrently don't contend on them.</p>
+ */
+public class SimpleEventManager implements EventManager {
+
+    private static final RegisteredListener<?>[] NO_LISTENERS = new RegisteredListener<?>[0];
+    private static final BakedListeners NO_BAKED_LISTENERS = new BakedListeners(NO_LISTENERS, NO_LISTENERS, NO_LISTENERS, null, null, null);
+    private static final Comparator<ListenerTimings> TIMINGS_COMPARATOR = (a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos());
+
+    private static final int DEFAULT_ASYNC_THREADS = 2;
+    private static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1024;
+    private static final long DEFAULT_ASYNC_LATE_DELAY_MILLIS = 1000;
+
+    private final Object lock = new Object();
+    private final PluginManager pluginManager;
+    private final EventListenerFactory listenerFactory = new EventListenerFactory("org.spongepowered.api.event.listener");
+    private final SetMultimap<Class<?>, RegisteredListener<?>> listenersByEvent = HashMultimap.create();
+    private final ConcurrentMap<Class<?>, BakedListeners> bakedListeners =
+            new MapMaker().concurrencyLevel(1).weakKeys().makeMap();
+
+    private final ThreadPoolExecutor asyncExecutor;
+    private final int asyncQueueCapacity;
+    private final long asyncLateDelay;
+    private final AtomicLong submittedAsync = new AtomicLong();
+    private final AtomicLong completedAsync = new AtomicLong();
+    private final AtomicLong droppedAsync = new AtomicLong();
+    private final AtomicLong lateAsync = new AtomicLong();
+
+    private volatile boolean timingsEnabled;
+    private final ConcurrentMap<RegisteredListener<?>, ConcurrentMap<Class<?>, ListenerTimer>> timers =
+            new MapMaker().concurrencyLevel(1).makeMap();
+
+    /**
+     * Construct a simple {@link EventManager}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     */
+    @Inject
+    public SimpleEventManager(PluginManager pluginManager) {
+        this(pluginManager, DEFAULT_ASYNC_THREADS, DEFAULT_ASYNC_QUEUE_CAPACITY, DEFAULT_ASYNC_LATE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Construct a simple {@link EventManager} with the given settings for
+     * the asynchronous listeners.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     * @param asyncThreads The number of threads calling asynchronous
+     *            listeners
+     * @param asyncQueueCapacity The maximum number of events waiting for
+     *            their asynchronous listeners to be called
+     * @param asyncLateDelay The delay after which the dispatch of an event
+     *            to its asynchronous listeners is counted as late
+     * @param unit The unit of the delay
+     */
+    public SimpleEventManager(PluginManager pluginManager, int asyncThreads, int asyncQueueCapacity, long asyncLateDelay, TimeUnit unit) {
+        checkNotNull(pluginManager, "pluginManager");
+        checkArgument(asyncThreads > 0, "asyncThreads must be positive");
+        checkArgument(asyncQueueCapacity > 0, "asyncQueueCapacity must be positive");
+        checkNotNull(unit, "unit");
+        this.pluginManager = pluginManager;
+        this.asyncQueueCapacity = asyncQueueCapacity;
+        this.asyncLateDelay = unit.toNanos(asyncLateDelay);
+        this.asyncExecutor = new ThreadPoolExecutor(asyncThreads, asyncThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(asyncQueueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("Sponge Async Event Thread #%d").setDaemon(true).build());
+        this.asyncExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    private PluginContainer getPlugin(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        Optional<PluginContainer> containerOptional = this.pluginManager.fromInstance(plugin);
+        if (!containerOptional.isPresent()) {
+            throw new IllegalArgumentException(
+                    "The provided plugin object does not have an associated plugin container "
+                            + "(in other words, is 'plugin' actually your plugin object?)");
+        }
+        return containerOptional.get();
+    }
+
+    private void register(List<? extends RegisteredListener<?>> listeners) {
+        synchronized (this.lock) {
+            boolean changed = false;
+            for (RegisteredListener<?> listener : listeners) {
+                changed |= this.listenersByEvent.put(listener.getEventClass(), listener);
+            }
+            if (changed) {
+                this.bakedListeners.clear();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void registerListeners(Object plugin, Object obj) {
+        PluginContainer container = getPlugin(plugin);
+        checkNotNull(obj, "obj");
+
+        List<RegisteredListener<?>> listeners = Lists.newArrayList();
+        for (Method method : obj.getClass().getMethods()) {
+            @Nullable Listener annotation = method.getAnnotation(Listener.class);
+            if (annotation == null) {
+                continue;
+            }
+            Class<?>[] parameters = method.getParameterTypes();
+            checkArgument(parameters.length == 1 && Event.class.isAssignableFrom(parameters[0]),
+                    "The listener method %s must have a single event parameter", method);
+            checkArgument(!annotation.async() || parameters[0].isInterface(),
+                    "The asynchronous listener method %s must listen to an event interface", method);
+
+            listeners.add(new RegisteredListener<Event>(container, (Class<Event>) parameters[0], annotation.order(),
+                    annotation.beforeModifications(), annotation.ignoreCancelled(), annotation.async(), this.listenerFactory.create(obj, method),
+                    obj));
+        }
+        register(listeners);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, EventListener<? super T> listener) {
+        registerListener(plugin, eventClass, Order.DEFAULT, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> listener) {
+        registerListener(plugin, eventClass, order, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
+            EventListener<? super T> listener) {
+        PluginContainer container = getPlugin(plugin);
+        register(Collections.singletonList(new RegisteredListener<T>(container, eventClass, order, beforeModifications, false, listener, listener)));
+    }
+
+    @Override
+    public <T extends Event> void registerAsyncListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> listener) {
+        PluginContainer container = getPlugin(plugin);
+        checkArgument(checkNotNull(eventClass, "eventClass").isInterface(), "Asynchronous listeners must listen to an event interface");
+        register(Collections.singletonList(new RegisteredListener<T>(container, eventClass, order, false, false, true, listener, listener)));
+    }
+
+    @Override
+    public void unregisterListeners(Object obj) {
+        checkNotNull(obj, "obj");
+        synchronized (this.lock) {
+            boolean changed = false;
+            for (Iterator<RegisteredListener<?>> it = this.listenersByEvent.values().iterator(); it.hasNext(); ) {
+                if (it.next().getHandle() == obj) {
+                    it.remove();
+                    changed = true;
+                }
+            }
+            if (changed) {
+                this.bakedListeners.clear();
+            }
+        }
+    }
+
+    @Override
+    public void unregisterPluginListeners(Object plugin) {
+        PluginContainer container = getPlugin(plugin);
+        synchronized (this.lock) {
+            boolean changed = false;
+            for (Iterator<RegisteredListener<?>> it = this.listenersByEvent.values().iterator(); it.hasNext(); ) {
+                if (it.next().getPlugin().equals(container)) {
+                    it.remove();
+                    changed = true;
+                }
+            }
+            if (changed) {
+                this.bakedListeners.clear();
+            }
+        }
+    }
+
+    private BakedListeners getBakedListeners(Class<?> eventClass) {
+        @Nullable BakedListeners listeners = this.bakedListeners.get(eventClass);
+        if (listeners != null) {
+            return listeners;
+        }
+
+        // Bake while holding the lock, so the result can't be outdated by a
+        // concurrent registration
+        synchronized (this.lock) {
+            listeners = this.bakedListeners.get(eventClass);
+            if (listeners == null) {
+                List<RegisteredListener<?>> list = Lists.newArrayList();
+                for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes()) {
+                    list.addAll(this.listenersByEvent.get(type));
+                }
+                listeners = list.isEmpty() ? NO_BAKED_LISTENERS : bake(eventClass, list);
+                this.bakedListeners.put(eventClass, listeners);
+            }
+            return listeners;
+        }
+    }
+
+    private BakedListeners bake(Class<?> eventClass, List<RegisteredListener<?>> list) {
+        Collections.sort(list);
+        List<RegisteredListener<?>> sync = Lists.newArrayListWithCapacity(list.size());
+        List<RegisteredListener<?>> async = Lists.newArrayList();
+        for (RegisteredListener<?> listener : list) {
+            (listener.isAsync() ? async : sync).add(listener);
+        }
+        RegisteredListener<?>[] syncArray = sync.toArray(new RegisteredListener<?>[sync.size()]);
+        RegisteredListener<?>[] asyncArray = async.toArray(new RegisteredListener<?>[async.size()]);
+        @Nullable Constructor<?> readOnlyView = async.isEmpty() ? null : getReadOnlyView(eventClass);
+        if (!this.timingsEnabled) {
+            return new BakedListeners(list.toArray(new RegisteredListener<?>[list.size()]), syncArray, asyncArray, null, null, readOnlyView);
+        }
+        return new BakedListeners(list.toArray(new RegisteredListener<?>[list.size()]), syncArray, asyncArray,
+                getTimers(eventClass, syncArray), getTimers(eventClass, asyncArray), readOnlyView);
+    }
+
+    /**
+     * Gets the constructor of a proxy class implementing all interfaces of
+     * the given event class, see {@link ReadOnlyEventHandler}.
+     *
+     * @param eventClass The event class
+     * @return The constructor of the proxy class
+     */
+    private static Constructor<?> getReadOnlyView(Class<?> eventClass) {
+        Set<? extends Class<?>> interfaces = TypeToken.of(eventClass).getTypes().interfaces().rawTypes();
+        try {
+            return Proxy.getProxyClass(eventClass.getClassLoader(), interfaces.toArray(new Class<?>[interfaces.size()]))
+                    .getConstructor(InvocationHandler.class);
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private ListenerTimer[] getTimers(Class<?> eventClass, RegisteredListener<?>[] listeners) {
+        ListenerTimer[] timers = new ListenerTimer[listeners.length];
+        for (int i = 0; i < listeners.length; i++) {
+            @Nullable ConcurrentMap<Class<?>, ListenerTimer> byEvent = this.timers.get(listeners[i]);
+            if (byEvent == null) {
+                byEvent = new MapMaker().concurrencyLevel(1).makeMap();
+                this.timers.put(listeners[i], byEvent);
+            }
+            @Nullable ListenerTimer timer = byEvent.get(eventClass);
+            if (timer == null) {
+                timer = new ListenerTimer();
+                byEvent.put(eventClass, timer);
+            }
+            timers[i] = timer;
+        }
+        return timers;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public <T extends Event> List<RegisteredListener<? super T>> getListeners(Class<T> eventClass) {
+        checkNotNull(eventClass, "eventClass");
+        return (List) Collections.unmodifiableList(Arrays.asList(getBakedListeners(eventClass).all));
+    }
+
+    @Override
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        checkNotNull(eventClass, "eventClass");
+        return getBakedListeners(eventClass).all.length != 0;
+    }
+
+    @Override
+    public AsyncEventStatistics getAsyncStatistics() {
+        return new AsyncEventStatistics(this.asyncExecutor.getQueue().size(), this.asyncQueueCapacity, this.submittedAsync.get(),
+                this.completedAsync.get(), this.droppedAsync.get(), this.lateAsync.get());
+    }
+
+    @Override
+    public boolean isTimingsEnabled() {
+        return this.timingsEnabled;
+    }
+
+    @Override
+    public void setTimingsEnabled(boolean enabled) {
+        synchronized (this.lock) {
+            if (this.timingsEnabled != enabled) {
+                this.timingsEnabled = enabled;
+                // Bake the listeners again with or without timers
+                this.bakedListeners.clear();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<PluginContainer, List<ListenerTimings>> getTimings() {
+        Map<PluginContainer, List<ListenerTimings>> timings = Maps.newLinkedHashMap();
+        for (Map.Entry<RegisteredListener<?>, ConcurrentMap<Class<?>, ListenerTimer>> entry : this.timers.entrySet()) {
+            List<ListenerTimings> list = timings.get(entry.getKey().getPlugin());
+            if (list == null) {
+                list = Lists.newArrayList();
+                timings.put(entry.getKey().getPlugin(), list);
+            }
+            for (Map.Entry<Class<?>, ListenerTimer> timer : entry.getValue().entrySet()) {
+                list.add(timer.getValue().snapshot(entry.getKey(), (Class<? extends Event>) timer.getKey()));
+            }
+        }
+
+        ImmutableMap.Builder<PluginContainer, List<ListenerTimings>> builder = ImmutableMap.builder();
+        for (Map.Entry<PluginContainer, List<ListenerTimings>> entry : timings.entrySet()) {
+            Collections.sort(entry.getValue(), TIMINGS_COMPARATOR);
+            builder.put(entry.getKey(), ImmutableList.copyOf(entry.getValue()));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void resetTimings() {
+        synchronized (this.lock) {
+            this.timers.clear();
+            this.bakedListeners.clear();
+        }
+    }
+
+    @Override
+    public boolean post(Event event) {
+        checkNotNull(event, "event");
+        BakedListeners listeners = getBakedListeners(event.getClass());
+        callListeners(listeners.sync, listeners.syncTimers, event);
+        postAsync(listeners, event);
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    /**
+     * Calls a {@link Event} to the listeners that listen to it and were
+     * registered with the given {@link Listener#beforeModifications()} flag.
+     *
+     * <p>This allows implementations to call the listeners in two phases,
+     * before and after other server modifications. The event is queued for
+     * the asynchronous listeners after the second phase.</p>
+     *
+     * @param event The event
+     * @param beforeModifications Whether to call the listeners that are
+     *        called before modifications or the ones called after
+     * @return True if cancelled, false if not
+     */
+    public boolean post(Event event, boolean beforeModifications) {
+        checkNotNull(event, "event");
+        BakedListeners listeners = getBakedListeners(event.getClass());
+        RegisteredListener<?>[] sync = listeners.sync;
+        @Nullable ListenerTimer[] timers = listeners.syncTimers;
+        for (int i = 0; i < sync.length; i++) {
+            if (sync[i].isBeforeModifications() == beforeModifications) {
+                callListener(sync[i], timers == null ? null : timers[i], event);
+            }
+        }
+        if (!beforeModifications) {
+            postAsync(listeners, event);
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    private void postAsync(final BakedListeners listeners, final Event event) {
+        if (listeners.async.length == 0) {
+            return;
+        }
+        final long posted = System.nanoTime();
+        final Event view;
+        try {
+            view = (Event) checkNotNull(listeners.readOnlyView).newInstance(new ReadOnlyEventHandler(event));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create a read-only view of " + event, e);
+        }
+        this.submittedAsync.incrementAndGet();
+        try {
+            this.asyncExecutor.execute(() -> {
+                if (System.nanoTime() - posted > this.asyncLateDelay) {
+                    this.lateAsync.incrementAndGet();
+                }
+                callListeners(listeners.async, listeners.asyncTimers, view);
+                this.completedAsync.incrementAndGet();
+            });
+        } catch (RejectedExecutionException e) {
+            this.submittedAsync.decrementAndGet();
+            this.droppedAsync.incrementAndGet();
+        }
+    }
+
+    /**
+     * Shuts down the thread pool calling the asynchronous listeners. Events
+     * that are already queued are still dispatched, events posted afterwards
+     * are dropped for the asynchronous listeners.
+     *
+     * @param timeout The maximum time to wait for the queued events
+     * @param unit The unit of the timeout
+     * @return Whether all queued events were dispatched before the timeout
+     *         elapsed
+     * @throws InterruptedException If the current thread was interrupted
+     *         while waiting
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        this.asyncExecutor.shutdown();
+        return this.asyncExecutor.awaitTermination(timeout, checkNotNull(unit, "unit"));
+    }
+
+    private void callListeners(RegisteredListener<?>[] listeners, @Nullable ListenerTimer[] timers, Event event) {
+        if (timers == null) {
+            for (RegisteredListener<?> listener : listeners) {
+                callListener(listener, null, event);
+            }
+        } else {
+            for (int i = 0; i < listeners.length; i++) {
+                callListener(listeners[i], timers[i], event);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void callListener(RegisteredListener<?> listener, @Nullable ListenerTimer timer, Event event) {
+        if (listener.isIgnoreCancelled() && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+            return;
+        }
+        long start = timer != null ? System.nanoTime() : 0;
+        try {
+            ((RegisteredListener<Event>) listener).handle(event);
+        } catch (Throwable t) {
+            this.pluginManager.getLogger(listener.getPlugin()).error("Could not pass {} to {}", event.getClass().getSimpleName(), listener, t);
+        }
+        if (timer != null) {
+            timer.record(System.nanoTime() - start);
+        }
+    }
+
+    private static final class BakedListeners {
+
+        final RegisteredListener<?>[] all;
+        final RegisteredListener<?>[] sync;
+        final RegisteredListener<?>[] async;
+        @Nullable final ListenerTimer[] syncTimers;
+        @Nullable final ListenerTimer[] asyncTimers;
+        @Nullable final Constructor<?> readOnlyView;
+
+        BakedListeners(RegisteredListener<?>[] all, RegisteredListener<?>[] sync, RegisteredListener<?>[] async,
+                @Nullable ListenerTimer[] syncTimers, @Nullable ListenerTimer[] asyncTimers, @Nullable Constructor<?> readOnlyView) {
+            this.all = all;
+            this.sync = sync;
+            this.async = async;
+            this.syncTimers = syncTimers;
+            this.asyncTimers = asyncTimers;
+            this.readOnlyView = readOnlyView;
+        }
+    }
+
+    /**
+     * Forwards the calls of a read-only view of an event to the event,
+     * rejecting all methods that don't return a value, such as setters.
+     */
+    private static final class ReadOnlyEventHandler implements InvocationHandler {
+
+        private final Event event;
+
+        ReadOnlyEventHandler(Event event) {
+            this.event = event;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getReturnType() == void.class) {
+                throw new UnsupportedOperationException("Asynchronous listeners can't modify the event: " + method);
+            }
+            try {
+                return method.invoke(this.event, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class ListenerTimer {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            this.invocations.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+        }
+
+        ListenerTimings snapshot(RegisteredListener<?> listener, Class<? extends Event> eventClass) {
+            return new ListenerTimings(listener, eventClass, this.invocations.sum(), this.totalNanos.sum(), this.maxNanos.get());
+        }
+    }
+
+}
@@ -28,9 +28,9 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.service.permission.context.ContextSet;
 import org.spongepowered.api.service.permission.option.OptionSubjectData;
 import org.spongepowered.api.util.Tristate;
 
@@ -41,6 +41,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nullable;
 
@@ -55,6 +56,7 @@ public class MemorySubjectData implements OptionSubjectData {
     private final ConcurrentMap<Set<Context>, Map<String, String>> options = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, NodeTree> permissions = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, List<Map.Entry<String, String>>> parents = Maps.newConcurrentMap();
+    private final List<Runnable> updateListeners = new CopyOnWriteArrayList<Runnable>();
 
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
@@ -66,6 +68,34 @@ public MemorySubjectData(PermissionService service) {
         this.service = service;
     }
 
+    /**
+     * Adds a listener that is called after any data of this subject data
+     * instance was changed, for example to invalidate a {@link PermissionCache}.
+     *
+     * @param listener The listener
+     */
+    public void addUpdateListener(Runnable listener) {
+        this.updateListeners.add(checkNotNull(listener, "listener"));
+    }
+
+    /**
+     * Removes a listener added by {@link #addUpdateListener(Runnable)}.
+     *
+     * @param listener The listener
+     */
+    public void removeUpdateListener(Runnable listener) {
+        this.updateListeners.remove(listener);
+    }
+
+    private boolean update(boolean changed) {
+        if (changed) {
+            for (Runnable listener : this.updateListeners) {
+                listener.run();
+            }
+        }
+        return changed;
+    }
+
     @Override
     public Map<Set<Context>, Map<String, Boolean>> getAllPermissions() {
         ImmutableMap.Builder<Set<Context>, Map<String, Boolean>> ret = ImmutableMap.builder();
@@ -95,10 +125,11 @@ public Map<String, Boolean> getPermissions(Set<Context> contexts) {
 
     @Override
     public boolean setPermission(Set<Context> contexts, String permission, Tristate value) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextSet.of(contexts);
+        PermissionNode node = PermissionNode.of(permission);
         while (true) {
             NodeTree oldTree = this.permissions.get(contexts);
-            if (oldTree != null && oldTree.get(permission) == value) {
+            if (oldTree != null && oldTree.get(node) == value) {
                 return false;
             }
 
@@ -107,12 +138,12 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
                     break;
                 }
             } else {
-                if (oldTree == null || this.permissions.replace(contexts, oldTree, oldTree.withValue(permission, value))) {
+                if (oldTree == null || this.permissions.replace(contexts, oldTree, oldTree.withValue(node, value))) {
                     break;
                 }
             }
         }
-        return true;
+        return update(true);
 
     }
 
@@ -120,12 +151,12 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
     public boolean clearPermissions() {
         boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
-        return !wasEmpty;
+        return update(!wasEmpty);
     }
 
     @Override
     public boolean clearPermissions(Set<Context> context) {
-        return this.permissions.remove(context) != null;
+        return update(this.permissions.remove(context) != null);
     }
 
     @Override
@@ -154,7 +185,7 @@ public List<Subject> getParents(Set<Context> contexts) {
 
     @Override
     public boolean addParent(Set<Context> contexts, Subject parent) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextSet.of(contexts);
         while (true) {
             Map.Entry<String, String> newEnt = Maps.immutableEntry(parent.getContainingCollection().getIdentifier(),
                     parent.getIdentifier());
@@ -168,7 +199,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
             }
 
             if (updateCollection(this.parents, contexts, oldParents, newParents)) {
-                return true;
+                return update(true);
             }
         }
     }
@@ -188,7 +219,7 @@ private <K, V> boolean updateCollection(ConcurrentMap<K, V> collection, K key, @
 
     @Override
     public boolean removeParent(Set<Context> contexts, Subject parent) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextSet.of(contexts);
         while (true) {
             Map.Entry<String, String> removeEnt = Maps.immutableEntry(parent.getContainingCollection().getIdentifier(),
                     parent.getIdentifier());
@@ -202,7 +233,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
             newParents.remove(removeEnt);
 
             if (updateCollection(this.parents, contexts, oldParents, Collections.unmodifiableList(newParents))) {
-                return true;
+                return update(true);
             }
         }
 
@@ -212,12 +243,12 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
     public boolean clearParents() {
         boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
-        return !wasEmpty;
+        return update(!wasEmpty);
     }
 
     @Override
     public boolean clearParents(Set<Context> contexts) {
-        return this.parents.remove(contexts) != null;
+        return update(this.parents.remove(contexts) != null);
     }
 
     @Override
@@ -236,8 +267,8 @@ public boolean setOption(Set<Context> contexts, String key, @Nullable String val
         Map<String, String> newMap;
 
         if (origMap == null) {
-            if ((origMap = this.options.putIfAbsent(ImmutableSet.copyOf(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
-                return true;
+            if ((origMap = this.options.putIfAbsent(ContextSet.of(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
+                return update(true);
             }
         }
         do {
@@ -255,17 +286,17 @@ public boolean setOption(Set<Context> contexts, String key, @Nullable String val
             }
             newMap = Collections.unmodifiableMap(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
-        return true;
+        return update(true);
     }
 
     @Override
     public boolean clearOptions(Set<Context> contexts) {
-        return this.options.remove(contexts) != null;
+        return update(this.options.remove(contexts) != null);
     }
 
     @Override
     public boolean clearOptions() {
         this.options.clear();
-        return true;
+        return update(true);
     }
 }
@@ -27,23 +27,24 @@
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.util.Tristate;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 /**
  * An immutable tree structure for determining node data. Any changes will create new copies of the necessary tree objects.
  * Keys are case-insensitive.
  * Segments of nodes are split by the '.' character
+ *
+ * <p>The tree is keyed by the segment ids of {@link PermissionNode}s, so getting the value of a compiled node doesn't need
+ * any work on strings and doesn't allocate.</p>
  */
 public class NodeTree {
 
-    private static final Pattern SPLIT_REGEX = Pattern.compile("\\.");
     private final Node rootNode;
 
 
     private NodeTree(Tristate value) {
-        this.rootNode = new Node(new HashMap<String, Node>());
+        this.rootNode = new Node();
         this.rootNode.value = value;
     }
 
@@ -71,14 +72,16 @@ public static NodeTree of(Map<String, Boolean> values) {
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
         NodeTree newTree = new NodeTree(defaultValue);
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
-            String[] parts = SPLIT_REGEX.split(value.getKey().toLowerCase());
+            PermissionNode node = PermissionNode.of(value.getKey());
             Node currentNode = newTree.rootNode;
-            for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
+            for (int i = 0; i < node.getSegmentCount(); i++) {
+                int segment = node.getSegment(i);
+                int index = currentNode.indexOf(segment);
+                if (index >= 0) {
+                    currentNode = currentNode.children[index];
                 } else {
-                    Node newNode = new Node(new HashMap<String, Node>());
-                    currentNode.children.put(part, newNode);
+                    Node newNode = new Node();
+                    currentNode.insert(-index - 1, segment, newNode);
                     currentNode = newNode;
                 }
             }
@@ -94,14 +97,26 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
      * @return The tristate value for the given node
      */
     public Tristate get(String node) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
+        // Compiling the node would intern its segments, but a segment that
+        // isn't interned can't be part of any tree
+        return get(PermissionNode.findSegments(node.toLowerCase()));
+    }
+
+    /**
+     * Returns the value assigned to a specific node, or the nearest parent value in the tree if the node itself is undefined.
+     *
+     * @param node The compiled node to get the value of
+     * @return The tristate value for the given node
+     */
+    public Tristate get(PermissionNode node) {
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        for (int i = 0; i < node.getSegmentCount(); i++) {
+            int index = currentNode.indexOf(node.getSegment(i));
+            if (index < 0) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
+            currentNode = currentNode.children[index];
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
@@ -110,6 +125,23 @@ public Tristate get(String node) {
 
     }
 
+    private Tristate get(int[] segments) {
+        Node currentNode = this.rootNode;
+        Tristate lastUndefinedVal = Tristate.UNDEFINED;
+        for (int segment : segments) {
+            // Unknown segments are -1, which is never found
+            int index = currentNode.indexOf(segment);
+            if (index < 0) {
+                break;
+            }
+            currentNode = currentNode.children[index];
+            if (currentNode.value != Tristate.UNDEFINED) {
+                lastUndefinedVal = currentNode.value;
+            }
+        }
+        return lastUndefinedVal;
+    }
+
     /**
      * Convert this node tree into a map of the defined nodes in this tree.
      *
@@ -117,8 +149,8 @@ public Tristate get(String node) {
      */
     public Map<String, Boolean> asMap() {
         ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
-        for (Map.Entry<String, Node> ent : this.rootNode.children.entrySet()) {
-            populateMap(ret, ent.getKey(), ent.getValue());
+        for (int i = 0; i < this.rootNode.size; i++) {
+            populateMap(ret, PermissionNode.getSegmentName(this.rootNode.segments[i]), this.rootNode.children[i]);
         }
         return ret.build();
     }
@@ -127,8 +159,8 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
         if (currentNode.value != Tristate.UNDEFINED) {
             values.put(prefix, currentNode.value.asBoolean());
         }
-        for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
-            populateMap(values, prefix + '.' + ent.getKey(), ent.getValue());
+        for (int i = 0; i < currentNode.size; i++) {
+            populateMap(values, prefix + '.' + PermissionNode.getSegmentName(currentNode.segments[i]), currentNode.children[i]);
         }
     }
 
@@ -140,17 +172,41 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
      * @return The new, modified node tree
      */
     public NodeTree withValue(String node, Tristate value) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<String, Node>(this.rootNode.children));
+        if (value == Tristate.UNDEFINED) {
+            // Don't intern the segments of a node that is removed, a node
+            // with unknown segments isn't part of this tree anyway
+            for (int segment : PermissionNode.findSegments(node.toLowerCase())) {
+                if (segment == -1) {
+                    return this;
+                }
+            }
+        }
+        return withValue(PermissionNode.of(node), value);
+    }
+
+    /**
+     * Return a new NodeTree instance with a single changed value.
+     *
+     * @param node The compiled node to change the value of
+     * @param value The value to change, or UNDEFINED to remove
+     * @return The new, modified node tree
+     */
+    public NodeTree withValue(PermissionNode node, Tristate value) {
+        Node newRoot = this.rootNode.copy();
         Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<String, Node>(oldChild.children) : new HashMap<String, Node>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
+
+        newPtr.value = this.rootNode.value;
+        for (int i = 0; i < node.getSegmentCount(); i++) {
+            int segment = node.getSegment(i);
+            int index = newPtr.indexOf(segment);
+            Node newChild;
+            if (index >= 0) {
+                newChild = newPtr.children[index].copy();
+                newPtr.children[index] = newChild;
+            } else {
+                newChild = new Node();
+                newPtr.insert(-index - 1, segment, newChild);
+            }
             newPtr = newChild;
         }
         newPtr.value = value;
@@ -173,11 +229,49 @@ public NodeTree withAll(Map<String, Tristate> values) {
 
     private static class Node {
 
-        private final Map<String, Node> children;
+        private static final int[] NO_SEGMENTS = new int[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // The segment ids of the children, sorted
+        private int[] segments = NO_SEGMENTS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
         private Tristate value = Tristate.UNDEFINED;
 
-        private Node(Map<String, Node> children) {
-            this.children = children;
+        /**
+         * Gets the index of the child with the given segment id.
+         *
+         * @param segment The segment id
+         * @return The index, or (-(insertion point) - 1) if there is no child
+         */
+        private int indexOf(int segment) {
+            return Arrays.binarySearch(this.segments, 0, this.size, segment);
+        }
+
+        private void insert(int index, int segment, Node child) {
+            if (this.size == this.segments.length) {
+                int capacity = Math.max(4, this.size * 2);
+                this.segments = Arrays.copyOf(this.segments, capacity);
+                this.children = Arrays.copyOf(this.children, capacity);
+            }
+            System.arraycopy(this.segments, index, this.segments, index + 1, this.size - index);
+            System.arraycopy(this.children, index, this.children, index + 1, this.size - index);
+            this.segments[index] = segment;
+            this.children[index] = child;
+            this.size++;
+        }
+
+        /**
+         * Copies the children of this node, but not its value.
+         *
+         * @return The copy
+         */
+        private Node copy() {
+            Node node = new Node();
+            node.segments = Arrays.copyOf(this.segments, this.size);
+            node.children = Arrays.copyOf(this.children, this.size);
+            node.size = this.size;
+            return node;
         }
     }
 }
@@ -0,0 +1,299 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.service.permission.context.ContextSet;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A cache of resolved permission values, keyed by the subject, the set of
+ * active contexts and the permission node.
+ *
+ * <p>Values are resolved lazily by the {@link PermissionEvaluator}. The cache
+ * remembers which subject data every value depends on, and
+ * {@link #invalidate(SubjectData)} only removes the values of subjects that
+ * have the changed subject data in their inheritance chain.
+ * {@link MemorySubjectData} is invalidated automatically, other
+ * implementations of {@link SubjectData} have to call
+ * {@link #invalidate(SubjectData)} whenever they are changed.</p>
+ *
+ * <p>Subjects and subject data are only referenced while the cache holds a
+ * value that depends on them, so subjects are released once their values
+ * are evicted or invalidated.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class PermissionCache {
+
+    private final Cache<CacheKey, Tristate> cache;
+
+    // The following fields are guarded by this cache
+    private final Map<Subject, CachedSubject> subjects = Maps.newIdentityHashMap();
+    /**
+     * The subjects whose cached values depend on the subject data.
+     */
+    private final Map<SubjectData, Set<Subject>> dependents = Maps.newIdentityHashMap();
+    private final Map<MemorySubjectData, Runnable> updateListeners = Maps.newIdentityHashMap();
+    private long generation;
+
+    /**
+     * Creates a new permission cache.
+     *
+     * @param maximumSize The maximum number of cached values
+     */
+    public PermissionCache(long maximumSize) {
+        checkArgument(maximumSize > 0, "maximumSize must be positive");
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .removalListener((RemovalListener<CacheKey, Tristate>) this::onRemoval)
+                .build();
+    }
+
+    /**
+     * Gets the value of the given permission node for the subject in the
+     * given contexts, resolving it if it isn't cached.
+     *
+     * @param subject The subject
+     * @param contexts The active contexts
+     * @param node The permission node
+     * @return The permission value
+     */
+    public Tristate getPermissionValue(Subject subject, Set<Context> contexts, PermissionNode node) {
+        CacheKey key = new CacheKey(checkNotNull(subject, "subject"), ContextSet.of(contexts), checkNotNull(node, "node"));
+        @Nullable Tristate value = this.cache.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        long generation;
+        synchronized (this) {
+            generation = this.generation;
+        }
+        Set<SubjectData> dependencies = Sets.newHashSet();
+        value = PermissionEvaluator.resolve(subject, key.contexts, node, dependencies);
+
+        synchronized (this) {
+            // Don't cache values that may have been invalidated while they were resolved
+            if (generation == this.generation) {
+                @Nullable CachedSubject cached = this.subjects.get(subject);
+                if (cached == null) {
+                    cached = new CachedSubject();
+                    this.subjects.put(subject, cached);
+                }
+                for (SubjectData data : dependencies) {
+                    if (cached.dependencies.add(data)) {
+                        addDependent(data, subject);
+                    }
+                }
+                cached.keys.add(key);
+                this.cache.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    private void addDependent(SubjectData data, Subject subject) {
+        @Nullable Set<Subject> subjects = this.dependents.get(data);
+        if (subjects == null) {
+            subjects = Sets.newIdentityHashSet();
+            this.dependents.put(data, subjects);
+            if (data instanceof MemorySubjectData) {
+                Runnable listener = () -> invalidate(data);
+                this.updateListeners.put((MemorySubjectData) data, listener);
+                ((MemorySubjectData) data).addUpdateListener(listener);
+            }
+        }
+        subjects.add(subject);
+    }
+
+    /**
+     * Forgets the given subject after its last cached value was removed.
+     *
+     * @param subject The subject
+     * @param cached The cached values of the subject
+     */
+    private void removeSubject(Subject subject, CachedSubject cached) {
+        for (SubjectData data : cached.dependencies) {
+            @Nullable Set<Subject> subjects = this.dependents.get(data);
+            if (subjects != null && subjects.remove(subject) && subjects.isEmpty()) {
+                this.dependents.remove(data);
+                removeUpdateListener(data);
+            }
+        }
+    }
+
+    private void removeUpdateListener(SubjectData data) {
+        @Nullable Runnable listener = this.updateListeners.remove(data);
+        if (listener != null) {
+            ((MemorySubjectData) data).removeUpdateListener(listener);
+        }
+    }
+
+    private synchronized void onRemoval(RemovalNotification<CacheKey, Tristate> notification) {
+        @Nullable CacheKey key = notification.getKey();
+        // A replaced value or a removed value that was cached again is still
+        // in the cache
+        if (key == null || notification.getCause() == RemovalCause.REPLACED || this.cache.asMap().containsKey(key)) {
+            return;
+        }
+        @Nullable CachedSubject cached = this.subjects.get(key.subject);
+        if (cached != null && cached.keys.remove(key) && cached.keys.isEmpty()) {
+            this.subjects.remove(key.subject);
+            removeSubject(key.subject, cached);
+        }
+    }
+
+    /**
+     * Invalidates the cached values of all subjects that have the given
+     * subject data in their inheritance chain.
+     *
+     * @param data The changed subject data
+     */
+    public synchronized void invalidate(SubjectData data) {
+        this.generation++;
+        @Nullable Set<Subject> subjects = this.dependents.remove(data);
+        if (subjects != null) {
+            removeUpdateListener(data);
+            for (Subject subject : subjects) {
+                @Nullable CachedSubject cached = this.subjects.remove(subject);
+                if (cached != null) {
+                    removeSubject(subject, cached);
+                    // The subject was already removed, so the removal
+                    // listener doesn't modify the keys
+                    this.cache.invalidateAll(cached.keys);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates all cached values.
+     */
+    public synchronized void invalidateAll() {
+        this.generation++;
+        for (Map.Entry<MemorySubjectData, Runnable> entry : this.updateListeners.entrySet()) {
+            entry.getKey().removeUpdateListener(entry.getValue());
+        }
+        this.updateListeners.clear();
+        this.dependents.clear();
+        this.subjects.clear();
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Gets the number of cached values.
+     *
+     * @return The number of cached values
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Gets the hit, miss and eviction statistics of this cache. Values that
+     * were invalidated are not counted as evictions.
+     *
+     * @return The statistics
+     */
+    public CacheStats getStatistics() {
+        return this.cache.stats();
+    }
+
+    /**
+     * Gets the number of subjects with cached values.
+     *
+     * @return The number of subjects
+     */
+    synchronized int getSubjectCount() {
+        return this.subjects.size();
+    }
+
+    /**
+     * Gets the number of subject data the cached values depend on.
+     *
+     * @return The number of subject data
+     */
+    synchronized int getDependencyCount() {
+        return this.dependents.size();
+    }
+
+    private static final class CachedSubject {
+
+        final Set<CacheKey> keys = Sets.newHashSet();
+        final Set<SubjectData> dependencies = Sets.newIdentityHashSet();
+    }
+
+    private static final class CacheKey {
+
+        final Subject subject;
+        final ContextSet contexts;
+        final PermissionNode node;
+        private final int hashCode;
+
+        CacheKey(Subject subject, ContextSet contexts, PermissionNode node) {
+            this.subject = subject;
+            this.contexts = contexts;
+            this.node = node;
+            this.hashCode = Objects.hashCode(System.identityHashCode(subject), contexts, node);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return this.subject == other.subject && this.node.equals(other.node) && this.contexts.equals(other.contexts);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+}
@@ -0,0 +1,261 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Resolves permission values of subjects from their {@link SubjectData}, as
+ * a reference for implementations of the permission service.
+ *
+ * <p>The value of a permission is resolved by checking the transient and
+ * the persistent {@link SubjectData} of the subject first, and then the
+ * parents of the subject in the same contexts, depth-first.</p>
+ *
+ * <p>The batch methods evaluate a permission for many subjects, or many
+ * permissions for a single subject, in a single pass. The {@link NodeTree}
+ * of every subject data and the values of shared parents, such as groups,
+ * are only looked up once per batch.</p>
+ */
+public final class PermissionEvaluator {
+
+    private PermissionEvaluator() {
+    }
+
+    /**
+     * Gets the {@link NodeTree} of the given subject data.
+     *
+     * @param data The subject data
+     * @param contexts The contexts
+     * @return The node tree
+     */
+    static NodeTree getNodeTree(SubjectData data, Set<Context> contexts) {
+        if (data instanceof MemorySubjectData) {
+            return ((MemorySubjectData) data).getNodeTree(contexts);
+        }
+        return NodeTree.of(data.getPermissions(contexts));
+    }
+
+    private static Set<SubjectData> getSubjectData(Subject subject) {
+        return ImmutableSet.of(subject.getTransientSubjectData(), subject.getSubjectData());
+    }
+
+    /**
+     * Resolves the value of a permission for the given subject.
+     *
+     * @param subject The subject
+     * @param contexts The contexts to resolve the permission in
+     * @param node The permission node
+     * @return The permission value
+     */
+    public static Tristate resolve(Subject subject, Set<Context> contexts, PermissionNode node) {
+        return resolve(checkNotNull(subject, "subject"), checkNotNull(contexts, "contexts"), checkNotNull(node, "node"), null,
+                Sets.<Subject>newHashSet());
+    }
+
+    /**
+     * Resolves the value of a permission for the given subject, collecting
+     * the subject data that was checked.
+     *
+     * @param subject The subject
+     * @param contexts The contexts to resolve the permission in
+     * @param node The permission node
+     * @param dependencies The set to add the checked subject data to
+     * @return The permission value
+     */
+    static Tristate resolve(Subject subject, Set<Context> contexts, PermissionNode node, Set<SubjectData> dependencies) {
+        return resolve(subject, contexts, node, dependencies, Sets.<Subject>newHashSet());
+    }
+
+    private static Tristate resolve(Subject subject, Set<Context> contexts, PermissionNode node, @Nullable Set<SubjectData> dependencies,
+            Set<Subject> visited) {
+        visited.add(subject);
+        Set<SubjectData> data = getSubjectData(subject);
+        for (SubjectData subjectData : data) {
+            if (dependencies != null) {
+                dependencies.add(subjectData);
+            }
+            Tristate value = getNodeTree(subjectData, contexts).get(node);
+            if (value != Tristate.UNDEFINED) {
+                return value;
+            }
+        }
+        for (SubjectData subjectData : data) {
+            for (Subject parent : subjectData.getParents(contexts)) {
+                if (!visited.contains(parent)) {
+                    Tristate value = resolve(parent, contexts, node, dependencies, visited);
+                    if (value != Tristate.UNDEFINED) {
+                        return value;
+                    }
+                }
+            }
+        }
+        return Tristate.UNDEFINED;
+    }
+
+    /**
+     * Resolves the value of a single permission for many subjects.
+     *
+     * @param subjects The subjects
+     * @param contexts The contexts to resolve the permission in
+     * @param node The permission node
+     * @return The values, indexed like the subjects
+     */
+    public static PermissionValues resolve(List<? extends Subject> subjects, Set<Context> contexts, PermissionNode node) {
+        checkNotNull(subjects, "subjects");
+        checkNotNull(contexts, "contexts");
+        checkNotNull(node, "node");
+        SubjectsPass pass = new SubjectsPass(contexts, node);
+        PermissionValues values = new PermissionValues(subjects.size());
+        for (int i = 0; i < subjects.size(); i++) {
+            values.set(i, pass.resolve(subjects.get(i)));
+        }
+        return values;
+    }
+
+    /**
+     * Resolves the values of many permissions for a single subject.
+     *
+     * @param subject The subject
+     * @param contexts The contexts to resolve the permissions in
+     * @param nodes The permission nodes
+     * @return The values, indexed like the permission nodes
+     */
+    public static PermissionValues resolve(Subject subject, Set<Context> contexts, List<PermissionNode> nodes) {
+        checkNotNull(subject, "subject");
+        checkNotNull(contexts, "contexts");
+        checkNotNull(nodes, "nodes");
+        PermissionNode[] pending = nodes.toArray(new PermissionNode[nodes.size()]);
+        PermissionValues values = new PermissionValues(pending.length);
+        resolve(subject, contexts, pending, pending.length, values, Sets.<Subject>newHashSet());
+        return values;
+    }
+
+    /**
+     * Resolves the pending nodes for the subject and its parents.
+     *
+     * @return The number of nodes that are still pending
+     */
+    private static int resolve(Subject subject, Set<Context> contexts, PermissionNode[] pending, int remaining, PermissionValues values,
+            Set<Subject> visited) {
+        visited.add(subject);
+        Set<SubjectData> data = getSubjectData(subject);
+        for (SubjectData subjectData : data) {
+            NodeTree tree = getNodeTree(subjectData, contexts);
+            for (int i = 0; i < pending.length; i++) {
+                if (pending[i] != null) {
+                    Tristate value = tree.get(pending[i]);
+                    if (value != Tristate.UNDEFINED) {
+                        values.set(i, value);
+                        pending[i] = null;
+                        if (--remaining == 0) {
+                            return 0;
+                        }
+                    }
+                }
+            }
+        }
+        for (SubjectData subjectData : data) {
+            for (Subject parent : subjectData.getParents(contexts)) {
+                if (!visited.contains(parent)) {
+                    remaining = resolve(parent, contexts, pending, remaining, values, visited);
+                    if (remaining == 0) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * A pass resolving one permission for many subjects, remembering the
+     * values of the subjects it resolved.
+     */
+    private static final class SubjectsPass {
+
+        private final Set<Context> contexts;
+        private final PermissionNode node;
+        private final Map<Subject, Tristate> resolved = Maps.newIdentityHashMap();
+        private final Set<Subject> resolving = Sets.newIdentityHashSet();
+        // Values resolved within an inheritance cycle depend on where the cycle was entered
+        private boolean cycle;
+
+        SubjectsPass(Set<Context> contexts, PermissionNode node) {
+            this.contexts = contexts;
+            this.node = node;
+        }
+
+        Tristate resolve(Subject subject) {
+            @Nullable Tristate value = this.resolved.get(subject);
+            if (value != null) {
+                return value;
+            }
+            this.resolving.add(subject);
+            value = resolveUncached(subject);
+            this.resolving.remove(subject);
+            if (!this.cycle) {
+                this.resolved.put(subject, value);
+            }
+            return value;
+        }
+
+        private Tristate resolveUncached(Subject subject) {
+            Set<SubjectData> data = getSubjectData(subject);
+            for (SubjectData subjectData : data) {
+                Tristate value = getNodeTree(subjectData, this.contexts).get(this.node);
+                if (value != Tristate.UNDEFINED) {
+                    return value;
+                }
+            }
+            for (SubjectData subjectData : data) {
+                for (Subject parent : subjectData.getParents(this.contexts)) {
+                    if (this.resolving.contains(parent)) {
+                        this.cycle = true;
+                    } else {
+                        Tristate value = resolve(parent);
+                        if (value != Tristate.UNDEFINED) {
+                            return value;
+                        }
+                    }
+                }
+            }
+            return Tristate.UNDEFINED;
+        }
+    }
+
+}
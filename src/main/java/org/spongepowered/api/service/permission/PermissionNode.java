@@ -0,0 +1,228 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.MapMaker;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compiled permission string.
+ *
+ * <p>Permission strings are case-insensitive and split into segments by the
+ * '.' character. A permission node stores its segments as ids of a global
+ * table of interned segments, so permission checks using a node, such as
+ * {@link Subject#hasPermission(PermissionNode)} or
+ * {@link NodeTree#get(PermissionNode)}, don't have to do any work on strings.
+ * Plugins checking the same permission repeatedly should compile it once and
+ * keep the node.</p>
+ *
+ * <p>Segments are never removed from the global table, which is why nodes
+ * should not be compiled for arbitrary user input.</p>
+ */
+public final class PermissionNode {
+
+    private static final Object lock = new Object();
+    private static final ConcurrentMap<String, Integer> segmentIds = new MapMaker().makeMap();
+    private static volatile String[] segmentNames = new String[64];
+    private static int segmentCount;
+
+    private static final ConcurrentMap<String, PermissionNode> nodes = new MapMaker().weakValues().makeMap();
+
+    private final String permission;
+    private final int[] segments;
+
+    private PermissionNode(String permission, int[] segments) {
+        this.permission = permission;
+        this.segments = segments;
+    }
+
+    /**
+     * Gets the compiled node of the given permission string.
+     *
+     * @param permission The permission string
+     * @return The compiled node
+     */
+    public static PermissionNode of(String permission) {
+        @Nullable PermissionNode node = nodes.get(checkNotNull(permission, "permission"));
+        if (node == null) {
+            node = compile(permission.toLowerCase());
+            @Nullable PermissionNode previous = nodes.putIfAbsent(permission, node);
+            if (previous != null) {
+                node = previous;
+            }
+        }
+        return node;
+    }
+
+    private static PermissionNode compile(String permission) {
+        return new PermissionNode(permission, split(permission, true));
+    }
+
+    /**
+     * Gets the segment ids of the given lower case permission string without
+     * interning any new segments, so it can be used for arbitrary input.
+     *
+     * @param permission The permission string, in lower case
+     * @return The segment ids, with -1 for segments that are not interned
+     */
+    static int[] findSegments(String permission) {
+        return split(permission, false);
+    }
+
+    private static int[] split(String permission, boolean intern) {
+        // Splits the permission like String.split, removing trailing empty segments
+        int[] segments = new int[8];
+        int count = 0;
+        int nonEmpty = 0;
+        int start = 0;
+        while (true) {
+            int end = permission.indexOf('.', start);
+            if (end == -1) {
+                if (start == 0) {
+                    return new int[] {getSegmentId(permission, intern)};
+                }
+                end = permission.length();
+            }
+            if (count == segments.length) {
+                segments = Arrays.copyOf(segments, count * 2);
+            }
+            segments[count++] = getSegmentId(permission.substring(start, end), intern);
+            if (end > start) {
+                nonEmpty = count;
+            }
+            if (end == permission.length()) {
+                return Arrays.copyOf(segments, nonEmpty);
+            }
+            start = end + 1;
+        }
+    }
+
+    private static int getSegmentId(String segment, boolean intern) {
+        if (intern) {
+            return getSegmentId(segment);
+        }
+        @Nullable Integer id = segmentIds.get(segment);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the id of the given segment, interning it if necessary.
+     *
+     * @param segment The segment
+     * @return The id of the segment
+     */
+    static int getSegmentId(String segment) {
+        @Nullable Integer id = segmentIds.get(segment);
+        if (id != null) {
+            return id;
+        }
+        synchronized (lock) {
+            id = segmentIds.get(segment);
+            if (id == null) {
+                String[] names = segmentNames;
+                if (segmentCount == names.length) {
+                    names = Arrays.copyOf(names, segmentCount * 2);
+                }
+                names[segmentCount] = segment;
+                segmentNames = names;
+                id = segmentCount++;
+                segmentIds.put(segment, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Gets the number of interned segments.
+     *
+     * @return The number of segments
+     */
+    static int getInternedSegmentCount() {
+        synchronized (lock) {
+            return segmentCount;
+        }
+    }
+
+    /**
+     * Gets the segment with the given id.
+     *
+     * @param id The id of the segment
+     * @return The segment
+     */
+    static String getSegmentName(int id) {
+        return segmentNames[id];
+    }
+
+    /**
+     * Gets the number of segments of this node.
+     *
+     * @return The number of segments
+     */
+    public int getSegmentCount() {
+        return this.segments.length;
+    }
+
+    /**
+     * Gets the id of the segment at the given index. Ids are only valid
+     * while the server is running.
+     *
+     * @param index The index of the segment
+     * @return The id of the segment
+     */
+    public int getSegment(int index) {
+        return this.segments[index];
+    }
+
+    /**
+     * Gets the permission string of this node, in lower case.
+     *
+     * @return The permission string
+     */
+    public String getPermission() {
+        return this.permission;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        return this == obj || obj instanceof PermissionNode && this.permission.equals(((PermissionNode) obj).permission);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.permission.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.permission;
+    }
+
+}
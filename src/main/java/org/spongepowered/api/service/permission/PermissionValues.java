@@ -0,0 +1,151 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.BitSet;
+
+import javax.annotation.Nullable;
+
+/**
+ * The permission values of a batch evaluation, such as
+ * {@link SubjectCollection#getPermissionValues(java.util.List, java.util.Set, PermissionNode)},
+ * stored as two bit sets. Values are indexed in the order of the evaluated
+ * subjects or permission nodes.
+ */
+public final class PermissionValues {
+
+    private final int size;
+    private final BitSet defined;
+    private final BitSet granted;
+
+    /**
+     * Creates a new set of permission values that are all
+     * {@link Tristate#UNDEFINED}.
+     *
+     * @param size The number of values
+     */
+    public PermissionValues(int size) {
+        this.size = size;
+        this.defined = new BitSet(size);
+        this.granted = new BitSet(size);
+    }
+
+    /**
+     * Sets the value at the given index.
+     *
+     * @param index The index
+     * @param value The value
+     */
+    public void set(int index, Tristate value) {
+        checkElementIndex(index, this.size);
+        this.defined.set(index, value != Tristate.UNDEFINED);
+        this.granted.set(index, value == Tristate.TRUE);
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return The number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the value at the given index.
+     *
+     * @param index The index
+     * @return The value
+     */
+    public Tristate get(int index) {
+        checkElementIndex(index, this.size);
+        if (!this.defined.get(index)) {
+            return Tristate.UNDEFINED;
+        }
+        return Tristate.fromBoolean(this.granted.get(index));
+    }
+
+    /**
+     * Gets whether the value at the given index is {@link Tristate#TRUE}.
+     *
+     * @param index The index
+     * @return Whether the permission is granted
+     */
+    public boolean isGranted(int index) {
+        checkElementIndex(index, this.size);
+        return this.granted.get(index);
+    }
+
+    /**
+     * Gets the indices of all values that are {@link Tristate#TRUE}. The
+     * returned bit set is a copy.
+     *
+     * @return The indices of the granted values
+     */
+    public BitSet getGranted() {
+        return (BitSet) this.granted.clone();
+    }
+
+    /**
+     * Gets the number of values that are {@link Tristate#TRUE}.
+     *
+     * @return The number of granted values
+     */
+    public int getGrantedCount() {
+        return this.granted.cardinality();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PermissionValues)) {
+            return false;
+        }
+        PermissionValues other = (PermissionValues) obj;
+        return this.size == other.size && this.defined.equals(other.defined) && this.granted.equals(other.granted);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.size, this.defined, this.granted);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("size", this.size)
+                .add("defined", this.defined)
+                .add("granted", this.granted)
+                .toString();
+    }
+
+}
@@ -127,6 +127,32 @@ public interface Subject {
      */
     boolean hasPermission(String permission);
 
+    /**
+     * Test whether the subject is permitted to perform an action given as the
+     * given compiled permission node.
+     *
+     * <p>Implementations should override this method to check the node
+     * without converting it back to a string.</p>
+     *
+     * @param contexts The set of contexts that represents the subject's current environment
+     * @param permission The compiled permission node
+     * @return True if permission is granted
+     */
+    default boolean hasPermission(Set<Context> contexts, PermissionNode permission) {
+        return hasPermission(contexts, permission.getPermission());
+    }
+
+    /**
+     * Test whether the subject is permitted to perform an action given as the
+     * given compiled permission node.
+     *
+     * @param permission The compiled permission node
+     * @return True if permission is granted
+     */
+    default boolean hasPermission(PermissionNode permission) {
+        return hasPermission(getActiveContexts(), permission);
+    }
+
     /**
      * Returns the calculated value set for a given permission.
      *
@@ -136,6 +162,40 @@ public interface Subject {
      */
     Tristate getPermissionValue(Set<Context> contexts, String permission);
 
+    /**
+     * Returns the calculated value set for a given compiled permission node.
+     *
+     * <p>Implementations should override this method to check the node
+     * without converting it back to a string.</p>
+     *
+     * @param contexts The contexts to check for permissions in
+     * @param permission The compiled permission node to check
+     * @return The tristate true/false/unset value for permissions
+     */
+    default Tristate getPermissionValue(Set<Context> contexts, PermissionNode permission) {
+        return getPermissionValue(contexts, permission.getPermission());
+    }
+
+    /**
+     * Returns the calculated values of many permissions at once.
+     *
+     * <p>The default implementation checks each permission with
+     * {@link #getPermissionValue(Set, PermissionNode)}. Implementations
+     * should evaluate all permissions in a single pass instead, for example
+     * with {@link PermissionEvaluator#resolve(Subject, Set, List)}.</p>
+     *
+     * @param contexts The contexts to check for permissions in
+     * @param permissions The compiled permission nodes to check
+     * @return The values of the permissions, indexed like the permissions
+     */
+    default PermissionValues getPermissionValues(Set<Context> contexts, List<PermissionNode> permissions) {
+        PermissionValues values = new PermissionValues(permissions.size());
+        for (int i = 0; i < permissions.size(); i++) {
+            values.set(i, getPermissionValue(contexts, permissions.get(i)));
+        }
+        return values;
+    }
+
     /**
      * Check if this subject is a child of the given parent in the subject's
      * current context, traversing inheritance.
@@ -178,6 +238,12 @@ public interface Subject {
      * from {@link PermissionService#registerContextCalculator(ContextCalculator)}.
      * The result of these calculations may be cached.
      *
+     * <p>Implementations should return a canonical
+     * {@link org.spongepowered.api.service.permission.context.ContextSet},
+     * which is cheap to use as a key. See
+     * {@link org.spongepowered.api.service.permission.context.ActiveContextCache}
+     * for a reference implementation.</p>
+     *
      * @return An immutable set of active contexts
      */
     Set<Context> getActiveContexts();
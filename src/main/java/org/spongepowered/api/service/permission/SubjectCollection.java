@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.service.permission.context.Context;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -90,4 +91,26 @@ public interface SubjectCollection {
      *         permission is set to
      */
     Map<Subject, Boolean> getAllWithPermission(Set<Context> contexts, String permission);
+
+    /**
+     * Evaluates a single permission for many subjects at once, for example
+     * to find the receivers of a message that requires a permission.
+     *
+     * <p>The default implementation checks each subject with
+     * {@link Subject#getPermissionValue(Set, PermissionNode)}. Implementations
+     * should evaluate all subjects in a single pass instead, for example with
+     * {@link PermissionEvaluator#resolve(List, Set, PermissionNode)}.</p>
+     *
+     * @param subjects The subjects to evaluate the permission for
+     * @param contexts The context combination to check for permissions in
+     * @param permission The permission to check
+     * @return The values of the permission, indexed like the subjects
+     */
+    default PermissionValues getPermissionValues(List<? extends Subject> subjects, Set<Context> contexts, PermissionNode permission) {
+        PermissionValues values = new PermissionValues(subjects.size());
+        for (int i = 0; i < subjects.size(); i++) {
+            values.set(i, subjects.get(i).getPermissionValue(contexts, permission));
+        }
+        return values;
+    }
 }
@@ -25,9 +25,9 @@
 package org.spongepowered.api.service.permission;
 
 import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.service.permission.context.ContextSet;
 import org.spongepowered.api.util.Tristate;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,7 +44,7 @@ public interface SubjectData {
      * A convenience constant for the global context combination (the empty
      * set), if you want your code to look especially fancy.
      */
-    Set<Context> GLOBAL_CONTEXT = Collections.emptySet();
+    Set<Context> GLOBAL_CONTEXT = ContextSet.empty();
 
     /**
      * Return all permissions associated with this data object.
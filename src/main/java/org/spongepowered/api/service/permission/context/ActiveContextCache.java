@@ -0,0 +1,167 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission.context;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Sets;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.entity.TargetEntityEvent;
+import org.spongepowered.api.service.permission.Subject;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * Calculates the active contexts of subjects using the registered
+ * {@link ContextCalculator}s, as a reference for implementations of
+ * {@link Subject#getActiveContexts()}.
+ *
+ * <p>The contexts of {@link ContextCalculator#isCacheable() cacheable}
+ * calculators are cached per subject, until {@link #invalidate(Event)} is
+ * called with one of their invalidation events, so only the other
+ * calculators are invoked for every calculation. The active contexts are
+ * returned as canonical {@link ContextSet}s.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class ActiveContextCache {
+
+    private final List<ContextCalculator> cacheable = new CopyOnWriteArrayList<ContextCalculator>();
+    private final List<ContextCalculator> uncacheable = new CopyOnWriteArrayList<ContextCalculator>();
+    private final Set<Class<? extends Event>> invalidationEvents = Sets.newCopyOnWriteArraySet();
+    private final ConcurrentMap<Subject, ContextSet> cache = new MapMaker().weakKeys().makeMap();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Registers a context calculator.
+     *
+     * @param calculator The calculator
+     */
+    public void registerCalculator(ContextCalculator calculator) {
+        checkNotNull(calculator, "calculator");
+        if (calculator.isCacheable()) {
+            this.invalidationEvents.addAll(calculator.getInvalidationEvents());
+            this.cacheable.add(calculator);
+            invalidateAll();
+        } else {
+            this.uncacheable.add(calculator);
+        }
+    }
+
+    /**
+     * Gets the types of events that invalidate cached contexts, which should
+     * be passed to {@link #invalidate(Event)}.
+     *
+     * @return The types of events
+     */
+    public Set<Class<? extends Event>> getInvalidationEvents() {
+        return ImmutableSet.copyOf(this.invalidationEvents);
+    }
+
+    /**
+     * Calculates the active contexts of the given subject.
+     *
+     * @param subject The subject
+     * @return The active contexts
+     */
+    public ContextSet getActiveContexts(Subject subject) {
+        checkNotNull(subject, "subject");
+        @Nullable ContextSet contexts = this.cache.get(subject);
+        if (contexts == null) {
+            final long generation = this.generation.get();
+            Set<Context> accumulator = Sets.newHashSet();
+            for (ContextCalculator calculator : this.cacheable) {
+                calculator.accumulateContexts(subject, accumulator);
+            }
+            contexts = ContextSet.of(accumulator);
+            this.cache.put(subject, contexts);
+            if (this.generation.get() != generation) {
+                // Invalidated while the contexts were calculated
+                this.cache.remove(subject, contexts);
+            }
+        }
+        if (this.uncacheable.isEmpty()) {
+            return contexts;
+        }
+        Set<Context> accumulator = Sets.newHashSet(contexts);
+        for (ContextCalculator calculator : this.uncacheable) {
+            calculator.accumulateContexts(subject, accumulator);
+        }
+        return ContextSet.of(accumulator);
+    }
+
+    /**
+     * Invalidates the cached contexts affected by the given event, if it is
+     * one of the {@link #getInvalidationEvents() invalidation events}. If
+     * the event targets a subject, only the contexts of that subject are
+     * invalidated.
+     *
+     * @param event The event
+     */
+    public void invalidate(Event event) {
+        checkNotNull(event, "event");
+        for (Class<? extends Event> eventClass : this.invalidationEvents) {
+            if (eventClass.isInstance(event)) {
+                if (event instanceof TargetEntityEvent) {
+                    Entity entity = ((TargetEntityEvent) event).getTargetEntity();
+                    if (entity instanceof Subject) {
+                        invalidate((Subject) entity);
+                        return;
+                    }
+                }
+                invalidateAll();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Invalidates the cached contexts of the given subject.
+     *
+     * @param subject The subject
+     */
+    public void invalidate(Subject subject) {
+        this.generation.incrementAndGet();
+        this.cache.remove(subject);
+    }
+
+    /**
+     * Invalidates all cached contexts.
+     */
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+        this.cache.clear();
+    }
+
+}
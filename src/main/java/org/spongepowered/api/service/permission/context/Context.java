@@ -26,10 +26,10 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.collect.Maps;
-
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 /**
  * The context that a permission check occurs in. Instances of a context are
  * designed to function as cache keys, meaning they should be fairly lightweight
@@ -43,7 +43,9 @@ public final class Context implements Map.Entry<String, String> {
     public static final String LOCAL_IP_KEY = "localip";
     public static final String LOCAL_PORT_KEY = "localport"; // This portkey is an old boot
 
-    private final Map.Entry<String, String> wrapped;
+    private final String type;
+    private final String name;
+    private final int hashCode;
 
     /**
      * Create a new context instance
@@ -54,7 +56,10 @@ public final class Context implements Map.Entry<String, String> {
     public Context(String type, String name) {
         checkNotNull(type, "type");
         checkNotNull(name, "name");
-        this.wrapped = Maps.immutableEntry(type, name);
+        this.type = type;
+        this.name = name;
+        // As specified by Map.Entry
+        this.hashCode = type.hashCode() ^ name.hashCode();
     }
 
     /**
@@ -80,12 +85,12 @@ public String getName() {
 
     @Override
     public String getKey() {
-        return this.wrapped.getKey();
+        return this.type;
     }
 
     @Override
     public String getValue() {
-        return this.wrapped.getValue();
+        return this.name;
     }
 
     @Override
@@ -94,21 +99,28 @@ public String setValue(String value) {
     }
 
     @Override
-    public boolean equals(Object o) {
+    public boolean equals(@Nullable Object o) {
         if (this == o) {
             return true;
         }
-        return o instanceof Map.Entry<?, ?> && this.wrapped.equals(o);
-
+        if (o instanceof Context) {
+            Context other = (Context) o;
+            return this.hashCode == other.hashCode && this.type.equals(other.type) && this.name.equals(other.name);
+        }
+        if (!(o instanceof Map.Entry<?, ?>)) {
+            return false;
+        }
+        Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+        return this.type.equals(other.getKey()) && this.name.equals(other.getValue());
     }
 
     @Override
     public int hashCode() {
-        return this.wrapped.hashCode();
+        return this.hashCode;
     }
 
     @Override
     public String toString() {
-        return this.wrapped.toString();
+        return this.type + "=" + this.name;
     }
 }
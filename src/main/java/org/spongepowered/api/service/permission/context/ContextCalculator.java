@@ -24,8 +24,10 @@
  */
 package org.spongepowered.api.service.permission.context;
 
+import org.spongepowered.api.event.Event;
 import org.spongepowered.api.service.permission.Subject;
 
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -54,4 +56,31 @@ public interface ContextCalculator {
      *         applicable to the given subject
      */
     boolean matches(Context context, Subject subject);
+
+    /**
+     * Gets whether the contexts accumulated by this calculator for a subject
+     * may be cached until one of the {@link #getInvalidationEvents()
+     * invalidation events} is posted for the subject.
+     *
+     * <p>Calculators whose contexts change without an event, such as a
+     * context for the time of day, must not be cacheable.</p>
+     *
+     * @return Whether the accumulated contexts may be cached
+     * @see ActiveContextCache
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * Gets the types of events that may change the contexts this calculator
+     * accumulates, for example the events that move a player to another
+     * world for a world context. Only used if this calculator is
+     * {@link #isCacheable() cacheable}.
+     *
+     * @return The types of events that invalidate cached contexts
+     */
+    default Set<Class<? extends Event>> getInvalidationEvents() {
+        return Collections.emptySet();
+    }
 }
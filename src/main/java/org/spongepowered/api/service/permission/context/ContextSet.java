@@ -0,0 +1,128 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission.context;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A canonical, immutable set of {@link Context}s.
+ *
+ * <p>Context sets are interned, so all context sets with the same contexts
+ * are the same instance, and their hash code is only computed once. Equal
+ * context sets are found by identity and others are usually told apart by
+ * their hash code, which makes them cheap to use as keys, for example for
+ * the permissions of a
+ * {@link org.spongepowered.api.service.permission.SubjectData}. A context
+ * set is equal to any other {@link Set} with the same contexts.</p>
+ */
+public final class ContextSet extends AbstractSet<Context> {
+
+    private static final Interner<ContextSet> interner = Interners.newWeakInterner();
+    private static final ContextSet EMPTY = of(ImmutableSet.<Context>of());
+
+    private final ImmutableSet<Context> contexts;
+    private final int hashCode;
+
+    private ContextSet(ImmutableSet<Context> contexts) {
+        this.contexts = contexts;
+        this.hashCode = contexts.hashCode();
+    }
+
+    /**
+     * Gets the empty context set, the global context.
+     *
+     * @return The empty context set
+     */
+    public static ContextSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the canonical context set of the given contexts.
+     *
+     * @param contexts The contexts
+     * @return The context set
+     */
+    public static ContextSet of(Set<Context> contexts) {
+        checkNotNull(contexts, "contexts");
+        if (contexts instanceof ContextSet) {
+            return (ContextSet) contexts;
+        }
+        return interner.intern(new ContextSet(ImmutableSet.copyOf(contexts)));
+    }
+
+    /**
+     * Gets the canonical context set of the given contexts.
+     *
+     * @param contexts The contexts
+     * @return The context set
+     */
+    public static ContextSet of(Context... contexts) {
+        return of(ImmutableSet.copyOf(contexts));
+    }
+
+    @Override
+    public Iterator<Context> iterator() {
+        return this.contexts.iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.contexts.size();
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+        return this.contexts.contains(o);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof ContextSet) {
+            ContextSet other = (ContextSet) o;
+            return this.hashCode == other.hashCode && this.contexts.equals(other.contexts);
+        }
+        return this.contexts.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+}
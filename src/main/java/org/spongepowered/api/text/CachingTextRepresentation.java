@@ -0,0 +1,89 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.util.TextMessageException;
+
+import java.util.Locale;
+
+/**
+ * A {@link TextRepresentation} that caches the string representation of each
+ * {@link Text} it serializes in the text itself, so serializing the same
+ * text again, for example for every recipient of a broadcast, only returns
+ * the cached string.
+ */
+final class CachingTextRepresentation implements TextRepresentation {
+
+    private final Object kind;
+    private final TextRepresentation representation;
+
+    private CachingTextRepresentation(Object kind, TextRepresentation representation) {
+        this.kind = kind;
+        this.representation = representation;
+    }
+
+    /**
+     * Returns a caching view of the given representation.
+     *
+     * <p>The renders are cached by the given kind rather than by the
+     * representation instance, so all representations of the same kind
+     * share the cached strings of a text.</p>
+     *
+     * @param kind The value identifying the kind of representation
+     * @param representation The representation
+     * @return The caching representation
+     */
+    static TextRepresentation of(Object kind, TextRepresentation representation) {
+        checkNotNull(kind, "kind");
+        checkNotNull(representation, "representation");
+        if (representation instanceof CachingTextRepresentation) {
+            return representation;
+        }
+        return new CachingTextRepresentation(kind, representation);
+    }
+
+    @Override
+    public String to(Text text) {
+        return text.render(this.kind, null, this.representation::to);
+    }
+
+    @Override
+    public String to(Text text, Locale locale) {
+        return text.render(this.kind, locale, input -> this.representation.to(input, locale));
+    }
+
+    @Override
+    public Text from(String input) throws TextMessageException {
+        return this.representation.from(input);
+    }
+
+    @Override
+    public Text fromUnchecked(String input) {
+        return this.representation.fromUnchecked(input);
+    }
+
+}
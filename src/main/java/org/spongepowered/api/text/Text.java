@@ -29,18 +29,27 @@
 
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.MapMaker;
+import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.text.action.ClickAction;
 import org.spongepowered.api.text.action.HoverAction;
 import org.spongepowered.api.text.action.ShiftClickAction;
+import org.spongepowered.api.text.action.TextAction;
 import org.spongepowered.api.text.format.TextColor;
 import org.spongepowered.api.text.format.TextFormat;
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.translation.Translation;
 
+import java.net.URL;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -66,6 +75,15 @@
  */
 public abstract class Text implements TextRepresentable {
 
+    private static final ImmutableSet<Class<?>> IMMUTABLE_VALUE_TYPES = ImmutableSet.<Class<?>>of(String.class, Integer.class, Long.class,
+            Short.class, Byte.class, Double.class, Float.class, Boolean.class, Character.class, URL.class, UUID.class);
+
+    /**
+     * The maximum number of renders cached per text, which bounds the cache
+     * if a text is rendered in many locales.
+     */
+    private static final int MAX_RENDERS = 16;
+
     protected final TextFormat format;
     protected final ImmutableList<Text> children;
     protected final Optional<ClickAction<?>> clickAction;
@@ -80,11 +98,24 @@ public abstract class Text implements TextRepresentable {
 
         @Override
         public Iterator<Text> iterator() {
-            return Text.this.children.isEmpty() ? Iterators.singletonIterator(Text.this) : new TextIterator(Text.this);
+            return Text.this.children.isEmpty() ? Iterators.singletonIterator(Text.this) : Iterators.forArray(getFlattened());
         }
 
     };
 
+    /**
+     * This text and all children text and their children, in the order of
+     * {@link #withChildren()}. Computed lazily.
+     */
+    @Nullable private volatile Text[] flattened;
+    private volatile boolean renderCacheable;
+    @Nullable private volatile ConcurrentMap<RenderKey, String> renders;
+    /**
+     * The compiled template of this text. Computed lazily by
+     * {@link TextTemplate#of(Text)}.
+     */
+    @Nullable volatile TextTemplate template;
+
     Text() {
         this(new TextFormat(), ImmutableList.<Text>of(), null, null, null);
     }
@@ -238,6 +269,118 @@ public final Text toText() {
         return this;
     }
 
+    /**
+     * Returns this text and all children text and their children, computing
+     * the array on first use.
+     *
+     * @return The flattened text, must not be modified
+     */
+    final Text[] getFlattened() {
+        @Nullable Text[] flattened = this.flattened;
+        if (flattened == null) {
+            flattened = Iterators.toArray(new TextIterator(this), Text.class);
+            boolean cacheable = true;
+            for (Text text : flattened) {
+                if (!text.isContentCacheable()) {
+                    cacheable = false;
+                    break;
+                }
+            }
+            this.renderCacheable = cacheable;
+            this.flattened = flattened;
+        }
+        return flattened;
+    }
+
+    /**
+     * Returns whether the rendered forms of this text can be cached, which is
+     * the case unless it displays a value that may change, such as a score.
+     *
+     * @return Whether renders of this text can be cached
+     */
+    final boolean isRenderCacheable() {
+        getFlattened();
+        return this.renderCacheable;
+    }
+
+    /**
+     * Returns whether the content and actions of this text, excluding its
+     * children, are immutable.
+     *
+     * @return Whether the content of this text can be cached
+     */
+    boolean isContentCacheable() {
+        return isCacheableAction(this.clickAction) && isCacheableAction(this.hoverAction) && isCacheableAction(this.shiftClickAction);
+    }
+
+    private static boolean isCacheableAction(Optional<? extends TextAction<?>> action) {
+        return !action.isPresent() || isCacheableValue(action.get().getResult());
+    }
+
+    static boolean isCacheableValue(@Nullable Object value) {
+        if (value instanceof Text) {
+            return ((Text) value).isRenderCacheable();
+        }
+        return value == null || IMMUTABLE_VALUE_TYPES.contains(value.getClass()) || value instanceof Enum || value instanceof CatalogType
+                || value instanceof HoverAction.ShowEntity.Ref;
+    }
+
+    /**
+     * Renders this text with the given function, returning the cached result
+     * if this text was already rendered by the same renderer.
+     *
+     * @param renderer The key identifying the render function, compared by
+     *     equality
+     * @param locale The locale the text is rendered in, or null
+     * @param function The render function
+     * @return The rendered text
+     */
+    final String render(Object renderer, @Nullable Locale locale, Function<Text, String> function) {
+        if (!isRenderCacheable()) {
+            return function.apply(this);
+        }
+        @Nullable ConcurrentMap<RenderKey, String> renders = this.renders;
+        if (renders == null) {
+            renders = new MapMaker().concurrencyLevel(1).makeMap();
+            this.renders = renders;
+        }
+        RenderKey key = new RenderKey(renderer, locale);
+        @Nullable String result = renders.get(key);
+        if (result == null) {
+            result = function.apply(this);
+            if (renders.size() >= MAX_RENDERS) {
+                renders.clear();
+            }
+            renders.put(key, result);
+        }
+        return result;
+    }
+
+    private static final class RenderKey {
+
+        private final Object renderer;
+        @Nullable private final Locale locale;
+
+        RenderKey(Object renderer, @Nullable Locale locale) {
+            this.renderer = renderer;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof RenderKey)) {
+                return false;
+            }
+            RenderKey other = (RenderKey) obj;
+            return this.renderer.equals(other.renderer) && Objects.equal(this.locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.renderer.hashCode() * 31 + (this.locale == null ? 0 : this.locale.hashCode());
+        }
+    }
+
     /**
      * Represents a {@link Text} containing a plain text {@link String}.
      *
@@ -473,6 +616,16 @@ public final ImmutableList<Object> getArguments() {
             return this.arguments;
         }
 
+        @Override
+        boolean isContentCacheable() {
+            for (Object argument : this.arguments) {
+                if (!isCacheableValue(argument)) {
+                    return false;
+                }
+            }
+            return super.isContentCacheable();
+        }
+
         @Override
         public TextBuilder.Translatable builder() {
             return new TextBuilder.Translatable(this);
@@ -645,6 +798,12 @@ public final Optional<String> getOverride() {
             return this.override;
         }
 
+        @Override
+        boolean isContentCacheable() {
+            // The score may change at any time
+            return this.override.isPresent() && super.isContentCacheable();
+        }
+
         @Override
         public TextBuilder.Score builder() {
             return new TextBuilder.Score(this);
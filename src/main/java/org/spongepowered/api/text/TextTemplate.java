@@ -0,0 +1,287 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.text.Text.Placeholder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compiled {@link Text} containing {@link Placeholder}s.
+ *
+ * <p>Compiling a template records the position of all placeholders, so
+ * applying values to the template only rebuilds the parts of the text that
+ * contain a placeholder. The result is the same as
+ * {@link Texts#format(Text, Map)} and {@link Texts#format(Text, Object...)},
+ * which use compiled templates as well.</p>
+ *
+ * <p>Templates are immutable and can be applied concurrently.</p>
+ */
+public final class TextTemplate {
+
+    private final Text template;
+    private final ImmutableList<String> keys;
+    // The index of the value of each key in positional arguments, or -1
+    private final int[] positions;
+    @Nullable private final Node root;
+
+    private TextTemplate(Text template) {
+        this.template = template;
+        List<String> keys = new ArrayList<String>();
+        this.root = compile(template, keys);
+        this.keys = ImmutableList.copyOf(keys);
+        this.positions = new int[keys.size()];
+        for (int i = 0; i < this.positions.length; i++) {
+            this.positions[i] = parsePosition(keys.get(i));
+        }
+    }
+
+    /**
+     * Gets the compiled template of the given text. The compiled template is
+     * cached in the text itself.
+     *
+     * @param template The text containing placeholders
+     * @return The compiled template
+     */
+    public static TextTemplate of(Text template) {
+        @Nullable TextTemplate compiled = checkNotNull(template, "template").template;
+        if (compiled == null) {
+            compiled = new TextTemplate(template);
+            template.template = compiled;
+        }
+        return compiled;
+    }
+
+    private static int parsePosition(String key) {
+        // Only canonical indices, so "01" isn't the same key as "1"
+        if (key.isEmpty() || key.length() > 9 || (key.length() > 1 && key.charAt(0) == '0')) {
+            return -1;
+        }
+        int position = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            position = position * 10 + (c - '0');
+        }
+        return position;
+    }
+
+    /**
+     * Compiles the given text, returning null if it doesn't contain any
+     * placeholders.
+     */
+    @Nullable
+    private static Node compile(Text text, List<String> keys) {
+        int slot = -1;
+        @Nullable Object[] formats = null;
+        if (text instanceof Placeholder) {
+            String key = ((Placeholder) text).getKey();
+            slot = keys.indexOf(key);
+            if (slot == -1) {
+                slot = keys.size();
+                keys.add(key);
+            }
+            // Copy color, style and text actions from placeholder
+            List<Object> formatList = new ArrayList<Object>(5);
+            formatList.add(text.getFormat());
+            if (text.getHoverAction().isPresent()) {
+                formatList.add(text.getHoverAction().get());
+            }
+            if (text.getClickAction().isPresent()) {
+                formatList.add(text.getClickAction().get());
+            }
+            if (text.getShiftClickAction().isPresent()) {
+                formatList.add(text.getShiftClickAction().get());
+            }
+            formatList.add(null); // The replacement
+            formats = formatList.toArray();
+        }
+
+        List<Text> children = text.getChildren();
+        @Nullable Node[] childNodes = null;
+        int firstDynamicChild = -1;
+        for (int i = 0; i < children.size(); i++) {
+            @Nullable Node child = compile(children.get(i), keys);
+            if (child != null) {
+                if (childNodes == null) {
+                    childNodes = new Node[children.size()];
+                    firstDynamicChild = i;
+                }
+                childNodes[i] = child;
+            }
+        }
+
+        if (slot == -1 && childNodes == null) {
+            return null;
+        }
+        return new Node(text, slot, formats, childNodes, firstDynamicChild);
+    }
+
+    /**
+     * Gets the text this template was compiled from.
+     *
+     * @return The template text
+     */
+    public Text getTemplate() {
+        return this.template;
+    }
+
+    /**
+     * Gets the distinct keys of the placeholders in this template, in the
+     * order they first appear.
+     *
+     * @return The placeholder keys
+     */
+    public ImmutableList<String> getKeys() {
+        return this.keys;
+    }
+
+    /**
+     * Creates a new text with all placeholders replaced by the values of their
+     * keys. Placeholders without a non-null value are ignored.
+     *
+     * @param values The values of the placeholders
+     * @return The text with all possible placeholders replaced
+     * @see Texts#format(Text, Map)
+     */
+    public Text apply(Map<String, ?> values) {
+        checkNotNull(values, "values");
+        if (this.root == null || values.isEmpty()) {
+            return this.template;
+        }
+        Object[] slots = new Object[this.keys.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = values.get(this.keys.get(i));
+        }
+        return apply(this.root, slots);
+    }
+
+    /**
+     * Creates a new text with all placeholders with the keys {@code 0},
+     * {@code 1}, ... replaced by the value at that index. Placeholders without
+     * a non-null value are ignored.
+     *
+     * @param values The values of the placeholders
+     * @return The text with all possible placeholders replaced
+     * @see Texts#format(Text, Object...)
+     */
+    public Text apply(Object... values) {
+        checkNotNull(values, "values");
+        if (this.root == null) {
+            return this.template;
+        }
+        Object[] slots = new Object[this.keys.size()];
+        for (int i = 0; i < slots.length; i++) {
+            int position = this.positions[i];
+            if (position >= 0 && position < values.length) {
+                slots[i] = values[position];
+            }
+        }
+        return apply(this.root, slots);
+    }
+
+    private static Text apply(Node node, Object[] slots) {
+        if (node.slot != -1) {
+            @Nullable Object replacement = slots[node.slot];
+            if (replacement != null) {
+                Object[] formats = node.formats.clone();
+                formats[formats.length - 1] = replacement;
+                return Texts.of(formats);
+            }
+        }
+        if (node.children == null) {
+            return node.text;
+        }
+
+        TextBuilder builder = null;
+        List<Text> children = node.text.getChildren();
+        for (int i = node.firstDynamicChild; i < children.size(); i++) {
+            final Text child = children.get(i);
+            @Nullable Node childNode = node.children[i];
+            Text formatted = childNode == null ? child : apply(childNode, slots);
+            if (builder == null) {
+                if (formatted == child) {
+                    continue;
+                }
+                builder = node.text.builder();
+                builder.remove(children.subList(i, children.size()));
+            }
+            builder.append(formatted);
+        }
+        return builder == null ? node.text : builder.build();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        return this == obj || obj instanceof TextTemplate && this.template.equals(((TextTemplate) obj).template);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.template.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("template", this.template)
+                .add("keys", this.keys)
+                .toString();
+    }
+
+    /**
+     * A text of the template that is or contains a placeholder.
+     */
+    private static final class Node {
+
+        final Text text;
+        // The slot of the placeholder key, or -1 if the text isn't a placeholder
+        final int slot;
+        // The formats of the placeholder followed by a slot for the replacement
+        @Nullable final Object[] formats;
+        // The nodes of the children containing placeholders, null for other children
+        @Nullable final Node[] children;
+        final int firstDynamicChild;
+
+        Node(Text text, int slot, @Nullable Object[] formats, @Nullable Node[] children, int firstDynamicChild) {
+            this.text = text;
+            this.slot = slot;
+            this.formats = formats;
+            this.children = children;
+            this.firstDynamicChild = firstDynamicChild;
+        }
+    }
+
+}
@@ -42,12 +42,8 @@
 import org.spongepowered.api.text.translation.Translatable;
 import org.spongepowered.api.text.translation.Translation;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Utility class to work with and create {@link Text}.
@@ -55,6 +51,13 @@
 public final class Texts {
 
     private static TextFactory factory = null;
+
+    /**
+     * The renderer keys of the plain, json and xml representations.
+     */
+    private static final String PLAIN = "plain";
+    private static final String JSON = "json";
+    private static final String XML = "xml";
     static final Text.Literal EMPTY = new Text.Literal();
 
     private Texts() {
@@ -254,7 +257,7 @@ public static Text format(Text template, Map<String, ?> replacements) {
         if (replacements.isEmpty()) {
             return template;
         }
-        return formatNoChecks(template, replacements);
+        return TextTemplate.of(template).apply(replacements);
     }
 
     /**
@@ -273,56 +276,7 @@ public static Text format(Text template, Map<String, ?> replacements) {
     public static Text format(Text template, Object... replacements) {
         checkNotNull(template, "template");
         checkNotNull(replacements, "values");
-        Map<String, Object> replacementsMap = new HashMap<String, Object>();
-        int index = 0;
-        for (Object replacement : replacements) {
-            replacementsMap.put(Integer.toString(index++), replacement);
-        }
-        return formatNoChecks(template, replacementsMap);
-    }
-
-    private static Text formatNoChecks(Text template, Map<String, ?> replacements) {
-        // Is this a placeholder that should be replaced?
-        if (template instanceof Placeholder) {
-            Object replacement = replacements.get(((Placeholder) template).getKey());
-            // Only replace
-            if (replacement != null) {
-                // Copy color, style and text actions from placeholder
-                List<Object> formats = new ArrayList<Object>();
-                formats.add(template.getFormat());
-                Optional<HoverAction<?>> hoverAction = template.getHoverAction();
-                if (hoverAction.isPresent()) {
-                    formats.add(hoverAction.get());
-                }
-                Optional<ClickAction<?>> clickAction = template.getClickAction();
-                if (clickAction.isPresent()) {
-                    formats.add(clickAction.get());
-                }
-                Optional<ShiftClickAction<?>> shiftClickAction = template.getShiftClickAction();
-                if (shiftClickAction.isPresent()) {
-                    formats.add(shiftClickAction.get());
-                }
-                formats.add(replacement);
-
-                return Texts.of(formats.toArray());
-            }
-        }
-        // Also check child texts for placeholders
-        TextBuilder builder = null;
-        List<Text> children = template.getChildren();
-        for (int i = 0; i < children.size(); ++i) {
-            final Text child = children.get(i);
-            Text formatted = formatNoChecks(child, replacements);
-            if (builder == null) {
-                if (formatted == child) {
-                    continue;
-                }
-                builder = template.builder();
-                builder.remove(children.subList(i, children.size()));
-            }
-            builder.append(formatted);
-        }
-        return builder == null ? template : builder.build();
+        return TextTemplate.of(template).apply(replacements);
     }
 
     /**
@@ -544,7 +498,7 @@ public static Text join(Text separator, Text... texts) {
      * @return The text converted to plain text
      */
     public static String toPlain(Text text) {
-        return factory.toPlain(text);
+        return text.render(PLAIN, null, factory::toPlain);
     }
 
     /**
@@ -556,7 +510,7 @@ public static String toPlain(Text text) {
      * @return The text converted to plain text
      */
     public static String toPlain(Text text, Locale locale) {
-        return factory.toPlain(text, locale);
+        return text.render(PLAIN, locale, input -> factory.toPlain(input, locale));
     }
 
     /**
@@ -567,7 +521,7 @@ public static String toPlain(Text text, Locale locale) {
      * @return The json serializer
      */
     public static TextRepresentation json() {
-        return factory.json();
+        return CachingTextRepresentation.of(JSON, factory.json());
     }
 
     /**
@@ -577,7 +531,7 @@ public static TextRepresentation json() {
      * @return The xml text serializer
      */
     public static TextRepresentation xml() {
-        return factory.xml();
+        return CachingTextRepresentation.of(XML, factory.xml());
     }
 
     /**
@@ -611,7 +565,7 @@ public static TextRepresentation legacy() {
      */
     @Deprecated
     public static TextRepresentation legacy(char legacyChar) {
-        return factory.legacy(legacyChar);
+        return CachingTextRepresentation.of("legacy" + legacyChar, factory.legacy(legacyChar));
     }
 
     /**
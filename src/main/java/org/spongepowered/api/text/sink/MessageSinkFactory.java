@@ -36,6 +36,10 @@ public interface MessageSinkFactory {
     /**
      * A message sink that targets all subjects with the given permission.
      *
+     * <p>Implementations should evaluate the permission for all receivers
+     * at once, see
+     * {@link org.spongepowered.api.service.permission.SubjectCollection#getPermissionValues}.</p>
+     *
      * @param permission The permission to target
      * @return The sink
      */
@@ -46,6 +46,8 @@
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 /**
  * A block ray which traces a line and returns all block boundaries intersected in order,
  * starting from the start location. This class implements the {@link Iterator} interface
@@ -450,6 +452,149 @@ public void remove() {
         throw new UnsupportedOperationException("Removal is not supported by this iterator");
     }
 
+    /**
+     * Traces a ray and calls the visitor with the coordinates of each block
+     * it intersects, in order, without allocating a {@link BlockRayHit} or
+     * any vectors. The blocks are the same as those of the iterator of a
+     * block ray in the same direction without filters, but a ray starting
+     * outside of the extent skips ahead to the point where it enters the
+     * extent. The traversal stops when the visitor returns false, when the
+     * block limit is reached or when the ray leaves the extent.
+     *
+     * @param extent The extent in which to trace the ray
+     * @param x The x coordinate of the starting position
+     * @param y The y coordinate of the starting position
+     * @param z The z coordinate of the starting position
+     * @param directionX The x component of the direction
+     * @param directionY The y component of the direction
+     * @param directionZ The z component of the direction
+     * @param blockLimit The maximum number of blocks to visit, or a negative
+     *        value for no limit
+     * @param visitor The visitor of the blocks
+     * @return The number of visited blocks
+     */
+    public static int trace(Extent extent, double x, double y, double z, double directionX, double directionY, double directionZ,
+            int blockLimit, VoxelVisitor visitor) {
+        checkNotNull(extent, "extent");
+        checkNotNull(visitor, "visitor");
+        final double length = Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+        checkArgument(length != 0, "Direction must be a non-zero vector");
+        final double dx = directionX / length;
+        final double dy = directionY / length;
+        final double dz = directionZ / length;
+
+        // The bounds are only read once, the extent is a box
+        final Vector3i min = extent.getBlockMin();
+        final Vector3i max = extent.getBlockMax();
+        final int minX = min.getX();
+        final int minY = min.getY();
+        final int minZ = min.getZ();
+        final int maxX = max.getX();
+        final int maxY = max.getY();
+        final int maxZ = max.getZ();
+
+        // Clip the ray to the extent, so a ray that starts outside of it skips ahead
+        final double enter = Math.max(getEnterDistance(x, dx, minX, maxX + 1),
+                Math.max(getEnterDistance(y, dy, minY, maxY + 1), getEnterDistance(z, dz, minZ, maxZ + 1)));
+        final double exit = Math.min(getExitDistance(x, dx, minX, maxX + 1),
+                Math.min(getExitDistance(y, dy, minY, maxY + 1), getExitDistance(z, dz, minZ, maxZ + 1)));
+        if (enter > exit) {
+            return 0;
+        }
+        final double offset;
+        if (enter > 0) {
+            offset = enter;
+            x = GenericMath.clamp(x + dx * enter, minX, maxX + 1);
+            y = GenericMath.clamp(y + dy * enter, minY, maxY + 1);
+            z = GenericMath.clamp(z + dz * enter, minZ, maxZ + 1);
+        } else {
+            offset = 0;
+        }
+
+        // The same plane stepping as the iterator, see advance()
+        final int xIncrement = dx >= 0 ? 1 : -1;
+        final int yIncrement = dy >= 0 ? 1 : -1;
+        final int zIncrement = dz >= 0 ? 1 : -1;
+        final int xFace = dx >= 0 ? VoxelVisitor.WEST : VoxelVisitor.EAST;
+        final int yFace = dy >= 0 ? VoxelVisitor.DOWN : VoxelVisitor.UP;
+        final int zFace = dz >= 0 ? VoxelVisitor.NORTH : VoxelVisitor.SOUTH;
+        int xNext = getFirstPlane(x, dx);
+        int yNext = getFirstPlane(y, dy);
+        int zNext = getFirstPlane(z, dz);
+        // Planes that are never reached are infinitely far away
+        double xT = dx == 0 ? Double.POSITIVE_INFINITY : (xNext - x) / dx;
+        double yT = dy == 0 ? Double.POSITIVE_INFINITY : (yNext - y) / dy;
+        double zT = dz == 0 ? Double.POSITIVE_INFINITY : (zNext - z) / dz;
+
+        int count = 0;
+        while (blockLimit < 0 || count < blockLimit) {
+            final double t = Math.min(xT, Math.min(yT, zT));
+            int face = 0;
+            final int blockX;
+            final int blockY;
+            final int blockZ;
+            if (xT == t) {
+                face |= xFace;
+                blockX = dx >= 0 ? xNext : xNext - 1;
+            } else {
+                blockX = GenericMath.floor(dx * t + x);
+            }
+            if (yT == t) {
+                face |= yFace;
+                blockY = dy >= 0 ? yNext : yNext - 1;
+            } else {
+                blockY = GenericMath.floor(dy * t + y);
+            }
+            if (zT == t) {
+                face |= zFace;
+                blockZ = dz >= 0 ? zNext : zNext - 1;
+            } else {
+                blockZ = GenericMath.floor(dz * t + z);
+            }
+            if (blockX < minX || blockX > maxX || blockY < minY || blockY > maxY || blockZ < minZ || blockZ > maxZ) {
+                break;
+            }
+            count++;
+            if (!visitor.visit(blockX, blockY, blockZ, face, offset + t)) {
+                break;
+            }
+            // Prepare the next intersection
+            if ((face & xFace) != 0) {
+                xNext += xIncrement;
+                xT = (xNext - x) / dx;
+            }
+            if ((face & yFace) != 0) {
+                yNext += yIncrement;
+                yT = (yNext - y) / dy;
+            }
+            if ((face & zFace) != 0) {
+                zNext += zIncrement;
+                zT = (zNext - z) / dz;
+            }
+        }
+        return count;
+    }
+
+    private static int getFirstPlane(double position, double direction) {
+        // The plane of the block that contains the position, corrected for the direction when inside the block
+        final int plane = GenericMath.floor(position);
+        return position - plane != 0 && direction >= 0 ? plane + 1 : plane;
+    }
+
+    private static double getEnterDistance(double position, double direction, int min, int max) {
+        if (direction == 0) {
+            return position >= min && position <= max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return Math.min((min - position) / direction, (max - position) / direction);
+    }
+
+    private static double getExitDistance(double position, double direction, int min, int max) {
+        if (direction == 0) {
+            return position >= min && position <= max ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return Math.max((min - position) / direction, (max - position) / direction);
+    }
+
     /**
      * Initializes a block ray builder, starting with the starting location.
      *
@@ -511,6 +656,9 @@ public static BlockRayBuilder<World> from(Entity entity) {
         private Predicate<BlockRayHit<E>> filter = allFilter();
         private Vector3d direction = null;
         private int blockLimit = DEFAULT_BLOCK_LIMIT;
+        // The block at the end set by to(), and whether other filters were added
+        @Nullable private Vector3i target;
+        private boolean filtered;
 
         private BlockRayBuilder(E extent, Vector3d position) {
             this.extent = extent;
@@ -526,12 +674,8 @@ private BlockRayBuilder(E extent, Vector3d position) {
          */
         public BlockRayBuilder<E> filter(final Predicate<BlockRayHit<E>> filter) {
             checkNotNull(filter, "filter ");
-            if (this.filter == ALL_FILTER) {
-                this.filter = filter;
-            } else {
-                this.filter = this.filter.and(filter);
-            }
-            return this;
+            this.filtered = true;
+            return addFilter(filter);
         }
 
         /**
@@ -545,6 +689,11 @@ public BlockRayBuilder<E> filter(final Predicate<BlockRayHit<E>>... filters) {
             checkNotNull(filters, "filters");
             @SuppressWarnings("RedundantTypeArguments") // For Apple JDK 6, don't remove
             final Predicate<BlockRayHit<E>> filter = filters.length == 1 ? filters[0] : Functional.predicateAnd(filters);
+            this.filtered = true;
+            return addFilter(filter);
+        }
+
+        private BlockRayBuilder<E> addFilter(final Predicate<BlockRayHit<E>> filter) {
             if (this.filter == ALL_FILTER) {
                 this.filter = filter;
             } else {
@@ -564,7 +713,8 @@ public BlockRayBuilder<E> to(Vector3d end) {
             checkNotNull(end, "end");
             checkArgument(!this.position.equals(end), "Start and end cannot be equal");
             this.direction = end.sub(this.position).normalize();
-            return filter(new TargetBlockFilter<>(end));
+            this.target = end.toInt();
+            return addFilter(new TargetBlockFilter<>(end));
         }
 
         /**
@@ -622,6 +772,31 @@ public Iterator<BlockRayHit<E>> iterator() {
         public Optional<BlockRayHit<E>> end() {
             return build().end();
         }
+
+        /**
+         * Traces the block ray with the visitor, see
+         * {@link BlockRay#trace(Extent, double, double, double, double, double, double, int, VoxelVisitor)}.
+         * The traversal stops before the block of the ending location, if
+         * one was set. Filters can't be used, the visitor has to test the
+         * blocks instead.
+         *
+         * @param visitor The visitor of the blocks
+         * @return The number of visited blocks
+         */
+        public int trace(VoxelVisitor visitor) {
+            checkState(this.direction != null, "Either end point or direction needs to be set");
+            checkState(!this.filtered, "Filters can't be used with a visitor");
+            checkNotNull(visitor, "visitor");
+            if (this.target == null) {
+                return BlockRay.trace(this.extent, this.position.getX(), this.position.getY(), this.position.getZ(),
+                        this.direction.getX(), this.direction.getY(), this.direction.getZ(), this.blockLimit, visitor);
+            }
+            final TargetBlockVisitor bounded = new TargetBlockVisitor(this.target, visitor);
+            final int count = BlockRay.trace(this.extent, this.position.getX(), this.position.getY(), this.position.getZ(),
+                    this.direction.getX(), this.direction.getY(), this.direction.getZ(), this.blockLimit, bounded);
+            // The target block was visited, but not passed to the visitor
+            return bounded.reached ? count - 1 : count;
+        }
     }
 
     /**
@@ -681,6 +856,31 @@ public static <E extends Extent> Predicate<BlockRayHit<E>> maxDistanceFilter(fin
 
     }
 
+    private static class TargetBlockVisitor implements VoxelVisitor {
+
+        private final int targetX;
+        private final int targetY;
+        private final int targetZ;
+        private final VoxelVisitor visitor;
+        boolean reached;
+
+        TargetBlockVisitor(Vector3i target, VoxelVisitor visitor) {
+            this.targetX = target.getX();
+            this.targetY = target.getY();
+            this.targetZ = target.getZ();
+            this.visitor = visitor;
+        }
+
+        @Override
+        public boolean visit(int x, int y, int z, int face, double t) {
+            if (x == this.targetX && y == this.targetY && z == this.targetZ) {
+                this.reached = true;
+                return false;
+            }
+            return this.visitor.visit(x, y, z, face, t);
+        }
+    }
+
     private static class TargetBlockFilter<E extends Extent> implements Predicate<BlockRayHit<E>> {
 
         private final Vector3i target;
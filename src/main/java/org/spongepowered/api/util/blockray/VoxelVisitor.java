@@ -0,0 +1,83 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+/**
+ * A callback for the blocks traversed by
+ * {@link BlockRay#trace(org.spongepowered.api.world.extent.Extent, double, double, double, double, double, double, int, VoxelVisitor)},
+ * which receives the primitive values of each hit instead of a
+ * {@link BlockRayHit}.
+ *
+ * <p>The face through which a block was entered is a combination of the
+ * face constants of this interface. A ray passing exactly through an edge or
+ * a corner enters through two or three faces at once.</p>
+ */
+@FunctionalInterface
+public interface VoxelVisitor {
+
+    /**
+     * The face of the block towards positive x.
+     */
+    int EAST = 1;
+
+    /**
+     * The face of the block towards negative x.
+     */
+    int WEST = 2;
+
+    /**
+     * The face of the block towards positive y.
+     */
+    int UP = 4;
+
+    /**
+     * The face of the block towards negative y.
+     */
+    int DOWN = 8;
+
+    /**
+     * The face of the block towards positive z.
+     */
+    int SOUTH = 16;
+
+    /**
+     * The face of the block towards negative z.
+     */
+    int NORTH = 32;
+
+    /**
+     * Visits the next block of the ray.
+     *
+     * @param x The x coordinate of the block
+     * @param y The y coordinate of the block
+     * @param z The z coordinate of the block
+     * @param face The faces through which the ray entered the block
+     * @param t The distance from the start of the ray to the point where it
+     *        entered the block
+     * @return True to continue the traversal, false to stop it
+     */
+    boolean visit(int x, int y, int z, int face, double t);
+
+}
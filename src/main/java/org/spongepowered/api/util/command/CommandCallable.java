@@ -25,10 +25,13 @@
 package org.spongepowered.api.util.command;
 
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.util.command.spec.CommandSpec;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * A low-level interface for commands that can be executed. For almost all use
@@ -65,6 +68,26 @@ public interface CommandCallable {
      */
     List<String> getSuggestions(CommandSource source, String arguments) throws CommandException;
 
+    /**
+     * Get a list of suggestions based on input, without blocking the calling
+     * thread.
+     *
+     * <p>Suggestions that may block, such as ones that look up profiles or
+     * query a database, must be computed on the given executor. The default
+     * implementation calls {@link #getSuggestions(CommandSource, String)} on
+     * the executor. A {@link CommandException} completes the returned future
+     * exceptionally. Cancelling the returned future may stop the computation
+     * of the suggestions.</p>
+     *
+     * @param source The command source
+     * @param arguments The arguments entered up to this point
+     * @param executor The executor to compute expensive suggestions on
+     * @return The future list of suggestions
+     */
+    default CompletableFuture<List<String>> getSuggestionsAsync(CommandSource source, String arguments, Executor executor) {
+        return Functional.asyncFailableFuture(() -> getSuggestions(source, arguments), executor);
+    }
+
     /**
      * Test whether this command can probably be executed by the given source.
      *
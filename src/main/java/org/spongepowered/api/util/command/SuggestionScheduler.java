@@ -0,0 +1,142 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.MapMaker;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Schedules asynchronous suggestions for command sources that are typing.
+ *
+ * <p>Requesting suggestions for a source cancels the previous request of the
+ * same source if it hasn't completed yet, so only suggestions for the latest
+ * input are computed. Requests are delayed by the debounce time, a request
+ * that is replaced within that time is never started.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public final class SuggestionScheduler {
+
+    private final ScheduledExecutorService executor;
+    private final long debounceNanos;
+    private final ConcurrentMap<CommandSource, CompletableFuture<List<String>>> pending = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Creates a new suggestion scheduler.
+     *
+     * @param executor The executor to compute suggestions on
+     * @param debounce The time to wait for newer input before computing
+     *        suggestions
+     * @param unit The unit of the debounce time
+     */
+    public SuggestionScheduler(ScheduledExecutorService executor, long debounce, TimeUnit unit) {
+        checkArgument(debounce >= 0, "debounce must not be negative");
+        this.executor = checkNotNull(executor, "executor");
+        this.debounceNanos = checkNotNull(unit, "unit").toNanos(debounce);
+    }
+
+    /**
+     * Requests suggestions of the callable for the given input, cancelling
+     * the previous request of the source.
+     *
+     * <p>The returned future is cancelled if a newer request of the same
+     * source arrives before it completes.</p>
+     *
+     * @param source The command source
+     * @param callable The callable to get suggestions from
+     * @param arguments The arguments entered up to this point
+     * @return The future list of suggestions
+     */
+    public CompletableFuture<List<String>> getSuggestions(CommandSource source, CommandCallable callable, String arguments) {
+        checkNotNull(source, "source");
+        checkNotNull(callable, "callable");
+        checkNotNull(arguments, "arguments");
+
+        final CompletableFuture<List<String>> result = new CompletableFuture<List<String>>();
+        @Nullable CompletableFuture<List<String>> previous = this.pending.put(source, result);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        final ScheduledFuture<?> task = this.executor.schedule(() -> start(source, callable, arguments, result),
+                this.debounceNanos, TimeUnit.NANOSECONDS);
+        result.whenComplete((suggestions, error) -> {
+            this.pending.remove(source, result);
+            if (result.isCancelled()) {
+                task.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private void start(CommandSource source, CommandCallable callable, String arguments, CompletableFuture<List<String>> result) {
+        if (result.isDone()) {
+            return;
+        }
+        final CompletableFuture<List<String>> suggestions;
+        try {
+            suggestions = callable.getSuggestionsAsync(source, arguments, this.executor);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                suggestions.cancel(false);
+            }
+        });
+        suggestions.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    /**
+     * Cancels the pending request of the given source, if there is one.
+     *
+     * @param source The command source
+     */
+    public void cancel(CommandSource source) {
+        @Nullable CompletableFuture<List<String>> previous = this.pending.remove(checkNotNull(source, "source"));
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.args;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Sets;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A sorted index of the choices of a {@link PatternMatchingCommandElement}.
+ *
+ * <p>Choices are compared ignoring case, so an index can't contain two
+ * choices that only differ in case. Choices can be added and removed
+ * incrementally while other threads look up choices by prefix.</p>
+ */
+public final class ChoiceIndex {
+
+    private final ConcurrentNavigableMap<String, String> choices = new ConcurrentSkipListMap<String, String>();
+    private volatile int size;
+    // The keys of the choices given to update, reused between updates
+    private final Set<String> updatedKeys = Sets.newHashSet();
+
+    /**
+     * Creates a new empty index.
+     */
+    public ChoiceIndex() {
+    }
+
+    /**
+     * Creates a new index with the given choices.
+     *
+     * @param choices The choices
+     */
+    public ChoiceIndex(Iterable<String> choices) {
+        update(choices);
+    }
+
+    private static String key(String choice) {
+        return choice.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Adds a choice to this index, replacing a choice that only differs in
+     * case.
+     *
+     * @param choice The choice
+     * @return Whether the index changed
+     */
+    public synchronized boolean add(String choice) {
+        checkNotNull(choice, "choice");
+        @Nullable String previous = this.choices.put(key(choice), choice);
+        if (previous == null) {
+            this.size++;
+        }
+        return !choice.equals(previous);
+    }
+
+    /**
+     * Removes a choice from this index.
+     *
+     * @param choice The choice
+     * @return Whether the choice was present
+     */
+    public synchronized boolean remove(String choice) {
+        checkNotNull(choice, "choice");
+        if (this.choices.remove(key(choice), choice)) {
+            this.size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates this index to contain exactly the given choices. Only the
+     * choices that were added or removed are changed, so updating an index
+     * that is already up to date doesn't modify it.
+     *
+     * @param choices The choices, null elements are ignored
+     */
+    public synchronized void update(Iterable<String> choices) {
+        checkNotNull(choices, "choices");
+        Set<String> keys = this.updatedKeys;
+        for (String choice : choices) {
+            if (choice != null) {
+                String key = key(choice);
+                if (!choice.equals(this.choices.get(key))) {
+                    add(choice);
+                }
+                keys.add(key);
+            }
+        }
+        // All given choices are in the index now, so it contains other
+        // choices if it is larger
+        if (this.size > keys.size()) {
+            for (Iterator<String> it = this.choices.keySet().iterator(); it.hasNext(); ) {
+                if (!keys.contains(it.next())) {
+                    it.remove();
+                    this.size--;
+                }
+            }
+        }
+        keys.clear();
+    }
+
+    /**
+     * Gets the number of choices in this index.
+     *
+     * @return The number of choices
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the choice that is equal to the given string, ignoring case.
+     *
+     * @param choice The string
+     * @return The choice, or null if there is none
+     */
+    @Nullable
+    public String getExact(String choice) {
+        return this.choices.get(key(checkNotNull(choice, "choice")));
+    }
+
+    /**
+     * Gets an unmodifiable view of all choices, sorted ignoring case.
+     *
+     * @return The choices
+     */
+    public Collection<String> getChoices() {
+        return Collections.unmodifiableCollection(this.choices.values());
+    }
+
+    /**
+     * Gets an unmodifiable view of the choices starting with the given
+     * prefix ignoring case, sorted ignoring case.
+     *
+     * @param prefix The prefix
+     * @return The choices
+     */
+    public Collection<String> getChoicesStartingWith(String prefix) {
+        String key = key(checkNotNull(prefix, "prefix"));
+        if (key.isEmpty()) {
+            return getChoices();
+        }
+        Map<String, String> matching = this.choices.subMap(key, true, key + Character.MAX_VALUE, false);
+        return Collections.unmodifiableCollection(matching.values());
+    }
+
+}
@@ -29,14 +29,13 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.command.args.parsing.ArgumentTokens;
+import org.spongepowered.api.util.command.args.parsing.InputTokenizer;
 import org.spongepowered.api.util.command.args.parsing.SingleArg;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -45,7 +44,8 @@
  */
 public final class CommandArgs {
     private final String rawInput;
-    private List<SingleArg> args;
+    private final ArgumentTokens args;
+    @Nullable private List<String> all;
     private int index = -1;
 
     /**
@@ -55,8 +55,20 @@ public final class CommandArgs {
      * @param args Arguments extracted from the raw input
      */
     public CommandArgs(String rawInput, List<SingleArg> args) {
+        this(rawInput, ArgumentTokens.of(rawInput, args));
+    }
+
+    /**
+     * Create a new CommandArgs instance over the given tokens, as returned by
+     * {@link InputTokenizer#tokenizeOffsets(String, boolean)}. The tokens are
+     * used directly and will be modified by this object.
+     *
+     * @param rawInput Raw input
+     * @param args Tokens extracted from the raw input
+     */
+    public CommandArgs(String rawInput, ArgumentTokens args) {
         this.rawInput = rawInput;
-        this.args = new ArrayList<SingleArg>(args);
+        this.args = args;
     }
 
     /**
@@ -78,7 +90,7 @@ public String peek() throws ArgumentParseException {
         if (!hasNext()) {
             throw createError(t("Not enough arguments"));
         }
-        return this.args.get(this.index + 1).getValue();
+        return this.args.getValue(this.index + 1);
     }
 
     /**
@@ -91,7 +103,7 @@ public String next() throws ArgumentParseException {
         if (!hasNext()) {
             throw createError(t("Not enough arguments!"));
         }
-        return this.args.get(++this.index).getValue();
+        return this.args.getValue(++this.index);
     }
 
     /**
@@ -100,7 +112,7 @@ public String next() throws ArgumentParseException {
      * @return The optional next argument.
      */
     public Optional<String> nextIfPresent() {
-        return hasNext() ? Optional.of(this.args.get(++this.index).getValue()) : Optional.<String>empty();
+        return hasNext() ? Optional.of(this.args.getValue(++this.index)) : Optional.<String>empty();
     }
 
     /**
@@ -111,7 +123,7 @@ public Optional<String> nextIfPresent() {
      * @return the newly created, but unthrown exception
      */
     public ArgumentParseException createError(Text message) {
-        return new ArgumentParseException(message, this.rawInput, this.index < 0 ? 0 : this.args.get(this.index).getStartIdx());
+        return new ArgumentParseException(message, this.rawInput, this.index < 0 ? 0 : this.args.getStartIdx(this.index));
     }
 
     /**
@@ -120,11 +132,14 @@ public ArgumentParseException createError(Text message) {
      * @return all arguments
      */
     public List<String> getAll() {
-        return Collections.unmodifiableList(this.args.stream().map(SingleArg::getValue).collect(Collectors.toList()));
+        if (this.all == null) {
+            this.all = this.args.getValues();
+        }
+        return this.all;
     }
 
     List<SingleArg> getArgs() {
-        return this.args;
+        return this.args.toList();
     }
 
     /**
@@ -163,8 +178,9 @@ public String getRaw() {
      * @param value The argument to insert
      */
     public void insertArg(String value) {
-        int index = this.index < 0 ? 0 : this.args.get(this.index).getEndIdx();
-        this.args.add(index, new SingleArg(value, index, index));
+        int index = this.index < 0 ? 0 : this.args.getEndIdx(this.index);
+        this.args.insert(index, value, index, index);
+        this.all = null;
     }
 
     /**
@@ -186,9 +202,8 @@ public void removeArgs(Object startState, Object endState) {
                 this.index -= (endIdx - startIdx) + 1;
             }
         }
-        for (int i = startIdx; i <= endIdx; ++i) {
-            this.args.remove(startIdx);
-        }
+        this.args.remove(startIdx, endIdx + 1);
+        this.all = null;
     }
 
     /**
@@ -206,7 +221,7 @@ void previous() {
      * @return the raw position
      */
     public int getRawPosition() {
-        return this.index < 0 ? 0 : this.args.get(this.index).getStartIdx();
+        return this.index < 0 ? 0 : this.args.getStartIdx(this.index);
     }
 
 }
@@ -26,9 +26,12 @@
 
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.Texts;
+import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.util.command.CommandSource;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
@@ -126,6 +129,26 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
      */
     public abstract List<String> complete(CommandSource src, CommandArgs args, CommandContext context);
 
+    /**
+     * Fetch completions for command arguments without blocking the calling
+     * thread. The default implementation calls
+     * {@link #complete(CommandSource, CommandArgs, CommandContext)} on the
+     * executor, elements with cheap completions may complete on the calling
+     * thread instead.
+     *
+     * <p>The arguments and context must not be used by the caller until the
+     * returned future is complete.</p>
+     *
+     * @param src The source requesting tab completions
+     * @param args The arguments currently provided
+     * @param context The context to store state in
+     * @param executor The executor to compute expensive completions on
+     * @return Any relevant completions
+     */
+    public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+        return Functional.asyncFailableFuture(() -> complete(src, args, context), executor);
+    }
+
     /**
      * Return a usage message for this specific argument.
      *
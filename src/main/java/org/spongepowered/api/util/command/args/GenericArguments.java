@@ -56,6 +56,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -750,17 +752,30 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
 
     private static class EnumValueElement<T extends Enum<T>> extends PatternMatchingCommandElement {
         private final Class<T> type;
+        private final ChoiceIndex choices;
 
         private EnumValueElement(Text key, Class<T> type) {
             super(key);
             this.type = type;
+            this.choices = new ChoiceIndex(Arrays.asList(this.type.getEnumConstants()).stream()
+                .map(input -> input == null ? null : input.name())
+                .collect(Collectors.toList()));
         }
 
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Arrays.asList(this.type.getEnumConstants()).stream()
-                .map(input -> input == null ? null : input.name())
-                .collect(Collectors.toList());
+            return this.choices.getChoices();
+        }
+
+        @Override
+        protected ChoiceIndex getChoiceIndex(CommandSource source) {
+            return this.choices;
+        }
+
+        @Override
+        public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+            // Completed from a fixed set of choices, so there is no need to switch threads
+            return CompletableFuture.completedFuture(complete(src, args, context));
         }
 
         @Override
@@ -879,6 +894,12 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
             return ImmutableList.of();
         }
 
+        @Override
+        public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+            // Completed from a fixed set of choices, so there is no need to switch threads
+            return CompletableFuture.completedFuture(complete(src, args, context));
+        }
+
         @Override
         public Text getUsage(CommandSource src) {
             return Texts.of(Joiner.on(' ').join(this.expectedArgs));
@@ -888,6 +909,9 @@ public Text getUsage(CommandSource src) {
     private static class PlayerCommandElement extends PatternMatchingCommandElement {
         private final Game game;
         private final boolean returnSource;
+        private final ChoiceIndex players = new ChoiceIndex();
+        // The number of online players when the index was last updated
+        private volatile int playerCount = -1;
 
         protected PlayerCommandElement(Text key, Game game, boolean returnSource) {
             super(key);
@@ -904,7 +928,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
 
             Object state = args.getState();
             try {
-                return super.parseValue(source, args);
+                return parsePlayer(source, args);
             } catch (ArgumentParseException ex) {
                 if (this.returnSource) {
                     args.setState(state);
@@ -915,11 +939,37 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             }
         }
 
+        private Object parsePlayer(CommandSource source, CommandArgs args) throws ArgumentParseException {
+            Object state = args.getState();
+            try {
+                return super.parseValue(source, args);
+            } catch (ArgumentParseException | IllegalArgumentException ex) {
+                // The index is stale if as many players left as joined since it was updated
+                args.setState(state);
+                updatePlayers(this.game.getServer().getOnlinePlayers());
+                return super.parseValue(source, args);
+            }
+        }
+
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return this.game.getServer().getOnlinePlayers().stream()
-                .map(input -> input == null ? null : input.getName())
-                .collect(Collectors.toList());
+            return getChoiceIndex(source).getChoices();
+        }
+
+        @Override
+        protected ChoiceIndex getChoiceIndex(CommandSource source) {
+            // Only update the index when players joined or left, instead of
+            // walking all players for every completion
+            Collection<Player> online = this.game.getServer().getOnlinePlayers();
+            if (online.size() != this.playerCount) {
+                updatePlayers(online);
+            }
+            return this.players;
+        }
+
+        private void updatePlayers(Collection<Player> online) {
+            this.players.update(Iterables.transform(online, input -> input == null ? null : input.getName()));
+            this.playerCount = online.size();
         }
 
         @Override
@@ -1115,6 +1165,9 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
     private static class CatalogedTypeCommandElement<T extends CatalogType> extends PatternMatchingCommandElement {
         private final Game game;
         private final Class<T> catalogType;
+        private final ChoiceIndex types = new ChoiceIndex();
+        // The number of types when the index was last updated
+        private volatile int typeCount = -1;
 
         protected CatalogedTypeCommandElement(Text key, Game game, Class<T> catalogType) {
             super(key);
@@ -1124,11 +1177,21 @@ protected CatalogedTypeCommandElement(Text key, Game game, Class<T> catalogType)
 
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return this.game.getRegistry().getAllOf(this.catalogType).stream()
-                .map(input -> {
-                return input == null ? null : input.getId(); // TODO: ids or names?
-                })
-                .collect(Collectors.toList());
+            return getChoiceIndex(source).getChoices();
+        }
+
+        @Override
+        protected ChoiceIndex getChoiceIndex(CommandSource source) {
+            // Types are only ever registered, so the index only needs to be
+            // updated when the number of types changed
+            Collection<T> types = this.game.getRegistry().getAllOf(this.catalogType);
+            if (types.size() != this.typeCount) {
+                this.types.update(Iterables.transform(types, input -> {
+                    return input == null ? null : input.getId(); // TODO: ids or names?
+                }));
+                this.typeCount = types.size();
+            }
+            return this.types;
         }
 
         @Override
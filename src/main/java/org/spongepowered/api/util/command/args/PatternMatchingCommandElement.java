@@ -26,8 +26,13 @@
 
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.util.command.CommandSource;
 
@@ -39,9 +44,19 @@
 
 /**
  * Abstract command element that matches values based on pattern.
+ *
+ * <p>Input without any regular expression metacharacters is matched as a
+ * case-insensitive prefix, without compiling a pattern. Elements with many
+ * choices should override {@link #getChoiceIndex(CommandSource)}, so such
+ * input is looked up in the sorted index instead of testing every choice.
+ * Patterns of other input are cached.</p>
  */
 public abstract class PatternMatchingCommandElement extends CommandElement {
     private static final Text nullKeyArg = t("argument");
+    private static final String REGEX_METACHARACTERS = "\\[](){}.*+?^$|";
+    private static final LoadingCache<String, Pattern> patternCache = CacheBuilder.newBuilder()
+            .maximumSize(256)
+            .build(CacheLoader.from(input -> Pattern.compile(input, Pattern.CASE_INSENSITIVE)));
 
     protected PatternMatchingCommandElement(@Nullable Text key) {
         super(key);
@@ -51,38 +66,78 @@ protected PatternMatchingCommandElement(@Nullable Text key) {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         final String unformattedPattern = args.next();
-        Pattern pattern = getFormattedPattern(unformattedPattern);
-        Iterable<String> filteredChoices = Iterables.filter(getChoices(source), element -> pattern.matcher(element).find());
+        List<String> filteredChoices = ImmutableList.copyOf(getMatchingChoices(source, unformattedPattern));
         for (String el : filteredChoices) { // Match a single value
             if (el.equalsIgnoreCase(unformattedPattern)) {
                 return getValue(el);
             }
         }
-        Iterable<Object> ret = Iterables.transform(filteredChoices, this::getValue);
 
-        if (!ret.iterator().hasNext()) {
+        if (filteredChoices.isEmpty()) {
             throw args.createError(t("No values matching pattern '%s' present for %s!", unformattedPattern, getKey() == null
                                                                                                             ? nullKeyArg : getKey()));
         }
-        return ret;
+        return ImmutableList.copyOf(Iterables.transform(filteredChoices, this::getValue));
     }
 
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-        Iterable<String> choices = getChoices(src);
         final Optional<String> nextArg = args.nextIfPresent();
         if (nextArg.isPresent()) {
-            choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
+            return ImmutableList.copyOf(getMatchingChoices(src, nextArg.get()));
+        }
+        @Nullable ChoiceIndex index = getChoiceIndex(src);
+        return ImmutableList.copyOf(Iterables.filter(index == null ? getChoices(src) : index.getChoices(), choice -> choice != null));
+    }
+
+    /**
+     * Gets the choices matching the given input, which is anchored to the
+     * beginning of the choices.
+     *
+     * @param source The source requesting choices
+     * @param input The input
+     * @return The matching choices
+     */
+    private Iterable<String> getMatchingChoices(CommandSource source, String input) {
+        @Nullable ChoiceIndex index = getChoiceIndex(source);
+        @Nullable String prefix = getPlainPrefix(input);
+        if (prefix != null) {
+            if (index != null) {
+                return index.getChoicesStartingWith(prefix);
+            }
+            return Iterables.filter(getChoices(source), choice -> choice != null && choice.regionMatches(true, 0, prefix, 0, prefix.length()));
+        }
+        final Pattern pattern = getFormattedPattern(input);
+        return Iterables.filter(index == null ? getChoices(source) : index.getChoices(), choice -> choice != null && pattern.matcher(choice).find());
+    }
+
+    /**
+     * Gets the prefix the given input matches if it is a plain string.
+     *
+     * @param input The input
+     * @return The prefix, or null if the input is a regular expression
+     */
+    @Nullable
+    private static String getPlainPrefix(String input) {
+        String prefix = input.startsWith("^") ? input.substring(1) : input;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(prefix.charAt(i)) != -1) {
+                return null;
+            }
         }
-        return ImmutableList.copyOf(choices);
+        return prefix;
     }
 
-    private Pattern getFormattedPattern(String input) {
+    private static Pattern getFormattedPattern(String input) {
         if (!input.startsWith("^")) { // Anchor matches to the beginning -- this lets us use find()
             input = "^" + input;
         }
-        return Pattern.compile(input, Pattern.CASE_INSENSITIVE);
-
+        try {
+            return patternCache.getUnchecked(input);
+        } catch (UncheckedExecutionException e) {
+            // Throw the PatternSyntaxException of an invalid pattern
+            throw Throwables.propagate(e.getCause());
+        }
     }
 
     /**
@@ -93,6 +148,19 @@ private Pattern getFormattedPattern(String input) {
      */
     protected abstract Iterable<String> getChoices(CommandSource source);
 
+    /**
+     * Get a sorted index of the available choices for this command source.
+     * If an index is returned, it is used instead of
+     * {@link #getChoices(CommandSource)}.
+     *
+     * @param source The source requesting choices
+     * @return the index of the possible choices, or null to use {@link #getChoices(CommandSource)}
+     */
+    @Nullable
+    protected ChoiceIndex getChoiceIndex(CommandSource source) {
+        return null;
+    }
+
     /**
      * Get the value for a given choice. For any result in {@link #getChoices(CommandSource)}, this must return a non-null value. Otherwise, an
      * {@link IllegalArgumentException} may be throw.
@@ -0,0 +1,245 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.args.parsing;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndex;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * The tokens of an input string, stored as offsets into the input.
+ *
+ * <p>Tokens that appear unchanged in the input, which are all tokens without
+ * escaped characters, don't store their value. It is only extracted from the
+ * input when it is first requested, so tokenizing input doesn't create any
+ * objects per token.</p>
+ */
+public final class ArgumentTokens {
+    // The start index, end index, value start index and value end index of each token
+    private static final int FIELDS = 4;
+
+    private final String input;
+    private int[] offsets;
+    private String[] values;
+    private int size;
+
+    /**
+     * Create a new empty list of tokens of the given input.
+     *
+     * @param input The input string
+     */
+    public ArgumentTokens(String input) {
+        this.input = checkNotNull(input, "input");
+        int capacity = Math.min(input.length() / 4 + 1, 16);
+        this.offsets = new int[capacity * FIELDS];
+        this.values = new String[capacity];
+    }
+
+    /**
+     * Create a list of tokens from the given arguments.
+     *
+     * @param input The input string
+     * @param args The arguments extracted from the input
+     * @return The tokens
+     */
+    public static ArgumentTokens of(String input, List<SingleArg> args) {
+        ArgumentTokens tokens = new ArgumentTokens(input);
+        for (SingleArg arg : args) {
+            tokens.add(arg.getValue(), arg.getStartIdx(), arg.getEndIdx());
+        }
+        return tokens;
+    }
+
+    /**
+     * Get the input string these tokens were extracted from.
+     *
+     * @return The input string
+     */
+    public String getInput() {
+        return this.input;
+    }
+
+    /**
+     * Get the number of tokens.
+     *
+     * @return The number of tokens
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the value of the token at the given index.
+     *
+     * @param index The index of the token
+     * @return The value of the token
+     */
+    public String getValue(int index) {
+        checkElementIndex(index, this.size);
+        @Nullable String value = this.values[index];
+        if (value == null) {
+            value = this.input.substring(this.offsets[index * FIELDS + 2], this.offsets[index * FIELDS + 3]);
+            this.values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Get the starting index of the token at the given index in the input
+     * string.
+     *
+     * @param index The index of the token
+     * @return The starting index
+     */
+    public int getStartIdx(int index) {
+        checkElementIndex(index, this.size);
+        return this.offsets[index * FIELDS];
+    }
+
+    /**
+     * Get the ending index of the token at the given index in the input
+     * string.
+     *
+     * @param index The index of the token
+     * @return The ending index
+     */
+    public int getEndIdx(int index) {
+        checkElementIndex(index, this.size);
+        return this.offsets[index * FIELDS + 1];
+    }
+
+    /**
+     * Get the token at the given index as an argument.
+     *
+     * @param index The index of the token
+     * @return The argument
+     */
+    public SingleArg get(int index) {
+        return new SingleArg(getValue(index), getStartIdx(index), getEndIdx(index));
+    }
+
+    /**
+     * Get the values of all tokens.
+     *
+     * @return The values
+     */
+    public ImmutableList<String> getValues() {
+        ImmutableList.Builder<String> builder = ImmutableList.builder();
+        for (int i = 0; i < this.size; i++) {
+            builder.add(getValue(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get all tokens as a list of arguments.
+     *
+     * @return The arguments
+     */
+    public List<SingleArg> toList() {
+        List<SingleArg> args = new ArrayList<SingleArg>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            args.add(get(i));
+        }
+        return args;
+    }
+
+    /**
+     * Add a token to the end of this list.
+     *
+     * @param value The value of the token
+     * @param startIdx The starting index of the token in the input string
+     * @param endIdx The ending index of the token in the input string
+     */
+    public void add(String value, int startIdx, int endIdx) {
+        insert(this.size, value, startIdx, endIdx);
+    }
+
+    /**
+     * Add a token whose value is a substring of the input to the end of this
+     * list.
+     *
+     * @param startIdx The starting index of the token in the input string
+     * @param endIdx The ending index of the token in the input string
+     * @param valueStartIdx The starting index of the value, inclusive
+     * @param valueEndIdx The ending index of the value, exclusive
+     */
+    void add(int startIdx, int endIdx, int valueStartIdx, int valueEndIdx) {
+        insertToken(this.size, null, startIdx, endIdx);
+        this.offsets[(this.size - 1) * FIELDS + 2] = valueStartIdx;
+        this.offsets[(this.size - 1) * FIELDS + 3] = valueEndIdx;
+    }
+
+    /**
+     * Insert a token at the given index.
+     *
+     * @param index The index to insert the token at
+     * @param value The value of the token
+     * @param startIdx The starting index of the token in the input string
+     * @param endIdx The ending index of the token in the input string
+     */
+    public void insert(int index, String value, int startIdx, int endIdx) {
+        checkPositionIndex(index, this.size);
+        insertToken(index, checkNotNull(value, "value"), startIdx, endIdx);
+    }
+
+    private void insertToken(int index, @Nullable String value, int startIdx, int endIdx) {
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+            this.offsets = Arrays.copyOf(this.offsets, this.size * 2 * FIELDS);
+        }
+        System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+        System.arraycopy(this.offsets, index * FIELDS, this.offsets, (index + 1) * FIELDS, (this.size - index) * FIELDS);
+        this.values[index] = value;
+        this.offsets[index * FIELDS] = startIdx;
+        this.offsets[index * FIELDS + 1] = endIdx;
+        this.size++;
+    }
+
+    /**
+     * Remove the tokens between the given indexes.
+     *
+     * @param fromIndex The index of the first token to remove, inclusive
+     * @param toIndex The index of the last token to remove, exclusive
+     */
+    public void remove(int fromIndex, int toIndex) {
+        checkPositionIndexes(fromIndex, toIndex, this.size);
+        System.arraycopy(this.values, toIndex, this.values, fromIndex, this.size - toIndex);
+        System.arraycopy(this.offsets, toIndex * FIELDS, this.offsets, fromIndex * FIELDS, (this.size - toIndex) * FIELDS);
+        int newSize = this.size - (toIndex - fromIndex);
+        Arrays.fill(this.values, newSize, this.size, null);
+        this.size = newSize;
+    }
+
+}
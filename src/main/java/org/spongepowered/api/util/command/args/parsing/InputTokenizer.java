@@ -40,4 +40,17 @@ public interface InputTokenizer {
      */
     List<SingleArg> tokenize(String arguments, boolean lenient) throws ArgumentParseException;
 
+    /**
+     * Take the input string and split it as appropriate into argument tokens,
+     * recording the tokens as offsets into the input string.
+     *
+     * @param arguments The provided arguments
+     * @param lenient Whether to parse leniently
+     * @return The tokens
+     * @throws ArgumentParseException if an invalid input is provided
+     */
+    default ArgumentTokens tokenizeOffsets(String arguments, boolean lenient) throws ArgumentParseException {
+        return ArgumentTokens.of(arguments, tokenize(arguments, lenient));
+    }
+
 }
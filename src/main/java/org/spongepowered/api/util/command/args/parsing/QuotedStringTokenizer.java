@@ -27,10 +27,11 @@
 import org.spongepowered.api.text.Texts;
 import org.spongepowered.api.util.command.args.ArgumentParseException;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 /**
  * Parser for converting a quoted string into a list of arguments.
  *
@@ -61,17 +62,23 @@ public List<SingleArg> tokenize(String arguments, boolean lenient) throws Argume
         if (arguments.length() == 0) {
             return Collections.emptyList();
         }
+        return tokenizeOffsets(arguments, lenient).toList();
+    }
+
+    @Override
+    public ArgumentTokens tokenizeOffsets(String arguments, boolean lenient) throws ArgumentParseException {
+        final ArgumentTokens tokens = new ArgumentTokens(arguments);
+        if (arguments.length() == 0) {
+            return tokens;
+        }
 
         final TokenizerState state = new TokenizerState(arguments, lenient);
-        List<SingleArg> returnedArgs = new ArrayList<SingleArg>(arguments.length() / 8);
         skipWhiteSpace(state);
         while (state.hasMore()) {
-            int startIdx = state.getIndex() + 1;
-            String arg = nextArg(state);
-            returnedArgs.add(new SingleArg(arg, startIdx, state.getIndex()));
+            nextArg(state, tokens);
             skipWhiteSpace(state);
         }
-        return returnedArgs;
+        return tokens;
     }
 
     // Parsing methods
@@ -85,19 +92,18 @@ private void skipWhiteSpace(TokenizerState state) throws ArgumentParseException
         }
     }
 
-    private String nextArg(TokenizerState state) throws ArgumentParseException {
-        StringBuilder argBuilder = new StringBuilder();
+    private void nextArg(TokenizerState state, ArgumentTokens tokens) throws ArgumentParseException {
+        int startIdx = state.getIndex() + 1;
         int codePoint = state.peek();
         if (this.handleQuotedStrings && (codePoint == CHAR_DOUBLE_QUOTE || codePoint == CHAR_SINGLE_QUOTE)) {
             // quoted string
-            parseQuotedString(state, codePoint, argBuilder);
+            parseQuotedString(state, codePoint, tokens, startIdx);
         } else {
-            parseUnquotedString(state, argBuilder);
+            parseUnquotedString(state, tokens, startIdx);
         }
-        return argBuilder.toString();
     }
 
-    private void parseQuotedString(TokenizerState state, int startQuotation, StringBuilder builder) throws ArgumentParseException {
+    private void parseQuotedString(TokenizerState state, int startQuotation, ArgumentTokens tokens, int startIdx) throws ArgumentParseException {
         // Consume the start quotation character
         int nextCodePoint = state.next();
         if (nextCodePoint != startQuotation) {
@@ -105,9 +111,12 @@ private void parseQuotedString(TokenizerState state, int startQuotation, StringB
                     nextCodePoint, startQuotation)));
         }
 
+        final int valueStartIdx = state.getIndex() + 1;
+        @Nullable StringBuilder builder = null; // Only used once an escape is found
         while (true) {
             if (!state.hasMore()) {
                 if (state.isLenient() || this.forceLenient) {
+                    addArg(state, tokens, builder, startIdx, valueStartIdx, state.getBuffer().length());
                     return;
                 } else {
                     throw state.createException(Texts.of("Unterminated quoted string found"));
@@ -115,26 +124,50 @@ private void parseQuotedString(TokenizerState state, int startQuotation, StringB
             }
             nextCodePoint = state.next();
             if (nextCodePoint == startQuotation) {
+                addArg(state, tokens, builder, startIdx, valueStartIdx, state.getIndex());
                 return;
             } else if (nextCodePoint == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = startBuilder(state, valueStartIdx);
+                }
                 parseEscape(state, builder);
-            } else {
+            } else if (builder != null) {
                 builder.appendCodePoint(nextCodePoint);
             }
         }
     }
 
-    private void parseUnquotedString(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
+    private void parseUnquotedString(TokenizerState state, ArgumentTokens tokens, int startIdx) throws ArgumentParseException {
+        @Nullable StringBuilder builder = null; // Only used once an escape is found
         while (state.hasMore()) {
             int nextCodePoint = state.next();
             if (Character.isWhitespace(nextCodePoint)) {
+                addArg(state, tokens, builder, startIdx, startIdx, state.getIndex());
                 return;
             } else if (nextCodePoint == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = startBuilder(state, startIdx);
+                }
                 parseEscape(state, builder);
-            } else {
+            } else if (builder != null) {
                 builder.appendCodePoint(nextCodePoint);
             }
         }
+        addArg(state, tokens, builder, startIdx, startIdx, state.getBuffer().length());
+    }
+
+    private StringBuilder startBuilder(TokenizerState state, int valueStartIdx) {
+        // The current character is the backslash, everything before it is unescaped
+        return state.getBuilder().append(state.getBuffer(), valueStartIdx, state.getIndex());
+    }
+
+    private void addArg(TokenizerState state, ArgumentTokens tokens, @Nullable StringBuilder builder, int startIdx, int valueStartIdx,
+            int valueEndIdx) {
+        if (builder == null) {
+            tokens.add(startIdx, state.getIndex(), valueStartIdx, valueEndIdx);
+        } else {
+            tokens.add(builder.toString(), startIdx, state.getIndex());
+        }
     }
 
     private void parseEscape(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
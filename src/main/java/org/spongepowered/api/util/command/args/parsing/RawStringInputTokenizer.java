@@ -38,4 +38,11 @@ private RawStringInputTokenizer() {}
     public List<SingleArg> tokenize(String arguments, boolean lenient) throws ArgumentParseException {
         return Collections.singletonList(new SingleArg(arguments, 0, arguments.length()));
     }
+
+    @Override
+    public ArgumentTokens tokenizeOffsets(String arguments, boolean lenient) throws ArgumentParseException {
+        ArgumentTokens tokens = new ArgumentTokens(arguments);
+        tokens.add(0, arguments.length(), 0, arguments.length());
+        return tokens;
+    }
 }
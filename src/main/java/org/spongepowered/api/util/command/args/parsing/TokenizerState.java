@@ -28,10 +28,13 @@
 import org.spongepowered.api.text.Texts;
 import org.spongepowered.api.util.command.args.ArgumentParseException;
 
+import javax.annotation.Nullable;
+
 class TokenizerState {
     private final boolean lenient;
     private final String buffer;
     private int index = -1;
+    @Nullable private StringBuilder builder;
 
     public TokenizerState(String buffer, boolean lenient) {
         this.buffer = buffer;
@@ -68,4 +71,22 @@ public boolean isLenient() {
     public int getIndex() {
         return this.index;
     }
+
+    public String getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Gets an empty builder, which is shared by all tokens of the input.
+     *
+     * @return The builder
+     */
+    public StringBuilder getBuilder() {
+        if (this.builder == null) {
+            this.builder = new StringBuilder();
+        } else {
+            this.builder.setLength(0);
+        }
+        return this.builder;
+    }
 }
@@ -0,0 +1,321 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.dispatcher;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.util.command.CommandMapping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable prefix tree of the aliases of a {@link SimpleDispatcher},
+ * mapping each lower case alias to the list of its mappings.
+ *
+ * <p>Modifications return a new tree that shares all unchanged nodes with
+ * the previous tree, so readers never have to lock. The sets derived from
+ * the whole tree are computed lazily once per tree.</p>
+ */
+final class AliasTrie {
+
+    static final AliasTrie EMPTY = new AliasTrie(Node.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    @Nullable private volatile ImmutableSet<CommandMapping> mappings;
+    @Nullable private volatile ImmutableSet<String> aliases;
+    @Nullable private volatile ImmutableSet<String> primaryAliases;
+
+    private AliasTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of alias to mapping entries.
+     *
+     * @return The number of entries
+     */
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Nullable
+    private Node find(String alias) {
+        Node node = this.root;
+        for (int i = 0; i < alias.length() && node != null; i++) {
+            node = node.getChild(alias.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Gets the mappings of the given alias.
+     *
+     * @param alias The lower case alias
+     * @return The mappings
+     */
+    ImmutableList<CommandMapping> get(String alias) {
+        @Nullable Node node = find(alias);
+        return node == null ? ImmutableList.<CommandMapping>of() : node.mappings;
+    }
+
+    /**
+     * Returns a new tree with the mapping added to the given alias.
+     *
+     * @param alias The lower case alias
+     * @param mapping The mapping
+     * @return The new tree
+     */
+    AliasTrie put(String alias, CommandMapping mapping) {
+        return new AliasTrie(put(this.root, alias, 0, mapping), this.size + 1);
+    }
+
+    private static Node put(Node node, String alias, int index, CommandMapping mapping) {
+        if (index == alias.length()) {
+            return new Node(node.chars, node.children, ImmutableList.<CommandMapping>builder().addAll(node.mappings).add(mapping).build());
+        }
+        char c = alias.charAt(index);
+        int childIndex = node.indexOf(c);
+        Node child = childIndex >= 0 ? node.children[childIndex] : Node.EMPTY;
+        return node.withChild(childIndex, c, put(child, alias, index + 1, mapping));
+    }
+
+    /**
+     * Returns a new tree without the mappings of the given alias.
+     *
+     * @param alias The lower case alias
+     * @return The new tree
+     */
+    AliasTrie removeAll(String alias) {
+        int removed = get(alias).size();
+        if (removed == 0) {
+            return this;
+        }
+        return new AliasTrie(removeAll(this.root, alias, 0), this.size - removed);
+    }
+
+    private static Node removeAll(Node node, String alias, int index) {
+        if (index == alias.length()) {
+            return new Node(node.chars, node.children, ImmutableList.<CommandMapping>of());
+        }
+        int childIndex = node.indexOf(alias.charAt(index));
+        return node.withChild(childIndex, alias.charAt(index), removeAll(node.children[childIndex], alias, index + 1));
+    }
+
+    /**
+     * Returns a new tree that only contains the mappings matching the given
+     * predicate.
+     *
+     * @param predicate The predicate
+     * @return The new tree
+     */
+    AliasTrie filter(Predicate<CommandMapping> predicate) {
+        AliasTrie[] result = {EMPTY};
+        forEach((alias, mappings) -> {
+            for (CommandMapping mapping : mappings) {
+                if (predicate.test(mapping)) {
+                    result[0] = result[0].put(alias, mapping);
+                }
+            }
+        });
+        return result[0].size == this.size ? this : result[0];
+    }
+
+    /**
+     * Calls the consumer for each alias, in alphabetical order.
+     *
+     * @param consumer The consumer of the aliases and their mappings
+     */
+    void forEach(BiConsumer<String, List<CommandMapping>> consumer) {
+        forEach(this.root, new StringBuilder(), consumer);
+    }
+
+    private static void forEach(Node node, StringBuilder alias, BiConsumer<String, List<CommandMapping>> consumer) {
+        if (!node.mappings.isEmpty()) {
+            consumer.accept(alias.toString(), node.mappings);
+        }
+        for (int i = 0; i < node.chars.length; i++) {
+            alias.append(node.chars[i]);
+            forEach(node.children[i], alias, consumer);
+            alias.setLength(alias.length() - 1);
+        }
+    }
+
+    /**
+     * Calls the consumer for each alias starting with the given prefix, in
+     * alphabetical order.
+     *
+     * @param prefix The lower case prefix
+     * @param consumer The consumer of the aliases and their mappings
+     */
+    void forEachWithPrefix(String prefix, BiConsumer<String, List<CommandMapping>> consumer) {
+        @Nullable Node node = find(prefix);
+        if (node != null) {
+            forEach(node, new StringBuilder(prefix), consumer);
+        }
+    }
+
+    /**
+     * Gets all distinct mappings in this tree.
+     *
+     * @return The mappings
+     */
+    ImmutableSet<CommandMapping> getMappings() {
+        @Nullable ImmutableSet<CommandMapping> mappings = this.mappings;
+        if (mappings == null) {
+            ImmutableSet.Builder<CommandMapping> builder = ImmutableSet.builder();
+            forEach((alias, list) -> builder.addAll(list));
+            this.mappings = mappings = builder.build();
+        }
+        return mappings;
+    }
+
+    /**
+     * Gets all aliases of the mappings in this tree, as registered.
+     *
+     * @return The aliases
+     */
+    ImmutableSet<String> getAliases() {
+        @Nullable ImmutableSet<String> aliases = this.aliases;
+        if (aliases == null) {
+            ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+            for (CommandMapping mapping : getMappings()) {
+                builder.addAll(mapping.getAllAliases());
+            }
+            this.aliases = aliases = builder.build();
+        }
+        return aliases;
+    }
+
+    /**
+     * Gets the primary aliases of the mappings in this tree.
+     *
+     * @return The primary aliases
+     */
+    ImmutableSet<String> getPrimaryAliases() {
+        @Nullable ImmutableSet<String> primaryAliases = this.primaryAliases;
+        if (primaryAliases == null) {
+            ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+            for (CommandMapping mapping : getMappings()) {
+                builder.add(mapping.getPrimaryAlias());
+            }
+            this.primaryAliases = primaryAliases = builder.build();
+        }
+        return primaryAliases;
+    }
+
+    /**
+     * Gets this tree as a multimap.
+     *
+     * @return The multimap
+     */
+    ImmutableListMultimap<String, CommandMapping> asMultimap() {
+        ImmutableListMultimap.Builder<String, CommandMapping> builder = ImmutableListMultimap.builder();
+        forEach(builder::putAll);
+        return builder.build();
+    }
+
+    private static final class Node {
+
+        static final Node EMPTY = new Node(new char[0], new Node[0], ImmutableList.<CommandMapping>of());
+
+        // The characters of the children, sorted
+        final char[] chars;
+        final Node[] children;
+        final ImmutableList<CommandMapping> mappings;
+
+        Node(char[] chars, Node[] children, ImmutableList<CommandMapping> mappings) {
+            this.chars = chars;
+            this.children = children;
+            this.mappings = mappings;
+        }
+
+        int indexOf(char c) {
+            return Arrays.binarySearch(this.chars, c);
+        }
+
+        @Nullable
+        Node getChild(char c) {
+            int index = indexOf(c);
+            return index >= 0 ? this.children[index] : null;
+        }
+
+        boolean isEmpty() {
+            return this.chars.length == 0 && this.mappings.isEmpty();
+        }
+
+        /**
+         * Returns a copy of this node with the given child, removing it if
+         * it is empty.
+         *
+         * @param index The result of {@link #indexOf(char)}
+         * @param c The character of the child
+         * @param child The child
+         * @return The new node
+         */
+        Node withChild(int index, char c, Node child) {
+            char[] chars;
+            Node[] children;
+            if (index >= 0) {
+                if (child.isEmpty()) {
+                    chars = new char[this.chars.length - 1];
+                    children = new Node[this.children.length - 1];
+                    System.arraycopy(this.chars, 0, chars, 0, index);
+                    System.arraycopy(this.chars, index + 1, chars, index, chars.length - index);
+                    System.arraycopy(this.children, 0, children, 0, index);
+                    System.arraycopy(this.children, index + 1, children, index, children.length - index);
+                } else {
+                    chars = this.chars;
+                    children = this.children.clone();
+                    children[index] = child;
+                }
+            } else {
+                index = -index - 1;
+                chars = new char[this.chars.length + 1];
+                children = new Node[this.children.length + 1];
+                System.arraycopy(this.chars, 0, chars, 0, index);
+                System.arraycopy(this.chars, index, chars, index + 1, this.chars.length - index);
+                System.arraycopy(this.children, 0, children, 0, index);
+                System.arraycopy(this.children, index, children, index + 1, this.children.length - index);
+                chars[index] = c;
+                children[index] = child;
+            }
+            return new Node(chars, children, this.mappings);
+        }
+    }
+
+}
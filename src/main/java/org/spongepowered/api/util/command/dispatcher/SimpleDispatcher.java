@@ -29,21 +29,15 @@
 import static org.spongepowered.api.util.command.CommandMessageFormatting.NEWLINE_TEXT;
 import static org.spongepowered.api.util.command.CommandMessageFormatting.SPACE_TEXT;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.TextBuilder;
 import org.spongepowered.api.text.Texts;
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyles;
-import org.spongepowered.api.util.GuavaCollectors;
-import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.util.command.CommandCallable;
 import org.spongepowered.api.util.command.CommandException;
 import org.spongepowered.api.util.command.CommandMapping;
@@ -55,12 +49,12 @@
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -68,6 +62,10 @@
 
 /**
  * A simple implementation of a {@link Dispatcher}.
+ *
+ * <p>Aliases are stored case-insensitively in an immutable prefix tree that
+ * is replaced on every registration, so looking up commands and completing
+ * aliases never blocks on registrations.</p>
  */
 public final class SimpleDispatcher implements Dispatcher {
 
@@ -84,7 +82,7 @@ public final class SimpleDispatcher implements Dispatcher {
     };
 
     private final Disambiguator disambiguatorFunc;
-    private final ListMultimap<String, CommandMapping> commands = ArrayListMultimap.create();
+    private volatile AliasTrie commands = AliasTrie.EMPTY;
 
     /**
      * Creates a basic new dispatcher.
@@ -174,9 +172,11 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
             List<String> secondary = aliases.subList(1, aliases.size());
             CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
 
+            AliasTrie commands = this.commands;
             for (String alias : aliases) {
-                this.commands.put(alias.toLowerCase(), mapping);
+                commands = commands.put(alias.toLowerCase(), mapping);
             }
+            this.commands = commands;
 
             return Optional.of(mapping);
         } else {
@@ -191,7 +191,10 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
      * @return The previous mapping associated with the alias, if one was found
      */
     public synchronized Collection<CommandMapping> remove(String alias) {
-        return this.commands.removeAll(alias.toLowerCase());
+        String lowerAlias = alias.toLowerCase();
+        Collection<CommandMapping> removed = this.commands.get(lowerAlias);
+        this.commands = this.commands.removeAll(lowerAlias);
+        return removed;
     }
 
     /**
@@ -203,14 +206,13 @@ public synchronized Collection<CommandMapping> remove(String alias) {
     public synchronized boolean removeAll(Collection<?> aliases) {
         checkNotNull(aliases, "aliases");
 
-        boolean found = false;
-
+        AliasTrie commands = this.commands;
         for (Object alias : aliases) {
-            if (!this.commands.removeAll(alias.toString().toLowerCase()).isEmpty()) {
-                found = true;
-            }
+            commands = commands.removeAll(alias.toString().toLowerCase());
         }
 
+        boolean found = commands != this.commands;
+        this.commands = commands;
         return found;
     }
 
@@ -225,14 +227,14 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
 
         CommandMapping found = null;
 
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            CommandMapping current = it.next();
+        for (CommandMapping current : this.commands.getMappings()) {
             if (current.equals(mapping)) {
-                it.remove();
                 found = current;
             }
         }
+        if (found != null) {
+            this.commands = this.commands.filter(current -> !current.equals(mapping));
+        }
 
         return Optional.ofNullable(found);
     }
@@ -246,44 +248,25 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
     public synchronized boolean removeMappings(Collection<?> mappings) {
         checkNotNull(mappings, "mappings");
 
-        boolean found = false;
-
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            if (mappings.contains(it.next())) {
-                it.remove();
-                found = true;
-            }
-        }
-
+        AliasTrie commands = this.commands.filter(current -> !mappings.contains(current));
+        boolean found = commands != this.commands;
+        this.commands = commands;
         return found;
     }
 
     @Override
-    public synchronized Set<CommandMapping> getCommands() {
-        return ImmutableSet.copyOf(this.commands.values());
+    public Set<CommandMapping> getCommands() {
+        return this.commands.getMappings();
     }
 
     @Override
-    public synchronized Set<String> getPrimaryAliases() {
-        Set<String> aliases = new HashSet<String>();
-
-        for (CommandMapping mapping : this.commands.values()) {
-            aliases.add(mapping.getPrimaryAlias());
-        }
-
-        return Collections.unmodifiableSet(aliases);
+    public Set<String> getPrimaryAliases() {
+        return this.commands.getPrimaryAliases();
     }
 
     @Override
-    public synchronized Set<String> getAliases() {
-        Set<String> aliases = new HashSet<String>();
-
-        for (CommandMapping mapping : this.commands.values()) {
-            aliases.addAll(mapping.getAllAliases());
-        }
-
-        return Collections.unmodifiableSet(aliases);
+    public Set<String> getAliases() {
+        return this.commands.getAliases();
     }
 
     @Override
@@ -298,7 +281,7 @@ public Optional<CommandMapping> get(String alias) {
      * @param source The source this alias is being looked up for
      * @return the command if exactly one matches
      */
-    public synchronized Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
+    public Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
         List<CommandMapping> results = this.commands.get(alias.toLowerCase());
         if (results.size() == 1) {
             return Optional.of(results.get(0));
@@ -310,21 +293,15 @@ public synchronized Optional<CommandMapping> get(String alias, @Nullable Command
     }
 
     @Override
-    public synchronized boolean containsAlias(String alias) {
-        return this.commands.containsKey(alias.toLowerCase());
+    public boolean containsAlias(String alias) {
+        return !this.commands.get(alias.toLowerCase()).isEmpty();
     }
 
     @Override
     public boolean containsMapping(CommandMapping mapping) {
         checkNotNull(mapping, "mapping");
 
-        for (CommandMapping test : this.commands.values()) {
-            if (mapping.equals(test)) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.commands.getMappings().contains(mapping);
     }
 
     @Override
@@ -348,16 +325,30 @@ public List<String> getSuggestions(CommandSource src, final String arguments) th
         final String[] argSplit = arguments.split(" ", 2);
         Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
         if (argSplit.length == 1) {
-            return filterCommands(src).stream().filter(new StartsWithPredicate(argSplit[0])).collect(GuavaCollectors.toImmutableList());
+            return ImmutableList.copyOf(filterCommands(src, argSplit[0].toLowerCase()));
         } else if (!cmdOptional.isPresent()) {
             return ImmutableList.of();
         }
         return cmdOptional.get().getCallable().getSuggestions(src, argSplit[1]);
     }
 
+    @Override
+    public CompletableFuture<List<String>> getSuggestionsAsync(CommandSource src, String arguments, Executor executor) {
+        final String[] argSplit = arguments.split(" ", 2);
+        if (argSplit.length == 1) {
+            // Aliases are completed from the prefix tree without blocking
+            return CompletableFuture.completedFuture(ImmutableList.copyOf(filterCommands(src, argSplit[0].toLowerCase())));
+        }
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
+        if (!cmdOptional.isPresent()) {
+            return CompletableFuture.completedFuture(ImmutableList.of());
+        }
+        return cmdOptional.get().getCallable().getSuggestionsAsync(src, argSplit[1], executor);
+    }
+
     @Override
     public boolean testPermission(CommandSource source) {
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.commands.getMappings()) {
             if (mapping.getCallable().testPermission(source)) {
                 return true;
             }
@@ -376,7 +367,7 @@ public Optional<Text> getHelp(CommandSource source) {
             return Optional.empty();
         }
         TextBuilder build = t("Available commands:\n").builder();
-        for (Iterator<String> it = filterCommands(source).iterator(); it.hasNext();) {
+        for (Iterator<String> it = filterCommands(source, "").iterator(); it.hasNext();) {
             final Optional<CommandMapping> mappingOpt = get(it.next(), source);
             if (!mappingOpt.isPresent()) {
                 continue;
@@ -396,8 +387,25 @@ public Optional<Text> getHelp(CommandSource source) {
         return Optional.of(build.build());
     }
 
-    private Set<String> filterCommands(final CommandSource src) {
-        return Multimaps.filterValues(this.commands, input -> input.getCallable().testPermission(src)).keys().elementSet();
+    /**
+     * Gets the aliases starting with the given prefix that have at least one
+     * command the source has permission to use, in alphabetical order.
+     *
+     * @param src The source
+     * @param prefix The lower case prefix
+     * @return The aliases
+     */
+    private Set<String> filterCommands(final CommandSource src, String prefix) {
+        ImmutableSet.Builder<String> aliases = ImmutableSet.builder();
+        this.commands.forEachWithPrefix(prefix, (alias, mappings) -> {
+            for (CommandMapping mapping : mappings) {
+                if (mapping.getCallable().testPermission(src)) {
+                    aliases.add(alias);
+                    return;
+                }
+            }
+        });
+        return aliases.build();
     }
 
     /**
@@ -405,14 +413,14 @@ private Set<String> filterCommands(final CommandSource src) {
      *
      * @return The number of aliases
      */
-    public synchronized int size() {
+    public int size() {
         return this.commands.size();
     }
 
     @Override
     public Text getUsage(final CommandSource source) {
         final TextBuilder build = Texts.builder();
-        Iterable<String> filteredCommands = filterCommands(source).stream()
+        Iterable<String> filteredCommands = filterCommands(source, "").stream()
             .filter(input -> {
                 if (input == null) {
                     return false;
@@ -432,12 +440,12 @@ public Text getUsage(final CommandSource source) {
     }
 
     @Override
-    public synchronized Set<CommandMapping> getAll(String alias) {
-        return ImmutableSet.copyOf(this.commands.get(alias));
+    public Set<CommandMapping> getAll(String alias) {
+        return ImmutableSet.copyOf(this.commands.get(alias.toLowerCase()));
     }
 
     @Override
     public Multimap<String, CommandMapping> getAll() {
-        return ImmutableMultimap.copyOf(this.commands);
+        return this.commands.asMultimap();
     }
 }
@@ -53,6 +53,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
@@ -328,7 +330,7 @@ public InputTokenizer getInputTokenizer() {
     @Override
     public CommandResult process(CommandSource source, String arguments) throws CommandException {
         checkPermission(source);
-        final CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, false));
+        final CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenizeOffsets(arguments, false));
         final CommandContext context = new CommandContext();
         this.populateContext(source, args, context);
         return getExecutor().execute(source, context);
@@ -336,10 +338,26 @@ public CommandResult process(CommandSource source, String arguments) throws Comm
 
     @Override
     public List<String> getSuggestions(CommandSource source, String arguments) throws CommandException {
-        CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, true));
+        CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenizeOffsets(arguments, true));
         return complete(source, args, new CommandContext());
     }
 
+    @Override
+    public CompletableFuture<List<String>> getSuggestionsAsync(CommandSource source, String arguments, Executor executor) {
+        checkNotNull(source, "source");
+        final CommandArgs args;
+        try {
+            // Tokenizing is cheap, only the completion of the elements may block
+            args = new CommandArgs(arguments, getInputTokenizer().tokenizeOffsets(arguments, true));
+        } catch (ArgumentParseException e) {
+            CompletableFuture<List<String>> ret = new CompletableFuture<List<String>>();
+            ret.completeExceptionally(e);
+            return ret;
+        }
+        return this.args.completeAsync(source, args, new CommandContext(), executor)
+                .thenApply(ret -> ret == null ? ImmutableList.<String>of() : ImmutableList.copyOf(ret));
+    }
+
     @Override
     public boolean testPermission(CommandSource source) {
         return this.permission == null || source.hasPermission(this.permission);
@@ -25,25 +25,39 @@
 package org.spongepowered.api.util.event.factory;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_BRIDGE;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ACC_VARARGS;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
 import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ARRAYLENGTH;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DCONST_0;
 import static org.objectweb.asm.Opcodes.DLOAD;
 import static org.objectweb.asm.Opcodes.DRETURN;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FRETURN;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.IF_ICMPEQ;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
@@ -52,15 +66,20 @@
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.LCONST_0;
 import static org.objectweb.asm.Opcodes.LLOAD;
 import static org.objectweb.asm.Opcodes.LRETURN;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_6;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Primitives;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
@@ -254,6 +273,118 @@ private boolean hasNonnull(Method method) {
         return method.getAnnotation(Nonnull.class) != null;
     }
 
+    private boolean useNullTest(Property<Class<?>, Method> property) {
+        return ((this.nullPolicy == NullPolicy.NON_NULL_BY_DEFAULT && !this.hasNullable(property.getAccessor()))
+                || (this.nullPolicy == NullPolicy.NULL_BY_DEFAULT && this.hasNonnull(property.getAccessor())))
+                && isRequired(property);
+    }
+
+    /**
+     * Insert a null check for the value on the top of the stack, consuming
+     * the value.
+     *
+     * @param mv The method visitor
+     * @param property The property the value belongs to
+     */
+    private static void visitNullTest(MethodVisitor mv, Property<Class<?>, Method> property) {
+        Label afterNullTest = new Label();
+        mv.visitJumpInsn(IFNONNULL, afterNullTest);
+        mv.visitTypeInsn(NEW, "java/lang/NullPointerException");
+        mv.visitInsn(DUP);
+        mv.visitLdcInsn("The property '" + property.getName() + "' was not provided!");
+        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/NullPointerException", "<init>", "(Ljava/lang/String;)V", false);
+        mv.visitInsn(ATHROW);
+        mv.visitLabel(afterNullTest);
+    }
+
+    /**
+     * Insert the instruction to push the default value of the given type.
+     *
+     * @param mv The method visitor
+     * @param type The type
+     */
+    private static void visitDefaultValue(MethodVisitor mv, Class<?> type) {
+        if (type == long.class) {
+            mv.visitInsn(LCONST_0);
+        } else if (type == float.class) {
+            mv.visitInsn(FCONST_0);
+        } else if (type == double.class) {
+            mv.visitInsn(DCONST_0);
+        } else if (type.isPrimitive()) {
+            mv.visitInsn(ICONST_0);
+        } else {
+            mv.visitInsn(ACONST_NULL);
+        }
+    }
+
+    /**
+     * Insert the instructions to push the {@link Class} object of the given
+     * type, which is loaded from the wrapper class for primitive types.
+     *
+     * @param mv The method visitor
+     * @param type The type
+     */
+    private static void visitClassConstant(MethodVisitor mv, Class<?> type) {
+        if (type.isPrimitive()) {
+            mv.visitFieldInsn(GETSTATIC, Type.getInternalName(Primitives.wrap(type)), "TYPE", "Ljava/lang/Class;");
+        } else {
+            mv.visitLdcInsn(Type.getType(type));
+        }
+    }
+
+    /**
+     * Gets the number of local variable slots used by a value of the given
+     * type.
+     *
+     * @param type The type
+     * @return The number of slots
+     */
+    private static int getSize(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    /**
+     * Gets the descriptor of the positional constructor accepting the given
+     * properties.
+     *
+     * @param properties The properties, in order
+     * @return The constructor descriptor
+     */
+    private static String getPositionalDescriptor(List<? extends Property<Class<?>, Method>> properties) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Property<Class<?>, Method> property : properties) {
+            descriptor.append(Type.getDescriptor(property.getType()));
+        }
+        return descriptor.append(")V").toString();
+    }
+
+    /**
+     * Finds the properties of the given event type.
+     *
+     * @param type The event type
+     * @return The properties
+     */
+    public ImmutableSet<? extends Property<Class<?>, Method>> findProperties(Class<?> type) {
+        return this.propertySearch.findProperties(new ReflectionClassWrapper(checkNotNull(type, "type")));
+    }
+
+    /**
+     * Gets the properties that are passed to the positional constructor of a
+     * generated class, in the order they are accepted.
+     *
+     * @param properties The properties of the event type
+     * @return The constructor properties
+     */
+    public static ImmutableList<Property<Class<?>, Method>> getConstructorProperties(Iterable<? extends Property<Class<?>, Method>> properties) {
+        ImmutableList.Builder<Property<Class<?>, Method>> builder = ImmutableList.builder();
+        for (Property<Class<?>, Method> property : properties) {
+            if (property.isLeastSpecificType()) {
+                builder.add(property);
+            }
+        }
+        return builder.build();
+    }
+
     public static void generateField(ClassWriter classWriter, Property<Class<?>, Method> property) {
         FieldVisitor fv = classWriter.visitField(ACC_PRIVATE, property.getName(), Type.getDescriptor(property.getType()), null, null);
         fv.visitEnd();
@@ -297,22 +428,9 @@ private void generateConstructor(ClassWriter classWriter, String internalName, C
 
             // Only if we have a null policy:
             // if (value == null) throw new NullPointerException(...)
-            if (this.nullPolicy != NullPolicy.DISABLE_PRECONDITIONS) {
-                boolean useNullTest = (((this.nullPolicy == NullPolicy.NON_NULL_BY_DEFAULT && !this.hasNullable(property.getAccessor()))
-                                               || (this.nullPolicy == NullPolicy.NULL_BY_DEFAULT && this.hasNonnull(property.getAccessor())))
-                        && isRequired(property));
-
-                if (useNullTest) {
-                    Label afterNullTest = new Label();
-                    mv.visitVarInsn(ALOAD, 2);
-                    mv.visitJumpInsn(IFNONNULL, afterNullTest);
-                    mv.visitTypeInsn(NEW, "java/lang/NullPointerException");
-                    mv.visitInsn(DUP);
-                    mv.visitLdcInsn("The property '" + property.getName() + "' was not provided!");
-                    mv.visitMethodInsn(INVOKESPECIAL, "java/lang/NullPointerException", "<init>", "(Ljava/lang/String;)V", false);
-                    mv.visitInsn(ATHROW);
-                    mv.visitLabel(afterNullTest);
-                }
+            if (this.useNullTest(property)) {
+                mv.visitVarInsn(ALOAD, 2);
+                visitNullTest(mv, property);
             }
 
             final boolean hasUseField = getUseField(parentType, property.getName()) != null;
@@ -377,6 +495,57 @@ private void generateConstructor(ClassWriter classWriter, String internalName, C
         mv.visitEnd();
     }
 
+    private void generatePositionalConstructor(ClassWriter classWriter, String internalName, Class<?> parentType,
+            List<? extends Property<Class<?>, Method>> properties) {
+        MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC, "<init>", getPositionalDescriptor(properties), null, null);
+        mv.visitCode();
+
+        // super()
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "<init>", "()V", false);
+
+        int local = 1;
+        for (Property<Class<?>, Method> property : properties) {
+            Class<?> type = property.getType();
+            Label afterPut = new Label();
+
+            if (!type.isPrimitive()) {
+                // if (value == null) throw new NullPointerException(...)
+                if (this.useNullTest(property)) {
+                    mv.visitVarInsn(ALOAD, local);
+                    visitNullTest(mv, property);
+                }
+
+                // if (value != null) {
+                mv.visitVarInsn(ALOAD, local);
+                mv.visitJumpInsn(IFNULL, afterPut);
+            }
+
+            // this.field = value
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(getLoadOpcode(type), local);
+            if (getUseField(parentType, property.getName()) != null) {
+                mv.visitFieldInsn(PUTFIELD, Type.getInternalName(parentType), property.getName(), Type.getDescriptor(type));
+            } else {
+                mv.visitFieldInsn(PUTFIELD, internalName, property.getName(), Type.getDescriptor(type));
+            }
+            // }
+
+            mv.visitLabel(afterPut);
+            local += getSize(type);
+        }
+
+        // super.init();
+        if (hasDeclaredMethod(parentType, "init")) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "init", "()V", false);
+        }
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
     private void generateAccessor(ClassWriter cw, Class<?> parentType, String internalName, Property<Class<?>, Method> property) {
         Method accessor = property.getAccessor();
 
@@ -557,11 +726,27 @@ public static String getInternalName(String name) {
      * @return The class' contents, to be loaded via a {@link ClassLoader}
      */
     public byte[] createClass(final Class<?> type, final String name, final Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
+        return this.createClass(type, name, parentType, this.findProperties(type), plugins);
+    }
+
+    /**
+     * Create the event class from previously found properties.
+     *
+     * @param type The type
+     * @param name The canonical of the generated class
+     * @param parentType The parent type
+     * @param properties The properties of the type, see
+     *        {@link #findProperties(Class)}
+     * @param plugins The {@link EventFactoryPlugin}s to use when generating the class
+     * @return The class' contents, to be loaded via a {@link ClassLoader}
+     */
+    public byte[] createClass(final Class<?> type, final String name, final Class<?> parentType,
+            final ImmutableSet<? extends Property<Class<?>, Method>> properties, List<? extends EventFactoryPlugin> plugins) {
         checkNotNull(type, "type");
         checkNotNull(name, "name");
         checkNotNull(parentType, "parentType");
+        checkNotNull(properties, "properties");
 
-        final ImmutableSet<? extends Property<Class<?>, Method>> properties = this.propertySearch.findProperties(new ReflectionClassWrapper(type));
         final String internalName = getInternalName(name);
 
         final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
@@ -575,8 +760,9 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         // Create the fields
         //this.contributeFields(cw, parentType, properties, plugins);
 
-        // Create the constructor
+        // Create the constructors
         this.generateConstructor(cw, internalName, parentType, properties);
+        this.generatePositionalConstructor(cw, internalName, parentType, getConstructorProperties(properties));
 
         // The return value of toString takes the form of "ClassName{param1=value1, param2=value2, ...}"
 
@@ -615,16 +801,81 @@ private void generateWithPlugins(ClassWriter cw, Class<?> eventClass, Class<?> p
      *
      * @param type The event class
      * @param name The canonical name of the factory class
+     * @param parameters The properties accepted by the positional constructor
+     *        of the event class, see {@link #getConstructorProperties(Iterable)}
      * @return The factory class' bytes
      */
-    public byte[] createFactory(final Class<?> type, final String name) {
+    public byte[] createFactory(final Class<?> type, final String name, final List<? extends Property<Class<?>, Method>> parameters) {
         checkNotNull(type, "type");
+        return this.createFactory(type.getName(), name, parameters);
+    }
+
+    /**
+     * Create the factory for an event class that doesn't need to be loaded
+     * yet, for example because it is generated at the same time.
+     *
+     * @param eventName The canonical name of the event class
+     * @param name The canonical name of the factory class
+     * @param parameters The properties accepted by the positional constructor
+     *        of the event class, see {@link #getConstructorProperties(Iterable)}
+     * @return The factory class' bytes
+     */
+    public byte[] createFactory(final String eventName, final String name, final List<? extends Property<Class<?>, Method>> parameters) {
+        checkNotNull(eventName, "eventName");
+        checkNotNull(parameters, "parameters");
 
         String internalName = name.replace('.', '/');
+        String eventInternalName = getInternalName(eventName);
+        String eventDescriptor = "L" + eventInternalName + ";";
 
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
         cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, "java/lang/Object", new String[]{Type.getInternalName(EventFactory.class)});
 
+        // private static final List<String> PARAMETER_NAMES = Collections.unmodifiableList(Arrays.asList("name", ...));
+        // private static final MethodHandle CONSTRUCTOR = ...;
+        {
+            FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_FINAL, "PARAMETER_NAMES", "Ljava/util/List;",
+                    "Ljava/util/List<Ljava/lang/String;>;", null);
+            fv.visitEnd();
+            fv = cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_FINAL, "CONSTRUCTOR", "Ljava/lang/invoke/MethodHandle;", null, null);
+            fv.visitEnd();
+
+            MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+            mv.visitCode();
+            mv.visitLdcInsn(parameters.size());
+            mv.visitTypeInsn(ANEWARRAY, "java/lang/String");
+            for (int i = 0; i < parameters.size(); i++) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(i);
+                mv.visitLdcInsn(parameters.get(i).getName());
+                mv.visitInsn(AASTORE);
+            }
+            mv.visitMethodInsn(INVOKESTATIC, "java/util/Arrays", "asList", "([Ljava/lang/Object;)Ljava/util/List;", false);
+            mv.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableList", "(Ljava/util/List;)Ljava/util/List;", false);
+            mv.visitFieldInsn(PUTSTATIC, internalName, "PARAMETER_NAMES", "Ljava/util/List;");
+
+            // CONSTRUCTOR = MethodHandles.publicLookup().findConstructor(Impl.class, MethodType.methodType(void.class, new Class[] {...}));
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "publicLookup", "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+            mv.visitLdcInsn(Type.getType(eventDescriptor));
+            visitClassConstant(mv, void.class);
+            mv.visitLdcInsn(parameters.size());
+            mv.visitTypeInsn(ANEWARRAY, "java/lang/Class");
+            for (int i = 0; i < parameters.size(); i++) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(i);
+                visitClassConstant(mv, parameters.get(i).getType());
+                mv.visitInsn(AASTORE);
+            }
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodType", "methodType",
+                    "(Ljava/lang/Class;[Ljava/lang/Class;)Ljava/lang/invoke/MethodType;", false);
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/invoke/MethodHandles$Lookup", "findConstructor",
+                    "(Ljava/lang/Class;Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/MethodHandle;", false);
+            mv.visitFieldInsn(PUTSTATIC, internalName, "CONSTRUCTOR", "Ljava/lang/invoke/MethodHandle;");
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
         // Create the constructor
         {
             MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
@@ -640,14 +891,14 @@ public byte[] createFactory(final Class<?> type, final String name) {
         {
             MethodVisitor mv = cw.visitMethod(ACC_PUBLIC,
                     "apply",
-                    "(Ljava/util/Map;)" + Type.getDescriptor(type),
-                    "(Ljava/util/Map<Ljava/lang/String;Ljava/lang/Object;>;)" + Type.getDescriptor(type),
+                    "(Ljava/util/Map;)" + eventDescriptor,
+                    "(Ljava/util/Map<Ljava/lang/String;Ljava/lang/Object;>;)" + eventDescriptor,
                     null);
             mv.visitCode();
-            mv.visitTypeInsn(NEW, Type.getInternalName(type));
+            mv.visitTypeInsn(NEW, eventInternalName);
             mv.visitInsn(DUP);
             mv.visitVarInsn(ALOAD, 1);
-            mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(type), "<init>", "(Ljava/util/Map;)V", false);
+            mv.visitMethodInsn(INVOKESPECIAL, eventInternalName, "<init>", "(Ljava/util/Map;)V", false);
             mv.visitInsn(ARETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -669,16 +920,100 @@ public byte[] createFactory(final Class<?> type, final String name) {
                     INVOKEVIRTUAL,
                     internalName,
                     "apply",
-                    "(Ljava/util/Map;)" + Type.getDescriptor(type),
+                    "(Ljava/util/Map;)" + eventDescriptor,
                     false);
             mv.visitInsn(ARETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
         }
 
+        // getParameterNames()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getParameterNames", "()Ljava/util/List;", "()Ljava/util/List<Ljava/lang/String;>;", null);
+            mv.visitCode();
+            mv.visitFieldInsn(GETSTATIC, internalName, "PARAMETER_NAMES", "Ljava/util/List;");
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // getConstructor()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getConstructor", "()Ljava/lang/invoke/MethodHandle;", null, null);
+            mv.visitCode();
+            mv.visitFieldInsn(GETSTATIC, internalName, "CONSTRUCTOR", "Ljava/lang/invoke/MethodHandle;");
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // Positional create()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_VARARGS, "create", "([Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+            mv.visitCode();
+
+            // if (values.length != N) throw new IllegalArgumentException(...)
+            Label afterException = new Label();
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitInsn(ARRAYLENGTH);
+            mv.visitLdcInsn(parameters.size());
+            mv.visitJumpInsn(IF_ICMPEQ, afterException);
+            mv.visitTypeInsn(NEW, "java/lang/IllegalArgumentException");
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn("Expected " + parameters.size() + " parameters: " + getParameterNames(parameters));
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
+            mv.visitInsn(ATHROW);
+            mv.visitLabel(afterException);
+
+            // return new Impl((Type) values[0], ...)
+            mv.visitTypeInsn(NEW, eventInternalName);
+            mv.visitInsn(DUP);
+            for (int i = 0; i < parameters.size(); i++) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+
+                Property<Class<?>, Method> property = parameters.get(i);
+                Class<?> parameterType = property.getType();
+                if (parameterType.isPrimitive()) {
+                    if (this.useNullTest(property)) {
+                        mv.visitInsn(DUP);
+                        visitNullTest(mv, property);
+                        visitUnboxingMethod(mv, parameterType);
+                    } else {
+                        // value != null ? unbox(value) : 0
+                        Label isNull = new Label();
+                        mv.visitInsn(DUP);
+                        mv.visitJumpInsn(IFNULL, isNull);
+                        visitUnboxingMethod(mv, parameterType);
+                        Label afterUnboxing = new Label();
+                        mv.visitJumpInsn(GOTO, afterUnboxing);
+                        mv.visitLabel(isNull);
+                        mv.visitInsn(POP);
+                        visitDefaultValue(mv, parameterType);
+                        mv.visitLabel(afterUnboxing);
+                    }
+                } else {
+                    mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterType));
+                }
+            }
+            mv.visitMethodInsn(INVOKESPECIAL, eventInternalName, "<init>", getPositionalDescriptor(parameters), false);
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
         cw.visitEnd();
 
         return cw.toByteArray();
     }
 
+    private static List<String> getParameterNames(List<? extends Property<Class<?>, Method>> parameters) {
+        List<String> names = Lists.newArrayListWithCapacity(parameters.size());
+        for (Property<Class<?>, Method> property : parameters) {
+            names.add(property.getName());
+        }
+        return names;
+    }
+
 }
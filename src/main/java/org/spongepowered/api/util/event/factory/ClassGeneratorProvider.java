@@ -26,19 +26,32 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.eventgencore.Property;
 import org.spongepowered.api.util.event.factory.plugin.EventFactoryPlugin;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 /**
  * Creates event implementations by generating the necessary event class
  * and event factory at runtime.
+ *
+ * <p>If {@link #setUsePregenerated(boolean) enabled}, event factories that
+ * were already generated at build time with {@link #generate(Class, Class,
+ * List)} are loaded from the class path instead, so only events that weren't
+ * known at build time need to be generated at runtime.</p>
  */
 public class ClassGeneratorProvider implements FactoryProvider {
 
     private final LocalClassLoader classLoader = new LocalClassLoader(ClassGeneratorProvider.class.getClassLoader());
     private final ClassGenerator builder = new ClassGenerator();
     private final String targetPackage;
+    private boolean usePregenerated;
 
     /**
      * Create a new instance.
@@ -60,6 +73,26 @@ public void setNullPolicy(NullPolicy nullPolicy) {
         this.builder.setNullPolicy(nullPolicy);
     }
 
+    /**
+     * Gets whether event factories that were generated at build time are
+     * used if they are available.
+     *
+     * @return Whether pregenerated event factories are used
+     */
+    public boolean isUsePregenerated() {
+        return this.usePregenerated;
+    }
+
+    /**
+     * Sets whether event factories that were generated at build time are
+     * used if they are available.
+     *
+     * @param usePregenerated Whether pregenerated event factories are used
+     */
+    public void setUsePregenerated(boolean usePregenerated) {
+        this.usePregenerated = usePregenerated;
+    }
+
     /**
      * Get the canonical name used for a generated event class.
      *
@@ -82,8 +115,16 @@ public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, List
         String eventName = getClassName(type, "Impl");
         String factoryName = getClassName(type, "Factory");
 
-        Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, plugins));
-        Class<?> factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
+        Class<?> factoryClass = null;
+        if (this.usePregenerated) {
+            factoryClass = findPregenerated(factoryName);
+        }
+        if (factoryClass == null) {
+            ImmutableSet<? extends Property<Class<?>, Method>> properties = this.builder.findProperties(type);
+            Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, properties, plugins));
+            factoryClass = this.classLoader.defineClass(factoryName,
+                    this.builder.createFactory(eventClass, factoryName, ClassGenerator.getConstructorProperties(properties)));
+        }
 
         try {
             return (EventFactory<T>) factoryClass.newInstance();
@@ -94,6 +135,41 @@ public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, List
         }
     }
 
+    @Nullable
+    private Class<?> findPregenerated(String factoryName) {
+        try {
+            Class<?> factoryClass = Class.forName(factoryName, true, this.classLoader.getParent());
+            return EventFactory.class.isAssignableFrom(factoryClass) ? factoryClass : null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Generates the event class and the event factory for the given type
+     * without loading them, so they can be written to disk at build time.
+     *
+     * <p>The returned classes are loaded by {@link #create(Class, Class,
+     * List)} instead of generating them again if they are on the class path
+     * and {@link #setUsePregenerated(boolean) enabled}.</p>
+     *
+     * @param type The event interface
+     * @param parentType The parent type of the event class
+     * @param plugins The {@link EventFactoryPlugin}s to use when generating the event class
+     * @return The bytes of the generated classes, by their canonical name
+     */
+    public Map<String, byte[]> generate(Class<?> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
+        checkNotNull(type, "type");
+        String eventName = getClassName(type, "Impl");
+        String factoryName = getClassName(type, "Factory");
+
+        ImmutableSet<? extends Property<Class<?>, Method>> properties = this.builder.findProperties(type);
+        Map<String, byte[]> classes = Maps.newLinkedHashMap();
+        classes.put(eventName, this.builder.createClass(type, eventName, parentType, properties, plugins));
+        classes.put(factoryName, this.builder.createFactory(eventName, factoryName, ClassGenerator.getConstructorProperties(properties)));
+        return classes;
+    }
+
     /**
      * Gets the {@link LocalClassLoader} used to load generated event classes.
      *
@@ -24,14 +24,57 @@
  */
 package org.spongepowered.api.util.event.factory;
 
+import java.lang.invoke.MethodHandle;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 /**
  * Generates a new instance of an event using a given map of parameters.
  *
+ * <p>Events can also be created from positional parameters through
+ * {@link #create(Object...)}, which calls the constructor of the event
+ * directly instead of filling and consuming an intermediate map, or through
+ * the typed {@link #getConstructor() constructor handle}, which also avoids
+ * boxing primitive properties.</p>
+ *
  * @param <E> The type of event
  */
 public interface EventFactory<E> extends Function<Map<String, Object>, E> {
 
+    /**
+     * Gets the names of the properties accepted by {@link #create(Object...)},
+     * in the order they have to be passed.
+     *
+     * @return The names of the parameters
+     */
+    List<String> getParameterNames();
+
+    /**
+     * Gets a method handle of the constructor of the event class, which takes
+     * the properties in the order given by {@link #getParameterNames()} with
+     * their exact types.
+     *
+     * <p>Unlike {@link #create(Object...)}, invoking the handle with exactly
+     * typed arguments doesn't box primitive properties or allocate an array
+     * of the values.</p>
+     *
+     * @return The constructor handle
+     */
+    MethodHandle getConstructor();
+
+    /**
+     * Creates a new instance of the event from positional parameters, in the
+     * order given by {@link #getParameterNames()}.
+     *
+     * <p>A {@code null} value for a primitive property leaves the property at
+     * its default value, unless the null policy requires it.</p>
+     *
+     * @param values The values of the properties
+     * @return The new event
+     * @throws IllegalArgumentException If the number of values doesn't match
+     *         the number of parameters
+     */
+    E create(Object... values);
+
 }
@@ -0,0 +1,223 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.util.event.factory.ClassGeneratorProvider.LocalClassLoader;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates {@link EventListener}s that call a listener method directly through
+ * generated bytecode instead of using reflection.
+ *
+ * <p>One class is generated per listener method, it is shared by all
+ * instances of the class declaring the method.</p>
+ */
+public class EventListenerFactory {
+
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String HANDLE_DESCRIPTOR = "(" + Type.getDescriptor(Event.class) + ")V";
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final String targetPackage;
+
+    // Both the parent and the listener class loaders are only weakly
+    // referenced, a listener class loader is kept alive by the listeners
+    // created from its classes
+    private final LoadingCache<ClassLoader, ListenerClassLoader> classLoaders = CacheBuilder.newBuilder().weakKeys().weakValues().build(
+            new CacheLoader<ClassLoader, ListenerClassLoader>() {
+
+                @Override
+                public ListenerClassLoader load(ClassLoader parent) {
+                    return new ListenerClassLoader(parent);
+                }
+            });
+
+    /**
+     * Create a new instance.
+     *
+     * @param targetPackage The target package to place generated listener
+     *        classes in
+     */
+    public EventListenerFactory(String targetPackage) {
+        this.targetPackage = checkNotNull(targetPackage, "targetPackage");
+    }
+
+    /**
+     * Creates an {@link EventListener} that calls the given method on the
+     * given object.
+     *
+     * <p>The method must be public, non-static, declared in a public class
+     * and accept a single {@link Event} parameter.</p>
+     *
+     * @param handle The object to call the method on
+     * @param method The listener method
+     * @return The event listener
+     * @throws IllegalArgumentException If the method is not a valid listener
+     *         method
+     */
+    public EventListener<Event> create(Object handle, Method method) {
+        checkNotNull(handle, "handle");
+        checkNotNull(method, "method");
+        Class<?> declaringClass = method.getDeclaringClass();
+        checkArgument(declaringClass.isInstance(handle), "handle is not an instance of %s", declaringClass);
+        checkArgument(Modifier.isPublic(declaringClass.getModifiers()), "%s is not public", declaringClass);
+        checkArgument(Modifier.isPublic(method.getModifiers()), "%s is not public", method);
+        checkArgument(!Modifier.isStatic(method.getModifiers()), "%s is static", method);
+        checkArgument(method.getParameterTypes().length == 1 && Event.class.isAssignableFrom(method.getParameterTypes()[0]),
+                "%s must have a single event parameter", method);
+
+        ClassLoader parent = declaringClass.getClassLoader();
+        ListenerClassLoader classLoader = this.classLoaders.getUnchecked(parent != null ? parent : EventListenerFactory.class.getClassLoader());
+        try {
+            return getConstructor(classLoader, method).newInstance(handle);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create event listener for " + method, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Constructor<? extends EventListener<Event>> getConstructor(ListenerClassLoader classLoader, Method method)
+            throws NoSuchMethodException {
+        synchronized (classLoader.constructors) {
+            @Nullable Constructor<? extends EventListener<Event>> constructor = classLoader.constructors.get(method);
+            if (constructor == null) {
+                String name = this.targetPackage + "." + method.getDeclaringClass().getSimpleName() + "$" + method.getName() + "$"
+                        + this.id.incrementAndGet();
+                Class<?> listenerClass = classLoader.defineClass(name, generateClass(ClassGenerator.getInternalName(name), method));
+                constructor = (Constructor<? extends EventListener<Event>>) listenerClass.getConstructor(Object.class);
+                classLoader.constructors.put(method, constructor);
+            }
+            return constructor;
+        }
+    }
+
+    private static byte[] generateClass(String internalName, Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        String handleName = Type.getInternalName(declaringClass);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, "java/lang/Object", new String[]{EVENT_LISTENER});
+
+        {
+            FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_FINAL, "handle", "Ljava/lang/Object;", null, null);
+            fv.visitEnd();
+        }
+
+        // public <init>(Object handle)
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitFieldInsn(PUTFIELD, internalName, "handle", "Ljava/lang/Object;");
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // public void handle(Event event) { ((Handle) this.handle).method((SpecificEvent) event); }
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "handle", HANDLE_DESCRIPTOR, null, new String[]{"java/lang/Exception"});
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, "handle", "Ljava/lang/Object;");
+            mv.visitTypeInsn(CHECKCAST, handleName);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(method.getParameterTypes()[0]));
+            if (declaringClass.isInterface()) {
+                mv.visitMethodInsn(INVOKEINTERFACE, handleName, method.getName(), Type.getMethodDescriptor(method), true);
+            } else {
+                mv.visitMethodInsn(INVOKEVIRTUAL, handleName, method.getName(), Type.getMethodDescriptor(method), false);
+            }
+
+            // Discard the return value, if any
+            Class<?> returnType = method.getReturnType();
+            if (returnType == long.class || returnType == double.class) {
+                mv.visitInsn(POP2);
+            } else if (returnType != void.class) {
+                mv.visitInsn(POP);
+            }
+
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * The class loader of the listener classes of one parent class loader.
+     * It also holds their constructors, so they are unloaded together with
+     * the parent class loader.
+     */
+    private static final class ListenerClassLoader extends LocalClassLoader {
+
+        final Map<Method, Constructor<? extends EventListener<Event>>> constructors = Maps.newHashMap();
+
+        ListenerClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+    }
+
+}
@@ -44,9 +44,9 @@
  */
 public class WeightedEntity extends WeightedObject<EntityType> implements DataSerializable {
 
-    public static final DataQuery WEIGHTED_ENTITY_TYPE = of("EntityType");
-    public static final DataQuery WEIGHTED_ENTITY_DATA = of("Data");
-    public static final DataQuery WEIGHTED_ENTITY_WEIGHT = of("Weight");
+    public static final DataQuery WEIGHTED_ENTITY_TYPE = of("EntityType").intern();
+    public static final DataQuery WEIGHTED_ENTITY_DATA = of("Data").intern();
+    public static final DataQuery WEIGHTED_ENTITY_WEIGHT = of("Weight").intern();
 
     private final ImmutableList<ImmutableDataManipulator<?, ?>> additionalProperties;
 
@@ -50,10 +50,10 @@
  */
 public class WeightedItem extends WeightedObject<ItemType> implements DataSerializable {
 
-    public static final DataQuery WEIGHTED_ITEM_TYPE = of("ItemType");
-    public static final DataQuery WEIGHTED_ITEM_WEIGHT = of("Weight");
-    public static final DataQuery WEIGHTED_ITEM_DATA = of("Data");
-    public static final DataQuery WEIGHTED_ITEM_QUANTITY = of("Quantity");
+    public static final DataQuery WEIGHTED_ITEM_TYPE = of("ItemType").intern();
+    public static final DataQuery WEIGHTED_ITEM_WEIGHT = of("Weight").intern();
+    public static final DataQuery WEIGHTED_ITEM_DATA = of("Data").intern();
+    public static final DataQuery WEIGHTED_ITEM_QUANTITY = of("Quantity").intern();
 
     private ImmutableList<ImmutableDataManipulator<?, ?>> additionalProperties;
     private VariableAmount quantity;
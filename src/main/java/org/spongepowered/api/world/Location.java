@@ -83,15 +83,15 @@
 
     // These queries are finalized such that most all are used in a
     // DataContainer for any location.
-    public static final DataQuery WORLD_NAME = of("WorldName");
-    public static final DataQuery WORLD_ID = of("WorldUuid");
-    public static final DataQuery CHUNK_X = of("ChunkX");
-    public static final DataQuery CHUNK_Y = of("ChunkY");
-    public static final DataQuery CHUNK_Z = of("ChunkZ");
-    public static final DataQuery BLOCK_TYPE = of("BlockType");
-    public static final DataQuery POSITION_X = of("X");
-    public static final DataQuery POSITION_Y = of("Y");
-    public static final DataQuery POSITION_Z = of("Z");
+    public static final DataQuery WORLD_NAME = of("WorldName").intern();
+    public static final DataQuery WORLD_ID = of("WorldUuid").intern();
+    public static final DataQuery CHUNK_X = of("ChunkX").intern();
+    public static final DataQuery CHUNK_Y = of("ChunkY").intern();
+    public static final DataQuery CHUNK_Z = of("ChunkZ").intern();
+    public static final DataQuery BLOCK_TYPE = of("BlockType").intern();
+    public static final DataQuery POSITION_X = of("X").intern();
+    public static final DataQuery POSITION_Y = of("Y").intern();
+    public static final DataQuery POSITION_Z = of("Z").intern();
 
     private final WeakReference<E> extent;
     // Lazily computed, either position or blockPosition is set by the constructor
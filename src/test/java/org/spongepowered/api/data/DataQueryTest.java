@@ -0,0 +1,124 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+public class DataQueryTest {
+
+    @Test
+    public void testEquality() {
+        DataQuery query = of("foo", "bar");
+        assertEquals(query, of('.', "foo.bar"));
+        assertEquals(query.hashCode(), of('.', "foo.bar").hashCode());
+        assertEquals(query, of("foo").then(of("bar")));
+        assertFalse(query.equals(of("foo", "baz")));
+        assertFalse(query.equals(of("foo")));
+    }
+
+    @Test
+    public void testIntern() {
+        DataQuery interned = of("foo", "bar").intern();
+        assertSame(interned, of("foo", "bar").intern());
+        assertSame(interned, interned.intern());
+        assertNotSame(interned, of("foo", "bar"));
+
+        assertEquals(interned, of("foo", "bar"));
+        assertEquals(of("foo", "bar"), interned);
+        assertFalse(interned.equals(of("foo", "baz").intern()));
+        assertSame(of(), of().intern());
+    }
+
+    @Test
+    public void testParts() {
+        DataQuery query = of("foo", "bar", "baz");
+        assertEquals(3, query.getPartCount());
+        assertEquals("bar", query.getPart(1));
+        assertEquals(ImmutableList.of("foo", "bar", "baz"), query.getParts());
+
+        List<DataQuery> queryParts = query.getQueryParts();
+        assertEquals(ImmutableList.of(of("foo"), of("bar"), of("baz")), queryParts);
+        assertSame(queryParts, query.getQueryParts());
+        DataQuery single = of("foo");
+        assertSame(single, single.getQueryParts().get(0));
+    }
+
+    @Test
+    public void testThen() {
+        DataQuery query = of("foo");
+        assertSame(query, query.then(of()));
+        assertSame(query, of().then(query));
+        assertTrue(query.then(of("bar", "baz")).getPartCount() == 3);
+    }
+
+    @Test
+    public void testNestedThen() {
+        DataQuery query = of();
+        List<String> parts = Lists.newArrayList();
+        for (int i = 0; i < 10000; i++) {
+            query = query.then(of("a" + i, "b" + i));
+            parts.add("a" + i);
+            parts.add("b" + i);
+        }
+        query = of("x").then(query.then(of("y")));
+        parts.add(0, "x");
+        parts.add("y");
+
+        assertEquals(parts.size(), query.getPartCount());
+        assertEquals(parts, query.getParts());
+        assertEquals("b9999", query.getPart(parts.size() - 2));
+        assertEquals(new DataQuery(parts), query);
+        assertEquals(new DataQuery(parts).hashCode(), query.hashCode());
+    }
+
+    @Test
+    public void testThenReleasesPartsOnceCollected() throws InterruptedException {
+        DataQuery prefix = of("a", "b");
+        DataQuery query = prefix.then(of("c"));
+        WeakReference<DataQuery> reference = new WeakReference<DataQuery>(prefix);
+        prefix = null;
+        assertEquals(ImmutableList.of("a", "b", "c"), query.getParts());
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+        assertEquals(ImmutableList.of("a", "b", "c"), query.getParts());
+    }
+
+}
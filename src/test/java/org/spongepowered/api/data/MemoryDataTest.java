@@ -33,26 +33,50 @@
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 import org.mockito.Mockito;
 import org.spongepowered.api.service.persistence.DataBuilder;
 import org.spongepowered.api.service.persistence.SerializationService;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
+@RunWith(Parameterized.class)
 public class MemoryDataTest {
 
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        return ImmutableList.of(
+                new Object[] {"memory", (Supplier<DataContainer>) MemoryDataContainer::new},
+                new Object[] {"flat", (Supplier<DataContainer>) FlatDataContainer::new});
+    }
+
+    private final Supplier<DataContainer> containerSupplier;
+
+    public MemoryDataTest(String name, Supplier<DataContainer> containerSupplier) {
+        this.containerSupplier = containerSupplier;
+    }
+
+    private DataContainer createContainer() {
+        return this.containerSupplier.get();
+    }
+
     @Test
     public void testCreateDataView() {
-        new MemoryDataContainer();
+        createContainer();
     }
 
     @Test
     public void testCreateView() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery tempQuery = of("foo", "bar", "baz");
         container.createView(tempQuery);
         assertTrue(container.getView(tempQuery).isPresent());
@@ -60,7 +84,7 @@ public void testCreateView() {
 
     @Test
     public void testSetData() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery testQuery = of('.', "foo.bar");
         container.set(testQuery, 1);
         Optional<Integer> optional = container.getInt(testQuery);
@@ -69,7 +93,7 @@ public void testSetData() {
 
     @Test
     public void testIncorrectType() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar");
         container.set(testQuery, "foo");
         Optional<Integer> optional = container.getInt(testQuery);
@@ -78,7 +102,7 @@ public void testIncorrectType() {
 
     @Test
     public void testToString() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar", "baz");
         List<Integer> intList = ImmutableList.of(1, 2, 3, 4);
         container.set(testQuery, intList);
@@ -108,7 +132,7 @@ public void testToString() {
 
     @Test
     public void testNumbers() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar");
         container.set(testQuery, 1.0D);
         Optional<Integer> integerOptional = container.getInt(testQuery);
@@ -124,7 +148,7 @@ public void testNumbers() {
 
     @Test
     public void testBoolean() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar");
         container.set(testQuery, false);
         Optional<Boolean> booleanOptional = container.getBoolean(testQuery);
@@ -134,7 +158,7 @@ public void testBoolean() {
 
     @Test
     public void testString() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar");
         container.set(testQuery, "foo");
         Optional<String> stringOptional = container.getString(testQuery);
@@ -144,7 +168,7 @@ public void testString() {
 
     @Test
     public void testAbsents() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar", "baz");
         assertTrue(!container.get(testQuery).isPresent());
         assertTrue(!container.getBoolean(testQuery).isPresent());
@@ -168,7 +192,7 @@ public void testAbsents() {
 
     @Test
     public void testNumberedLists() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery testQuery = of("foo", "bar", "baz");
         List<Integer> intList = ImmutableList.of(1, 2, 3, 4);
         container.set(testQuery, intList);
@@ -194,11 +218,11 @@ public void testNumberedLists() {
 
     @Test
     public void testLists() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery query = of("foo");
         List<DataView> list = Lists.newArrayList();
         for (int i = 0; i < 1; i++) {
-            DataContainer internal = new MemoryDataContainer();
+            DataContainer internal = createContainer();
             internal.set(of("foo", "bar"), "foo.bar" + i);
             int[] ints = new int[] {0, 1, 2, 3, i};
             internal.set(of("ints"), Arrays.asList(ints));
@@ -212,7 +236,7 @@ public void testLists() {
 
     @Test
     public void testEmptyQuery() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery query = of("");
         container.set(query, "foo");
         assertTrue(container.get(query).isPresent());
@@ -221,7 +245,7 @@ public void testEmptyQuery() {
 
     @Test
     public void testContainsEmpty() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         DataQuery query = of("");
         assertTrue(!container.contains(query));
         container.set(query, "foo");
@@ -234,7 +258,7 @@ public void testContainsEmpty() {
 
     @Test
     public void testGetName() {
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         assertTrue(container.getName() !=  null);
     }
 
@@ -269,7 +293,7 @@ public void testGetSerializableList() {
             String number = Integer.toString(i);
             list.add(new SimpleData(i, 0.1 * i, "i", Lists.asList(number, new String[] {" foo", "bar"})));
         }
-        DataContainer container = new MemoryDataContainer();
+        DataContainer container = createContainer();
         container.set(of("foo", "bar"), list);
         assertTrue(container.contains(of("foo", "bar")));
         Optional<List<SimpleData>> fromContainer = container.getSerializableList(of("foo", "bar"), SimpleData.class, service);
@@ -287,7 +311,7 @@ public void testGetKeys() {
         queries.add(of("foo", "bar"));
         queries.add(of("foo", "bar", "baz"));
         queries.add(of("bar"));
-        DataView view = new MemoryDataContainer();
+        DataView view = createContainer();
         view.set(of("foo"), "foo");
         view.set(of("foo", "bar"), "foobar");
         view.set(of("foo", "bar", "baz"), "foobarbaz");
@@ -304,7 +328,7 @@ public void testGetKeys() {
 
     @Test
     public void testGetMaps() {
-        DataView view = new MemoryDataContainer();
+        DataView view = createContainer();
         view.set(of("foo", "bar", "foo"), "foo");
         view.set(of("foo", "bar", "bar"), "foobar");
         view.set(of("foo", "bar", "baz"), "foobarbaz");
@@ -349,7 +373,7 @@ public void testMaps() {
             stringList.add("Foo" + i);
         }
         myMap.put("myList", stringList);
-        DataView view = new MemoryDataContainer();
+        DataView view = createContainer();
         view.set(of("Foo"), myMap);
 
         Map<?, ?> retrievedMap = view.getMap(of("Foo")).get();
@@ -359,21 +383,63 @@ public void testMaps() {
 
     @Test
     public void testCopy() {
-        final DataContainer container = new MemoryDataContainer();
+        final DataContainer container = createContainer();
         container.set(of("Foo"), "foo");
         final DataContainer newContainer = container.copy();
         assertTrue(container.equals(newContainer));
         container.set(of("Foo", "bar"), "foo.bar");
         final DataView internal = container.getView(of("Foo")).get().copy();
-        final DataContainer internalCopy = new MemoryDataContainer().set(of("bar"), "foo.bar");
+        final DataContainer internalCopy = createContainer().set(of("bar"), "foo.bar");
         assertTrue(internal.equals(internalCopy));
     }
 
+    @Test
+    public void testRemove() {
+        DataContainer container = createContainer();
+        for (int i = 0; i < 100; i++) {
+            container.set(of("foo", "bar" + i, "baz"), i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            container.remove(of("foo", "bar" + i));
+        }
+        container.set(of("foo", "bar0"), "replaced");
+        for (int i = 1; i < 100; i += 2) {
+            assertTrue(container.getInt(of("foo", "bar" + i, "baz")).get() == i);
+            assertTrue(!container.contains(of("foo", "bar" + (i + 1), "baz")));
+        }
+        assertTrue(container.getString(of("foo", "bar0")).get().equals("replaced"));
+        assertTrue(container.getView(of("foo")).get().getKeys(false).size() == 51);
+    }
+
+    @Test
+    public void testArrayBuffers() {
+        DataContainer container = createContainer();
+        byte[] bytes = new byte[] {1, 2, 3};
+        int[] ints = new int[] {4, 5, 6};
+        container.set(of("bytes"), bytes);
+        container.set(of("nested", "ints"), ints);
+        bytes[0] = 0;
+
+        ByteBuffer byteBuffer = container.getByteBuffer(of("bytes")).get();
+        assertTrue(byteBuffer.isReadOnly());
+        assertTrue(byteBuffer.remaining() == 3 && byteBuffer.get(0) == 1);
+        IntBuffer intBuffer = container.getIntBuffer(of("nested", "ints")).get();
+        assertTrue(intBuffer.isReadOnly());
+        assertTrue(intBuffer.remaining() == 3 && intBuffer.get(2) == 6);
+
+        assertTrue(!container.getIntBuffer(of("bytes")).isPresent());
+        assertTrue(!container.getLongBuffer(of("nested", "missing")).isPresent());
+
+        // The defensive copies of get are unchanged
+        ((byte[]) container.get(of("bytes")).get())[1] = 0;
+        assertTrue(container.getByteBuffer(of("bytes")).get().get(1) == 2);
+    }
+
     @Test
     public void testTest() {
 
-        DataContainer containertest = new MemoryDataContainer();
-        DataContainer containertest2 = new MemoryDataContainer();
+        DataContainer containertest = createContainer();
+        DataContainer containertest2 = createContainer();
         containertest.set(new DataQuery("test1", "test2", "test3"), containertest2);
     }
 
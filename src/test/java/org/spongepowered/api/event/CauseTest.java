@@ -24,6 +24,12 @@
  */
 package org.spongepowered.api.event;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import org.junit.Test;
 import org.spongepowered.api.event.cause.Cause;
 
@@ -130,4 +136,46 @@ public void testJustBecauseIcan() {
         assert testing.noneOf(String.class).isEmpty();
     }
 
+    @Test
+    public void testWithDoesNotModifyOtherCauses() {
+        final Cause base = Cause.of("foo");
+        final Cause first = base.with("bar", 1);
+        final Cause second = base.with("baz");
+        final Cause third = first.with(ImmutableList.of(2));
+        final Cause fourth = first.with(Iterables.unmodifiableIterable(ImmutableList.of(3)));
+
+        assertEquals(ImmutableList.of("foo"), base.all());
+        assertEquals(ImmutableList.of("foo", "bar", 1), first.all());
+        assertEquals(ImmutableList.of("foo", "baz"), second.all());
+        assertEquals(ImmutableList.of("foo", "bar", 1, 2), third.all());
+        assertEquals(ImmutableList.of("foo", "bar", 1, 3), fourth.all());
+        assertEquals(Optional.of(1), first.last(Integer.class));
+        assertFalse(second.any(Integer.class));
+        assertEquals(Cause.of("foo", "bar", 1, 2), third);
+        assertEquals(Cause.of("foo", "bar", 1, 2).hashCode(), third.hashCode());
+    }
+
+    @Test
+    public void testDeepCauseChain() {
+        Cause cause = Cause.of("root");
+        for (int i = 0; i < 1000; i++) {
+            cause = cause.with(i);
+        }
+        assertEquals(1001, cause.all().size());
+        assertEquals(Optional.of(0), cause.first(Integer.class));
+        assertEquals(Optional.of(999), cause.last(Integer.class));
+        assertEquals(1000, cause.allOf(Integer.class).size());
+        assertEquals(ImmutableList.of("root"), cause.noneOf(Integer.class));
+        // Repeated lookups return the same results
+        assertEquals(Optional.of(999), cause.last(Integer.class));
+        assertTrue(cause.allOf(Object.class).equals(cause.all()));
+    }
+
+    @Test
+    public void testBeforeSkipsRoot() {
+        final Cause cause = Cause.of(1, "foo", 2);
+        assertEquals(Optional.of("foo"), cause.before(Integer.class));
+        assertEquals(Optional.of("foo"), cause.after(Integer.class));
+    }
+
 }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.event;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.withSettings;
@@ -183,4 +184,28 @@ public static Object mockParam(final Class<?> paramType) {
             return mock(paramType, withSettings().defaultAnswer(Mockito.RETURNS_MOCKS));
         }
     }
+
+    public interface PairEvent extends Event {
+
+        int getFirst();
+
+        int getSecond();
+
+    }
+
+    @Test
+    public void testGetConstructorWithDifferentNames() throws Throwable {
+        PairEvent event = (PairEvent) SpongeEventFactoryUtils.getConstructor(PairEvent.class, "first", "second").invoke(1, 2);
+        assertEquals(1, event.getFirst());
+        assertEquals(2, event.getSecond());
+
+        event = (PairEvent) SpongeEventFactoryUtils.getConstructor(PairEvent.class, "second", "first").invoke(1, 2);
+        assertEquals(2, event.getFirst());
+        assertEquals(1, event.getSecond());
+
+        event = (PairEvent) SpongeEventFactoryUtils.getConstructor(PairEvent.class, "second").invoke(3);
+        assertEquals(0, event.getFirst());
+        assertEquals(3, event.getSecond());
+    }
+
 }
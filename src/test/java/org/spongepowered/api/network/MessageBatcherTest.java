@@ -0,0 +1,191 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Tests for {@link MessageBatcher}.
+ */
+public class MessageBatcherTest {
+
+    private final List<RemoteConnection> connections = Lists.newArrayList();
+    private final List<ChannelBuf> payloads = Lists.newArrayList();
+    private final ChannelBinding.IndexedMessageChannel channel = mock(ChannelBinding.IndexedMessageChannel.class);
+
+    public MessageBatcherTest() {
+        ChannelRegistrar registrar = mock(ChannelRegistrar.class);
+        when(registrar.getBufferAllocator()).thenReturn(PooledChannelBufAllocator.DEFAULT);
+        when(this.channel.getRegistrar()).thenReturn(registrar);
+        when(this.channel.getName()).thenReturn("test");
+    }
+
+    private MessageBatcher createBatcher(int flushThreshold) {
+        return new MessageBatcher(PooledChannelBufAllocator.DEFAULT, flushThreshold, (connection, payload) -> {
+            this.connections.add(connection);
+            this.payloads.add(payload);
+        });
+    }
+
+    private MessageFrame frame(int messageId, int value) {
+        return frame(this.channel, messageId, value);
+    }
+
+    private static MessageFrame frame(ChannelBinding.IndexedMessageChannel channel, int messageId, int value) {
+        return MessageFrame.encode(channel, messageId, new Message() {
+            @Override
+            public void readFrom(ChannelBuf buf) {
+            }
+
+            @Override
+            public void writeTo(ChannelBuf buf) {
+                buf.writeInteger(value);
+            }
+        });
+    }
+
+    private List<Integer> readMessages(ChannelBuf payload) {
+        List<Integer> messages = Lists.newArrayList();
+        MessageBatcher.forEachMessage(payload, buf -> {
+            messages.add(buf.readByte() * 1000 + buf.readInteger());
+            assertEquals(0, buf.available());
+        });
+        return messages;
+    }
+
+    @Test
+    public void testCoalesceUntilFlush() {
+        MessageBatcher batcher = createBatcher(1024);
+        RemoteConnection first = mock(RemoteConnection.class);
+        RemoteConnection second = mock(RemoteConnection.class);
+        batcher.add(first, frame(1, 10));
+        batcher.add(second, frame(2, 20));
+        batcher.add(first, frame(3, 30));
+        batcher.add(first, frame(1, 40));
+        assertTrue(this.payloads.isEmpty());
+
+        batcher.flush();
+        assertEquals(2, this.payloads.size());
+        int firstIndex = this.connections.indexOf(first);
+        assertEquals(Lists.newArrayList(1010, 3030, 1040), readMessages(this.payloads.get(firstIndex)));
+        // A single message is sent without the batch framing
+        ChannelBuf single = this.payloads.get(1 - firstIndex);
+        assertSame(second, this.connections.get(1 - firstIndex));
+        assertEquals(5, single.available());
+        assertEquals(Lists.newArrayList(2020), readMessages(single));
+
+        MessageBatcher.Statistics statistics = batcher.getStatistics();
+        assertEquals(2, statistics.getFlushCount());
+        assertEquals(4, statistics.getMessageCount());
+        assertEquals(2.0, statistics.getMessagesPerFlush(), 0);
+        // Two packet headers of 6 bytes, minus the batch id and three lengths
+        assertEquals(2 * 6 - 4, statistics.getBytesSaved());
+
+        batcher.flush();
+        assertEquals(2, this.payloads.size());
+    }
+
+    @Test
+    public void testFlushThreshold() {
+        MessageBatcher batcher = createBatcher(16);
+        RemoteConnection connection = mock(RemoteConnection.class);
+        for (int i = 0; i < 5; i++) {
+            batcher.add(connection, frame(0, i));
+        }
+        // Each entry takes 6 bytes, so a batch holds two messages
+        assertEquals(2, this.payloads.size());
+        batcher.flush(connection);
+        assertEquals(3, this.payloads.size());
+
+        List<Integer> messages = Lists.newArrayList();
+        for (ChannelBuf payload : this.payloads) {
+            assertTrue(payload.available() <= 16);
+            messages.addAll(readMessages(payload));
+        }
+        assertEquals(Lists.newArrayList(0, 1, 2, 3, 4), messages);
+    }
+
+    @Test
+    public void testSendWithoutHoldingLock() throws Exception {
+        RemoteConnection connection = mock(RemoteConnection.class);
+        MessageBatcher[] holder = new MessageBatcher[1];
+        MessageBatcher batcher = new MessageBatcher(PooledChannelBufAllocator.DEFAULT, 1024, (target, payload) -> {
+            this.payloads.add(payload);
+            if (this.payloads.size() == 1) {
+                // Another thread adds a frame while the payload is being sent
+                Thread thread = new Thread(() -> holder[0].add(connection, frame(1, 20)));
+                thread.start();
+                try {
+                    thread.join(10000);
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                assertFalse(thread.isAlive());
+            }
+        });
+        holder[0] = batcher;
+        batcher.add(connection, frame(0, 10));
+        batcher.flush();
+        assertEquals(1, this.payloads.size());
+        batcher.flush();
+        assertEquals(2, this.payloads.size());
+        assertEquals(Lists.newArrayList(1020), readMessages(this.payloads.get(1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchIdIsRejected() {
+        createBatcher(1024).add(mock(RemoteConnection.class), frame(MessageBatcher.BATCH_ID, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOtherChannelIsRejected() {
+        ChannelRegistrar registrar = this.channel.getRegistrar();
+        ChannelBinding.IndexedMessageChannel other = mock(ChannelBinding.IndexedMessageChannel.class);
+        when(other.getRegistrar()).thenReturn(registrar);
+        MessageBatcher batcher = createBatcher(1024);
+        RemoteConnection connection = mock(RemoteConnection.class);
+        batcher.add(connection, frame(1, 10));
+        batcher.add(connection, frame(other, 1, 20));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyMessageInBatchIsRejected() {
+        ChannelBuf payload = PooledChannelBufAllocator.DEFAULT.buffer(8);
+        payload.writeByte((byte) MessageBatcher.BATCH_ID).writeVarInt(0);
+        MessageBatcher.forEachMessage(payload, buf -> {
+        });
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.Platform;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.text.sink.MessageSink;
+import org.spongepowered.api.util.command.CommandSource;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Tests for {@link MessageFrame}.
+ */
+public class MessageFrameTest {
+
+    @Test
+    public void testEncodeOnceForManyRecipients() {
+        TestChannel channel = new TestChannel();
+        List<Player> players = Lists.newArrayList();
+        for (int i = 0; i < 500; i++) {
+            players.add(mock(Player.class));
+        }
+        CountingMessage message = new CountingMessage();
+
+        MessageFrame frame = channel.encode(message);
+        channel.sendTo(players, frame);
+        assertEquals(1, message.writes);
+        assertEquals(500, channel.sent.size());
+        for (int i = 0; i < 500; i++) {
+            assertSame(players.get(i), channel.sent.get(i));
+        }
+
+        assertEquals(3, frame.getMessageId());
+        assertEquals(CountingMessage.class, frame.getMessageType());
+        assertEquals(12, frame.getLength());
+        ByteBuffer payload = frame.getPayload();
+        assertEquals(42, payload.getInt());
+        assertEquals(-1L, payload.getLong());
+
+        ChannelBuf buf = PooledChannelBufAllocator.DEFAULT.buffer(0);
+        frame.writeTo(buf);
+        assertEquals(13, buf.available());
+        assertEquals(3, buf.readByte());
+        assertEquals(42, buf.readInteger());
+        buf.release();
+    }
+
+    @Test
+    public void testSendToSink() {
+        TestChannel channel = new TestChannel();
+        final Player player = mock(Player.class);
+        final CommandSource console = mock(CommandSource.class);
+        MessageSink sink = new MessageSink() {
+            @Override
+            public Iterable<CommandSource> getRecipients() {
+                return ImmutableList.of(console, player);
+            }
+        };
+
+        channel.sendTo(sink, channel.encode(new CountingMessage()));
+        assertEquals(ImmutableList.of(player), channel.sent);
+    }
+
+    private static class CountingMessage implements Message {
+
+        int writes;
+
+        @Override
+        public void readFrom(ChannelBuf buf) {
+        }
+
+        @Override
+        public void writeTo(ChannelBuf buf) {
+            this.writes++;
+            buf.writeInteger(42).writeLong(-1L);
+        }
+    }
+
+    private static class TestChannel implements ChannelBinding.IndexedMessageChannel {
+
+        final List<Player> sent = Lists.newArrayList();
+        private final ChannelRegistrar registrar = mock(ChannelRegistrar.class);
+
+        TestChannel() {
+            when(this.registrar.getBufferAllocator()).thenReturn(PooledChannelBufAllocator.DEFAULT);
+        }
+
+        @Override
+        public ChannelRegistrar getRegistrar() {
+            return this.registrar;
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public PluginContainer getOwner() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void registerMessage(Class<? extends Message> messageClass, int messageId) {
+        }
+
+        @Override
+        public <M extends Message> void registerMessage(Class<M> messageClass, int messageId, MessageHandler<M> handler) {
+        }
+
+        @Override
+        public <M extends Message> void registerMessage(Class<M> messageClass, int messageId, Platform.Type side, MessageHandler<M> handler) {
+        }
+
+        @Override
+        public MessageFrame encode(Message message) {
+            return MessageFrame.encode(this, 3, message);
+        }
+
+        @Override
+        public void sendTo(Player player, Message message) {
+            sendTo(player, encode(message));
+        }
+
+        @Override
+        public void sendTo(Player player, MessageFrame frame) {
+            this.sent.add(player);
+        }
+
+        @Override
+        public void sendToServer(Message message) {
+        }
+
+        @Override
+        public void sendToAll(Message message) {
+        }
+
+        @Override
+        public void sendToAll(MessageFrame frame) {
+        }
+
+        @Override
+        public void setCoalescing(boolean coalescing) {
+        }
+
+        @Override
+        public boolean isCoalescing() {
+            return false;
+        }
+
+        @Override
+        public MessageBatcher.Statistics getCoalescingStatistics() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tests for {@link PooledChannelBufAllocator} and its buffers.
+ */
+public class PooledChannelBufAllocatorTest {
+
+    @Test
+    public void testPrimitives() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(4);
+        UUID uuid = UUID.randomUUID();
+        buf.writeBoolean(true).writeByte((byte) -3).writeShort((short) 1234).writeChar('x').writeInteger(-42)
+                .writeLong(1L << 40).writeFloat(1.5f).writeDouble(-2.25).writeString("héllo").writeUniqueId(uuid);
+
+        assertTrue(buf.getCapacity() >= buf.writerIndex());
+        assertEquals(-42, buf.getInteger(6));
+        assertTrue(buf.readBoolean());
+        assertEquals(-3, buf.readByte());
+        assertEquals(1234, buf.readShort());
+        assertEquals('x', buf.readChar());
+        assertEquals(-42, buf.readInteger());
+        assertEquals(1L << 40, buf.readLong());
+        assertEquals(1.5f, buf.readFloat(), 0);
+        assertEquals(-2.25, buf.readDouble(), 0);
+        assertEquals("héllo", buf.readString());
+        assertEquals(uuid, buf.readUniqueId());
+        assertEquals(0, buf.available());
+        assertTrue(buf.release());
+    }
+
+    @Test
+    public void testBulkTransfer() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).directBuffer(0);
+        int[] ints = {1, -2, 3, Integer.MAX_VALUE};
+        long[] longs = {Long.MIN_VALUE, 0, 7};
+        float[] floats = {0.5f, -1};
+        double[] doubles = {Math.PI};
+        buf.writeIntegers(ints).writeLongs(longs, 1, 2).writeFloats(floats).writeDoubles(doubles).writeBytes(new byte[] {9, 8});
+        assertEquals(16 + 16 + 8 + 8 + 2, buf.available());
+        assertEquals(Integer.MAX_VALUE, buf.getInteger(12));
+
+        int[] readInts = new int[4];
+        long[] readLongs = new long[3];
+        float[] readFloats = new float[2];
+        double[] readDoubles = new double[1];
+        byte[] readBytes = new byte[2];
+        buf.readIntegers(readInts).readLongs(readLongs, 0, 2).readFloats(readFloats).readDoubles(readDoubles).readBytes(readBytes);
+        assertArrayEquals(ints, readInts);
+        assertArrayEquals(new long[] {0, 7, 0}, readLongs);
+        assertArrayEquals(floats, readFloats, 0);
+        assertArrayEquals(doubles, readDoubles, 0);
+        assertArrayEquals(new byte[] {9, 8}, readBytes);
+        buf.release();
+    }
+
+    @Test
+    public void testByteOrderAndViews() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(16);
+        ChannelBuf little = buf.order(ByteOrder.LITTLE_ENDIAN);
+        little.writeInteger(1);
+        little.writeIntegers(new int[] {2});
+        assertEquals(8, buf.writerIndex());
+        assertEquals(1 << 24, buf.getInteger(0));
+        assertEquals(2, little.getInteger(4));
+
+        ByteBuffer nio = little.nioBuffer();
+        assertEquals(ByteOrder.LITTLE_ENDIAN, nio.order());
+        assertEquals(8, nio.remaining());
+        nio.putInt(4, 3);
+        assertEquals(3, little.getInteger(4));
+
+        ChannelBuf slice = buf.slice(4, 4);
+        assertEquals(4, slice.available());
+        slice.setInteger(0, 5);
+        assertEquals(5, buf.getInteger(4));
+        assertEquals(1, buf.getInteger(0) >>> 24);
+        buf.release();
+    }
+
+    @Test
+    public void testGrowthKeepsContent() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(0);
+        final ChannelBuf slice = buf.writeInteger(42).slice();
+        for (int i = 0; i < 1000; i++) {
+            buf.writeInteger(i);
+        }
+        assertEquals(4004, buf.available());
+        assertTrue(buf.getCapacity() >= 4004);
+        assertEquals(42, slice.readInteger());
+        assertEquals(999, buf.getInteger(4000));
+        buf.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSliceCannotGrow() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(64);
+        buf.slice(0, 2).setWriteIndex(0).writeInteger(1);
+    }
+
+    @Test
+    public void testReferenceCounting() {
+        PooledChannelBufAllocator allocator = new PooledChannelBufAllocator(1, 1024);
+        ChannelBuf buf = allocator.buffer(100);
+        ChannelBuf slice = buf.retain().slice();
+        assertEquals(2, slice.refCnt());
+        assertFalse(slice.release());
+        assertEquals(0, allocator.getPooledCount());
+        assertTrue(buf.release());
+        assertEquals(1, allocator.getPooledCount());
+
+        // The memory is reused and only one buffer is kept per capacity
+        ChannelBuf reused = allocator.buffer(128);
+        ChannelBuf other = allocator.buffer(128);
+        assertEquals(0, allocator.getPooledCount());
+        reused.release();
+        other.release();
+        assertEquals(1, allocator.getPooledCount());
+    }
+
+    @Test
+    public void testRecycledMemoryIsCleared() {
+        PooledChannelBufAllocator allocator = new PooledChannelBufAllocator(1, 1024);
+        for (ChannelBuf buf : ImmutableList.of(allocator.buffer(64), allocator.directBuffer(64))) {
+            for (int i = 0; i < 8; i++) {
+                buf.writeLong(-1);
+            }
+            buf.release();
+        }
+        assertEquals(2, allocator.getPooledCount());
+        assertArrayEquals(new byte[64], allocator.buffer(64).array());
+        assertArrayEquals(new byte[64], allocator.directBuffer(64).array());
+    }
+
+    @Test
+    public void testGrowthDoesNotRecycleViews() {
+        PooledChannelBufAllocator allocator = new PooledChannelBufAllocator(1, 1024);
+        ChannelBuf buf = allocator.buffer(64);
+        final ByteBuffer view = buf.writeInteger(42).nioBuffer();
+        buf.writeBytes(new byte[100]);
+        assertEquals(0, allocator.getPooledCount());
+        allocator.buffer(64).writeInteger(7);
+        assertEquals(42, view.getInt(0));
+        buf.release();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAccessAfterRelease() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(8);
+        buf.writeInteger(1);
+        buf.release();
+        buf.readInteger();
+    }
+
+    @Test
+    public void testDataView() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("name"), "test")
+                .set(DataQuery.of("a", "b"), 5)
+                .set(DataQuery.of("list"), ImmutableList.of(1L, "two"))
+                .set(DataQuery.of("ints"), new int[] {1, 2, 3});
+
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(0);
+        buf.writeInteger(7).writeDataView(container);
+        assertEquals(7, buf.readInteger());
+        DataView read = buf.readDataView();
+        assertEquals(0, buf.available());
+        assertEquals(read.getKeys(true), buf.getDataView(4).getKeys(true));
+        assertEquals("test", read.getString(DataQuery.of("name")).get());
+        assertEquals(5, (int) read.getInt(DataQuery.of("a", "b")).get());
+        assertEquals(ImmutableList.of(1L, "two"), read.getList(DataQuery.of("list")).get());
+        assertArrayEquals(new int[] {1, 2, 3}, (int[]) read.get(DataQuery.of("ints")).get());
+        buf.release();
+    }
+
+    @Test
+    public void testVarInts() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(0);
+        int[] values = {0, 1, 127, 128, 300, 1 << 21, -1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int[] sizes = {1, 1, 1, 2, 2, 4, 5, 5, 5};
+        for (int i = 0; i < values.length; i++) {
+            int start = buf.writerIndex();
+            buf.writeVarInt(values[i]);
+            assertEquals(sizes[i], buf.writerIndex() - start);
+        }
+        for (int value : values) {
+            assertEquals(value, buf.readVarInt());
+        }
+
+        buf.clear().writeSignedVarInt(-1).writeSignedVarInt(63).writeSignedVarInt(-64).writeSignedVarInt(Integer.MIN_VALUE);
+        assertEquals(1 + 1 + 1 + 5, buf.available());
+        assertEquals(-1, buf.readSignedVarInt());
+        assertEquals(63, buf.readSignedVarInt());
+        assertEquals(-64, buf.readSignedVarInt());
+        assertEquals(Integer.MIN_VALUE, buf.readSignedVarInt());
+
+        buf.clear().writeVarLong(Long.MIN_VALUE).writeVarLong(5).writeSignedVarLong(-2).writeSignedVarLong(Long.MAX_VALUE);
+        assertEquals(10 + 1 + 1 + 10, buf.available());
+        assertEquals(Long.MIN_VALUE, buf.readVarLong());
+        assertEquals(5, buf.readVarLong());
+        assertEquals(-2, buf.readSignedVarLong());
+        assertEquals(Long.MAX_VALUE, buf.readSignedVarLong());
+        buf.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testTruncatedVarInt() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(0);
+        buf.writeByte((byte) 0x80).readVarInt();
+    }
+
+    @Test
+    public void testUtf8() {
+        String text = new StringBuilder("a").appendCodePoint(0xE9).appendCodePoint(0x20AC).appendCodePoint(0x1F600).toString();
+        for (ChannelBuf buf : ImmutableList.of(PooledChannelBufAllocator.DEFAULT.buffer(0), PooledChannelBufAllocator.DEFAULT.directBuffer(0))) {
+            buf.writeUtf8(text).writeUtf8(new StringBuilder("x").append((char) 0xD800).append('y')).writeString(text);
+            assertEquals(text.getBytes(Charsets.UTF_8).length, buf.getByte(0));
+            assertEquals(text, buf.readUtf8());
+            StringBuilder builder = new StringBuilder(">");
+            buf.readUtf8(builder);
+            assertEquals(">x?y", builder.toString());
+            assertEquals(text, buf.readString());
+            assertEquals(0, buf.available());
+
+            buf.clear().writeVarInt(2).writeByte((byte) 0xC3).writeByte((byte) 'a');
+            assertEquals((char) 0xFFFD + "a", buf.readUtf8());
+            buf.release();
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testTruncatedUtf8() {
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(0);
+        buf.writeVarInt(Integer.MAX_VALUE).writeByte((byte) 'a').readUtf8(new StringBuilder());
+    }
+
+    @Test
+    public void testCompactDataView() {
+        List<DataView> entries = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            DataContainer entry = new MemoryDataContainer();
+            entry.set(DataQuery.of("x"), i).set(DataQuery.of("z"), -i).set(DataQuery.of("color"), (long) i << 8);
+            entries.add(entry);
+        }
+        DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("markers"), entries)
+                .set(DataQuery.of("name"), "map")
+                .set(DataQuery.of("heights"), new int[] {64, 65, -3});
+
+        ChannelBuf buf = new PooledChannelBufAllocator(4, 1024).buffer(0);
+        buf.writeDataView(container);
+        int regular = buf.available();
+        buf.clear().writeCompactDataView(container);
+        assertTrue(buf.available() < regular / 2);
+
+        DataView read = buf.readCompactDataView();
+        assertEquals(0, buf.available());
+        assertEquals("map", read.getString(DataQuery.of("name")).get());
+        assertArrayEquals(new int[] {64, 65, -3}, (int[]) read.get(DataQuery.of("heights")).get());
+        List<DataView> markers = read.getViewList(DataQuery.of("markers")).get();
+        assertEquals(10, markers.size());
+        assertEquals(-9, (int) markers.get(9).getInt(DataQuery.of("z")).get());
+        assertEquals(9L << 8, (long) markers.get(9).getLong(DataQuery.of("color")).get());
+        buf.release();
+    }
+
+}
@@ -0,0 +1,324 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SimpleEventManagerTest {
+
+    private static final PluginManager manager = Mockito.mock(PluginManager.class);
+    private static final Object testPlugin = new Object();
+    private static final PluginContainer testPluginContainer = Mockito.mock(PluginContainer.class);
+
+    {
+        Mockito.when(testPluginContainer.getId()).thenReturn("TestPlugin");
+        Mockito.when(manager.fromInstance(testPlugin)).thenReturn(Optional.of(testPluginContainer));
+    }
+
+    @Test
+    public void testPostWithoutListeners() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+
+        assertTrue(eventManager.getListeners(TestEvent.class).isEmpty());
+        assertFalse(eventManager.post(new TestEvent()));
+    }
+
+    @Test
+    public void testAnnotatedListeners() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        TestListener listener = new TestListener();
+        eventManager.registerListeners(testPlugin, listener);
+
+        eventManager.post(new TestEvent());
+        assertEquals(Lists.newArrayList("first", "event"), listener.calls);
+
+        listener.calls.clear();
+        eventManager.post(new CancellableTestEvent());
+        assertEquals(Lists.newArrayList("first", "event", "cancel", "cancelled"), listener.calls);
+
+        listener.calls.clear();
+        eventManager.unregisterListeners(listener);
+        eventManager.post(new CancellableTestEvent());
+        assertTrue(listener.calls.isEmpty());
+    }
+
+    @Test
+    public void testBakedListenersAreInvalidated() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        final List<String> calls = Lists.newArrayList();
+
+        eventManager.registerListener(testPlugin, TestEvent.class, Order.LATE, event -> calls.add("late"));
+        assertEquals(1, eventManager.getListeners(CancellableTestEvent.class).size());
+
+        eventManager.registerListener(testPlugin, CancellableTestEvent.class, Order.EARLY, event -> calls.add("early"));
+        eventManager.registerListener(testPlugin, Event.class, Order.POST, true, event -> calls.add("beforeModifications"));
+        assertEquals(3, eventManager.getListeners(CancellableTestEvent.class).size());
+        assertEquals(2, eventManager.getListeners(TestEvent.class).size());
+
+        eventManager.post(new CancellableTestEvent());
+        assertEquals(Lists.newArrayList("beforeModifications", "early", "late"), calls);
+
+        calls.clear();
+        eventManager.post(new CancellableTestEvent(), false);
+        assertEquals(Lists.newArrayList("early", "late"), calls);
+
+        eventManager.unregisterPluginListeners(testPlugin);
+        assertTrue(eventManager.getListeners(CancellableTestEvent.class).isEmpty());
+    }
+
+    @Test
+    public void testSupplierIsOnlyCalledWithListeners() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        final AtomicInteger created = new AtomicInteger();
+
+        assertFalse(eventManager.hasListeners(CancellableTestEvent.class));
+        assertFalse(eventManager.post(CancellableTestEvent.class, () -> {
+            created.incrementAndGet();
+            return new CancellableTestEvent();
+        }));
+        assertEquals(0, created.get());
+
+        eventManager.registerListener(testPlugin, TestEvent.class, event -> ((Cancellable) event).setCancelled(true));
+        assertTrue(eventManager.hasListeners(CancellableTestEvent.class));
+        assertTrue(eventManager.post(CancellableTestEvent.class, () -> {
+            created.incrementAndGet();
+            return new CancellableTestEvent();
+        }));
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testAsyncListenersAreCalledAfterSyncListeners() throws Exception {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        final List<String> calls = Collections.synchronizedList(Lists.<String>newArrayList());
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread mainThread = Thread.currentThread();
+
+        eventManager.registerAsyncListener(testPlugin, TestEventInterface.class, Order.LATE, event -> {
+            calls.add("asyncLate");
+            latch.countDown();
+        });
+        eventManager.registerAsyncListener(testPlugin, TestEventInterface.class, Order.FIRST, event -> {
+            calls.add(Thread.currentThread() != mainThread ? "asyncFirst" : "wrongThread");
+        });
+        eventManager.registerListener(testPlugin, TestEvent.class, Order.POST, event -> calls.add("sync"));
+
+        eventManager.post(new TestEvent());
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(Lists.newArrayList("sync", "asyncFirst", "asyncLate"), calls);
+
+        eventManager.post(new TestEvent(), true);
+        assertEquals(1, eventManager.getAsyncStatistics().getSubmittedEvents());
+    }
+
+    @Test
+    public void testAsyncEventsAreDroppedWhenQueueIsFull() throws Exception {
+        SimpleEventManager eventManager = new SimpleEventManager(manager, 1, 1, 1, TimeUnit.MILLISECONDS);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(2);
+
+        eventManager.registerAsyncListener(testPlugin, TestEventInterface.class, Order.DEFAULT, event -> {
+            started.countDown();
+            release.await();
+            completed.countDown();
+        });
+
+        // The first event is dispatched, the second one queued and the third one dropped
+        eventManager.post(new TestEvent());
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        eventManager.post(new TestEvent());
+        eventManager.post(new TestEvent());
+
+        AsyncEventStatistics statistics = eventManager.getAsyncStatistics();
+        assertEquals(1, statistics.getQueueDepth());
+        assertEquals(1, statistics.getQueueCapacity());
+        assertEquals(2, statistics.getSubmittedEvents());
+        assertEquals(1, statistics.getDroppedEvents());
+
+        // Make sure the queued event waits longer than the delay
+        Thread.sleep(20);
+        release.countDown();
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertTrue(eventManager.getAsyncStatistics().getLateEvents() >= 1);
+    }
+
+    @Test
+    public void testAsyncListenersCantModifyTheEvent() throws Exception {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        final List<String> calls = Collections.synchronizedList(Lists.<String>newArrayList());
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        eventManager.registerAsyncListener(testPlugin, CancellableTestEventInterface.class, Order.DEFAULT, event -> {
+            try {
+                event.setCancelled(true);
+                calls.add("modified");
+            } catch (UnsupportedOperationException e) {
+                calls.add("rejected");
+            }
+            calls.add(event.isCancelled() ? "cancelled" : "notCancelled");
+            latch.countDown();
+        });
+
+        CancellableTestEvent event = new CancellableTestEvent();
+        assertFalse(eventManager.post(event));
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(Lists.newArrayList("rejected", "notCancelled"), calls);
+        assertFalse(event.isCancelled());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAsyncListenersRequireAnInterface() {
+        new SimpleEventManager(manager).registerAsyncListener(testPlugin, TestEvent.class, Order.DEFAULT, event -> { });
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        eventManager.registerAsyncListener(testPlugin, TestEventInterface.class, Order.DEFAULT, event -> { });
+        assertTrue(eventManager.shutdown(10, TimeUnit.SECONDS));
+
+        eventManager.post(new TestEvent());
+        assertEquals(1, eventManager.getAsyncStatistics().getDroppedEvents());
+    }
+
+    @Test
+    public void testTimings() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        eventManager.registerListener(testPlugin, TestEvent.class, event -> { });
+        eventManager.post(new TestEvent());
+        assertTrue(eventManager.getTimings().isEmpty());
+
+        eventManager.setTimingsEnabled(true);
+        eventManager.post(new TestEvent());
+        eventManager.post(new TestEvent());
+        eventManager.post(new CancellableTestEvent());
+
+        List<ListenerTimings> timings = eventManager.getTimings().get(testPluginContainer);
+        assertEquals(2, timings.size());
+        long invocations = 0;
+        for (ListenerTimings timing : timings) {
+            assertEquals(TestEvent.class, timing.getListener().getEventClass());
+            assertTrue(timing.getMaxNanos() <= timing.getTotalNanos());
+            invocations += timing.getEventClass() == TestEvent.class ? timing.getInvocations() : 0;
+        }
+        assertEquals(2, invocations);
+
+        eventManager.setTimingsEnabled(false);
+        eventManager.resetTimings();
+        eventManager.post(new TestEvent());
+        assertTrue(eventManager.getTimings().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidListenerIsRejected() {
+        new SimpleEventManager(manager).registerListeners(testPlugin, new NonPublicListener());
+    }
+
+    public interface TestEventInterface extends Event {
+
+    }
+
+    public interface CancellableTestEventInterface extends TestEventInterface, Cancellable {
+
+    }
+
+    public static class TestEvent implements TestEventInterface {
+
+    }
+
+    public static class CancellableTestEvent extends TestEvent implements CancellableTestEventInterface {
+
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    public static class TestListener {
+
+        final List<String> calls = Lists.newArrayList();
+
+        @Listener(order = Order.FIRST)
+        public void onFirst(TestEvent event) {
+            this.calls.add("first");
+        }
+
+        @Listener
+        public void onEvent(Event event) {
+            this.calls.add("event");
+        }
+
+        @Listener(order = Order.LATE)
+        public void onCancel(CancellableTestEvent event) {
+            this.calls.add("cancel");
+            event.setCancelled(true);
+        }
+
+        @Listener(order = Order.LAST)
+        public void onIgnoredCancelled(CancellableTestEvent event) {
+            this.calls.add("ignored");
+        }
+
+        @Listener(order = Order.POST, ignoreCancelled = false)
+        public void onCancelled(CancellableTestEvent event) {
+            this.calls.add("cancelled");
+        }
+    }
+
+    static class NonPublicListener {
+
+        @Listener
+        public void onEvent(TestEvent event) {
+        }
+    }
+
+}
@@ -25,6 +25,7 @@
 package org.spongepowered.api.service.permission;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 import org.spongepowered.api.util.Tristate;
@@ -107,4 +108,42 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testPermissionNodes() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("Generate.Rainbow", true);
+        testPermissions.put("generate.sunset", false);
+
+        PermissionNode rainbow = PermissionNode.of("generate.rainbow.DOUBLE");
+        assertEquals(3, rainbow.getSegmentCount());
+        assertEquals("generate.rainbow.double", rainbow.getPermission());
+        assertEquals(rainbow, PermissionNode.of("GENERATE.rainbow.double"));
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+        assertEquals(Tristate.TRUE, nodes.get(rainbow));
+        assertEquals(Tristate.FALSE, nodes.get(PermissionNode.of("generate.sunset.")));
+        assertEquals(Tristate.UNDEFINED, nodes.get(PermissionNode.of("generate")));
+
+        NodeTree newTree = nodes.withValue(PermissionNode.of("generate"), Tristate.TRUE);
+        assertEquals(Tristate.TRUE, newTree.get("generate.anything"));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate.anything"));
+        assertEquals(testPermissions.size(), nodes.asMap().size());
+        assertEquals(Boolean.TRUE, nodes.asMap().get("generate.rainbow"));
+    }
+
+    @Test
+    public void testStringLookupsDontInternSegments() {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("warp", true);
+        testPermissions.put("warp.spawn", false);
+        NodeTree nodes = NodeTree.of(testPermissions);
+
+        final int segments = PermissionNode.getInternedSegmentCount();
+        assertEquals(Tristate.TRUE, nodes.get("warp.unknownWarpName"));
+        assertEquals(Tristate.FALSE, nodes.get("Warp.Spawn.unknownWarpName"));
+        assertEquals(Tristate.UNDEFINED, nodes.get("unknownPermission.spawn"));
+        assertSame(nodes, nodes.withValue("warp.unknownWarpName", Tristate.UNDEFINED));
+        assertEquals(segments, PermissionNode.getInternedSegmentCount());
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Set;
+
+public class PermissionCacheTest {
+
+    private static final PermissionNode NODE = PermissionNode.of("test.permission");
+
+    private final PermissionService service = mock(PermissionService.class);
+    private final SubjectCollection collection = mock(SubjectCollection.class);
+    private Subject user;
+    private Subject group;
+    private Subject other;
+
+    @Before
+    public void setUp() {
+        when(this.collection.getIdentifier()).thenReturn("test");
+        when(this.service.getSubjects("test")).thenReturn(this.collection);
+        this.user = createSubject("user");
+        this.group = createSubject("group");
+        this.other = createSubject("other");
+    }
+
+    private Subject createSubject(String identifier) {
+        Subject subject = mock(Subject.class);
+        MemorySubjectData data = new MemorySubjectData(this.service);
+        when(subject.getIdentifier()).thenReturn(identifier);
+        when(subject.getContainingCollection()).thenReturn(this.collection);
+        when(subject.getSubjectData()).thenReturn(data);
+        when(subject.getTransientSubjectData()).thenReturn(data);
+        when(this.collection.get(identifier)).thenReturn(subject);
+        return subject;
+    }
+
+    @Test
+    public void testCachedValues() {
+        PermissionCache cache = new PermissionCache(100);
+        this.user.getSubjectData().addParent(SubjectData.GLOBAL_CONTEXT, this.group);
+        this.group.getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "test", Tristate.TRUE);
+
+        assertEquals(Tristate.TRUE, cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE));
+        assertEquals(Tristate.TRUE, cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE));
+        assertEquals(Tristate.UNDEFINED, cache.getPermissionValue(this.other, SubjectData.GLOBAL_CONTEXT, NODE));
+        assertEquals(1, cache.getStatistics().hitCount());
+        assertEquals(2, cache.getStatistics().missCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testInvalidation() {
+        PermissionCache cache = new PermissionCache(100);
+        this.user.getSubjectData().addParent(SubjectData.GLOBAL_CONTEXT, this.group);
+        assertEquals(Tristate.UNDEFINED, cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE));
+        assertEquals(Tristate.UNDEFINED, cache.getPermissionValue(this.other, SubjectData.GLOBAL_CONTEXT, NODE));
+
+        // Changing a parent only invalidates the values of its children
+        this.group.getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "test.permission", Tristate.FALSE);
+        assertEquals(1, cache.size());
+        assertEquals(Tristate.FALSE, cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE));
+
+        this.user.getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "test", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE));
+        this.group.getSubjectData().clearPermissions();
+        this.user.getSubjectData().clearParents();
+        assertEquals(Tristate.TRUE, cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE));
+    }
+
+    @Test
+    public void testEviction() {
+        PermissionCache cache = new PermissionCache(1);
+        cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE);
+        cache.getPermissionValue(this.other, SubjectData.GLOBAL_CONTEXT, NODE);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getStatistics().evictionCount());
+    }
+
+    @Test
+    public void testSubjectsAreReleased() {
+        PermissionCache cache = new PermissionCache(1);
+        this.user.getSubjectData().addParent(SubjectData.GLOBAL_CONTEXT, this.group);
+        cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE);
+        assertEquals(1, cache.getSubjectCount());
+        assertEquals(2, cache.getDependencyCount());
+
+        // Evicting the only value of the user releases it and its parent
+        cache.getPermissionValue(this.other, SubjectData.GLOBAL_CONTEXT, NODE);
+        assertEquals(1, cache.getSubjectCount());
+        assertEquals(1, cache.getDependencyCount());
+
+        this.other.getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "test", Tristate.TRUE);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getSubjectCount());
+        assertEquals(0, cache.getDependencyCount());
+    }
+
+    @Test
+    public void testMutableContexts() {
+        PermissionCache cache = new PermissionCache(100);
+        Set<Context> contexts = Sets.newHashSet();
+        cache.getPermissionValue(this.user, contexts, NODE);
+        contexts.add(new Context("world", "test"));
+        cache.getPermissionValue(this.user, contexts, NODE);
+        cache.getPermissionValue(this.user, SubjectData.GLOBAL_CONTEXT, NODE);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStatistics().hitCount());
+    }
+
+}
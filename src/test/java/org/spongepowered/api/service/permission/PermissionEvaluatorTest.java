@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.List;
+
+public class PermissionEvaluatorTest {
+
+    private final PermissionService service = mock(PermissionService.class);
+    private final SubjectCollection collection = mock(SubjectCollection.class);
+    private final List<Subject> users = ImmutableList.of(createSubject("user1"), createSubject("user2"), createSubject("user3"));
+    private final Subject group = createSubject("group");
+    private final Subject admin = createSubject("admin");
+
+    @Before
+    public void setUp() {
+        when(this.collection.getIdentifier()).thenReturn("test");
+        when(this.service.getSubjects("test")).thenReturn(this.collection);
+
+        this.admin.getSubjectData().addParent(SubjectData.GLOBAL_CONTEXT, this.group);
+        this.group.getSubjectData().addParent(SubjectData.GLOBAL_CONTEXT, this.admin);
+        this.admin.getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "chat", Tristate.TRUE);
+        this.group.getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "chat.color", Tristate.FALSE);
+
+        this.users.get(0).getSubjectData().addParent(SubjectData.GLOBAL_CONTEXT, this.group);
+        this.users.get(1).getSubjectData().addParent(SubjectData.GLOBAL_CONTEXT, this.admin);
+        this.users.get(1).getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "chat.color.red", Tristate.TRUE);
+    }
+
+    private Subject createSubject(String identifier) {
+        Subject subject = mock(Subject.class);
+        MemorySubjectData data = new MemorySubjectData(this.service);
+        when(subject.getIdentifier()).thenReturn(identifier);
+        when(subject.getContainingCollection()).thenReturn(this.collection);
+        when(subject.getSubjectData()).thenReturn(data);
+        when(subject.getTransientSubjectData()).thenReturn(data);
+        when(this.collection.get(identifier)).thenReturn(subject);
+        return subject;
+    }
+
+    @Test
+    public void testManySubjects() {
+        for (String permission : ImmutableList.of("chat", "chat.color", "chat.color.red", "other")) {
+            PermissionNode node = PermissionNode.of(permission);
+            PermissionValues values = PermissionEvaluator.resolve(this.users, SubjectData.GLOBAL_CONTEXT, node);
+            assertEquals(this.users.size(), values.size());
+            for (int i = 0; i < this.users.size(); i++) {
+                assertEquals(PermissionEvaluator.resolve(this.users.get(i), SubjectData.GLOBAL_CONTEXT, node), values.get(i));
+            }
+        }
+
+        PermissionValues values = PermissionEvaluator.resolve(this.users, SubjectData.GLOBAL_CONTEXT, PermissionNode.of("chat.color"));
+        assertEquals(Tristate.FALSE, values.get(0));
+        assertEquals(Tristate.TRUE, values.get(1));
+        assertEquals(Tristate.UNDEFINED, values.get(2));
+        assertFalse(values.isGranted(0));
+        assertTrue(values.isGranted(1));
+        assertEquals(1, values.getGrantedCount());
+        assertEquals(1, values.getGranted().nextSetBit(0));
+    }
+
+    @Test
+    public void testManyPermissions() {
+        List<PermissionNode> nodes = ImmutableList.of(PermissionNode.of("chat"), PermissionNode.of("chat.color"),
+                PermissionNode.of("chat.color.red"), PermissionNode.of("other"));
+        for (Subject user : this.users) {
+            PermissionValues values = PermissionEvaluator.resolve(user, SubjectData.GLOBAL_CONTEXT, nodes);
+            for (int i = 0; i < nodes.size(); i++) {
+                assertEquals(PermissionEvaluator.resolve(user, SubjectData.GLOBAL_CONTEXT, nodes.get(i)), values.get(i));
+            }
+        }
+
+        PermissionValues values = PermissionEvaluator.resolve(this.users.get(0), SubjectData.GLOBAL_CONTEXT, nodes);
+        assertEquals(Tristate.TRUE, values.get(0));
+        assertEquals(Tristate.FALSE, values.get(1));
+        assertEquals(Tristate.FALSE, values.get(2));
+        assertEquals(Tristate.UNDEFINED, values.get(3));
+    }
+
+}
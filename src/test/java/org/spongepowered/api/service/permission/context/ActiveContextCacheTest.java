@@ -0,0 +1,123 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.entity.TargetEntityEvent;
+import org.spongepowered.api.service.permission.Subject;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ActiveContextCacheTest {
+
+    @Test
+    public void testCachedContexts() {
+        ActiveContextCache cache = new ActiveContextCache();
+        AtomicInteger world = new AtomicInteger();
+        AtomicInteger calculations = new AtomicInteger();
+        cache.registerCalculator(new TestCalculator(Context.WORLD_KEY, world, calculations, true));
+        Subject subject = mock(Subject.class);
+
+        ContextSet contexts = cache.getActiveContexts(subject);
+        assertEquals(ImmutableSet.of(new Context(Context.WORLD_KEY, "0")), contexts);
+        world.set(1);
+        assertSame(contexts, cache.getActiveContexts(subject));
+        assertEquals(1, calculations.get());
+
+        cache.invalidate(mock(Event.class));
+        assertSame(contexts, cache.getActiveContexts(subject));
+
+        TargetEntityEvent event = mock(TargetEntityEvent.class);
+        when(event.getTargetEntity()).thenReturn(mock(Entity.class, withSettings().extraInterfaces(Subject.class)));
+        cache.invalidate(event);
+        assertSame(contexts, cache.getActiveContexts(subject));
+        cache.invalidate(subject);
+        assertEquals(ImmutableSet.of(new Context(Context.WORLD_KEY, "1")), cache.getActiveContexts(subject));
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    public void testUncacheableContexts() {
+        ActiveContextCache cache = new ActiveContextCache();
+        AtomicInteger world = new AtomicInteger();
+        AtomicInteger calculations = new AtomicInteger();
+        cache.registerCalculator(new TestCalculator(Context.WORLD_KEY, world, calculations, true));
+        cache.registerCalculator(new TestCalculator(Context.LOCAL_PORT_KEY, world, calculations, false));
+        Subject subject = mock(Subject.class);
+
+        assertSame(cache.getActiveContexts(subject), cache.getActiveContexts(subject));
+        assertEquals(3, calculations.get());
+        world.set(1);
+        assertEquals(ImmutableSet.of(new Context(Context.WORLD_KEY, "0"), new Context(Context.LOCAL_PORT_KEY, "1")),
+                cache.getActiveContexts(subject));
+    }
+
+    private static final class TestCalculator implements ContextCalculator {
+
+        private final String type;
+        private final AtomicInteger value;
+        private final AtomicInteger calculations;
+        private final boolean cacheable;
+
+        TestCalculator(String type, AtomicInteger value, AtomicInteger calculations, boolean cacheable) {
+            this.type = type;
+            this.value = value;
+            this.calculations = calculations;
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public void accumulateContexts(Subject subject, Set<Context> accumulator) {
+            this.calculations.incrementAndGet();
+            accumulator.add(new Context(this.type, String.valueOf(this.value.get())));
+        }
+
+        @Override
+        public boolean matches(Context context, Subject subject) {
+            return context.getType().equals(this.type) && context.getName().equals(String.valueOf(this.value.get()));
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return this.cacheable;
+        }
+
+        @Override
+        public Set<Class<? extends Event>> getInvalidationEvents() {
+            return ImmutableSet.<Class<? extends Event>>of(TargetEntityEvent.class);
+        }
+    }
+
+}
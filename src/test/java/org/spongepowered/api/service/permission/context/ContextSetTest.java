@@ -0,0 +1,74 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+public class ContextSetTest {
+
+    private static final Context WORLD = new Context(Context.WORLD_KEY, "world");
+    private static final Context NETHER = new Context(Context.WORLD_KEY, "nether");
+
+    @Test
+    public void testContext() {
+        assertEquals(Maps.immutableEntry(Context.WORLD_KEY, "world"), WORLD);
+        assertEquals(WORLD, Maps.immutableEntry(Context.WORLD_KEY, "world"));
+        assertEquals(Maps.immutableEntry(Context.WORLD_KEY, "world").hashCode(), WORLD.hashCode());
+        assertEquals(WORLD, new Context(Context.WORLD_KEY, "world"));
+        assertFalse(WORLD.equals(NETHER));
+        assertEquals("world=world", WORLD.toString());
+    }
+
+    @Test
+    public void testInterning() {
+        ContextSet set = ContextSet.of(WORLD, new Context(Context.LOCAL_PORT_KEY, "25565"));
+        assertSame(set, ContextSet.of(ImmutableSet.of(new Context(Context.LOCAL_PORT_KEY, "25565"), WORLD)));
+        assertSame(set, ContextSet.of(set));
+        assertSame(ContextSet.empty(), ContextSet.of(Collections.<Context>emptySet()));
+        assertFalse(set.equals(ContextSet.of(NETHER)));
+    }
+
+    @Test
+    public void testSetContract() {
+        Set<Context> set = ImmutableSet.of(WORLD, NETHER);
+        ContextSet contextSet = ContextSet.of(set);
+        assertEquals(set, contextSet);
+        assertEquals(contextSet, set);
+        assertEquals(set.hashCode(), contextSet.hashCode());
+        assertTrue(contextSet.contains(NETHER));
+        assertEquals(2, contextSet.size());
+    }
+
+}
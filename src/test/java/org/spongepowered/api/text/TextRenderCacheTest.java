@@ -0,0 +1,135 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.scoreboard.Score;
+import org.spongepowered.api.util.TextMessageException;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the cached renders of {@link Text}.
+ */
+public class TextRenderCacheTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    private static final class CountingRepresentation implements TextRepresentation {
+
+        final AtomicInteger serializations = new AtomicInteger();
+
+        @Override
+        public String to(Text text) {
+            return to(text, Locale.ROOT);
+        }
+
+        @Override
+        public String to(Text text, Locale locale) {
+            this.serializations.incrementAndGet();
+            return Texts.toPlain(text, locale) + "@" + locale;
+        }
+
+        @Override
+        public Text from(String input) throws TextMessageException {
+            return Texts.of(input);
+        }
+
+        @Override
+        public Text fromUnchecked(String input) {
+            return Texts.of(input);
+        }
+    }
+
+    @Test
+    public void testFlattened() {
+        Text text = Texts.builder("a").append(Texts.builder("b").append(Texts.of("c")).build(), Texts.of("d")).build();
+        ImmutableList.Builder<String> contents = ImmutableList.builder();
+        for (Text child : text.withChildren()) {
+            contents.add(((Text.Literal) child).getContent());
+        }
+        assertEquals(ImmutableList.of("a", "b", "c", "d"), contents.build());
+        assertSame(text.getFlattened(), text.getFlattened());
+        assertEquals("abcd", Texts.toPlain(text));
+        assertSame(Texts.toPlain(text), Texts.toPlain(text));
+    }
+
+    @Test
+    public void testRepresentationCache() {
+        CountingRepresentation counting = new CountingRepresentation();
+        TextRepresentation representation = CachingTextRepresentation.of("counting", counting);
+        Text text = Texts.of("Hello ", Texts.of("world"));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Hello world@", representation.to(text));
+        }
+        assertEquals(1, counting.serializations.get());
+
+        assertEquals("Hello world@en", representation.to(text, Locale.ENGLISH));
+        assertEquals("Hello world@en", CachingTextRepresentation.of("counting", counting).to(text, Locale.ENGLISH));
+        assertEquals(2, counting.serializations.get());
+    }
+
+    @Test
+    public void testRepresentationCacheIsKeyedByKind() {
+        CountingRepresentation counting = new CountingRepresentation();
+        CountingRepresentation other = new CountingRepresentation();
+        Text text = Texts.of("Hello");
+
+        assertEquals("Hello@", CachingTextRepresentation.of("counting", counting).to(text));
+        assertEquals("Hello@", CachingTextRepresentation.of("counting", other).to(text));
+        assertEquals(1, counting.serializations.get());
+        assertEquals(0, other.serializations.get());
+
+        for (Locale locale : Locale.getAvailableLocales()) {
+            CachingTextRepresentation.of("other", other).to(text, locale);
+        }
+        assertEquals("Hello@", CachingTextRepresentation.of("counting", other).to(text));
+    }
+
+    @Test
+    public void testScoreIsNotCached() {
+        Score score = mock(Score.class);
+        when(score.getScore()).thenReturn(1, 2);
+        Text text = Texts.of("Score: ", new Text.Score(score));
+        assertFalse(text.isRenderCacheable());
+        assertEquals("Score: 1", Texts.toPlain(text));
+        assertEquals("Score: 2", Texts.toPlain(text));
+
+        assertTrue(Texts.of("Score: ", Texts.builder(score).override("3").build()).isRenderCacheable());
+    }
+
+}
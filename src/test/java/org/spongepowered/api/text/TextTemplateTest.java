@@ -0,0 +1,111 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.lang.ref.WeakReference;
+
+public class TextTemplateTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    private final Text prefix = Texts.of("[", Texts.of("Server"), "] ");
+    private final Text template = Texts.builder()
+            .append(this.prefix)
+            .append(Texts.placeholder("player"))
+            .append(Texts.of(" has "), Texts.placeholder("score"), Texts.of(" points, "))
+            .append(Texts.builder("well done ").append(Texts.placeholder("player")).build())
+            .build();
+
+    @Test
+    public void testKeys() {
+        TextTemplate compiled = TextTemplate.of(this.template);
+        assertEquals(ImmutableList.of("player", "score"), compiled.getKeys());
+        assertSame(compiled, TextTemplate.of(this.template));
+        assertSame(this.template, compiled.getTemplate());
+    }
+
+    @Test
+    public void testApply() {
+        TextTemplate compiled = TextTemplate.of(this.template);
+        Text formatted = compiled.apply(ImmutableMap.of("player", "Notch", "score", 42));
+
+        assertEquals(Texts.builder()
+                .append(this.prefix)
+                .append(Texts.of(Texts.placeholder("player").getFormat(), "Notch"))
+                .append(Texts.of(" has "), Texts.of(Texts.placeholder("score").getFormat(), 42), Texts.of(" points, "))
+                .append(Texts.builder("well done ").append(Texts.of(Texts.placeholder("player").getFormat(), "Notch")).build())
+                .build(), formatted);
+        // Children without placeholders are reused
+        assertSame(this.prefix, formatted.getChildren().get(0));
+        assertEquals("[Server] Notch has 42 points, well done Notch", Texts.toPlain(formatted));
+    }
+
+    @Test
+    public void testUnreplaced() {
+        TextTemplate compiled = TextTemplate.of(this.template);
+        assertSame(this.template, compiled.apply(ImmutableMap.of("other", "value")));
+        assertSame(this.template, compiled.apply("positional"));
+
+        Text partial = compiled.apply(ImmutableMap.of("score", 1));
+        assertSame(this.template.getChildren().get(1), partial.getChildren().get(1));
+    }
+
+    @Test
+    public void testPositional() {
+        Text positional = Texts.of(Texts.placeholder("1"), " and ", Texts.placeholder("0"));
+        assertEquals(Texts.format(positional, ImmutableMap.of("0", "a", "1", "b")), TextTemplate.of(positional).apply("a", "b"));
+        assertEquals("b and a", Texts.toPlain(TextTemplate.of(positional).apply("a", "b")));
+    }
+
+    @Test
+    public void testPositionalWithLeadingZeros() {
+        Text positional = Texts.of(Texts.placeholder("0"), " ", Texts.placeholder("01"), " ", Texts.placeholder("007"));
+        assertEquals("a  ", Texts.toPlain(TextTemplate.of(positional).apply("a", "b", "c", "d", "e", "f", "g", "h")));
+    }
+
+    @Test
+    public void testTemplateIsReleased() throws InterruptedException {
+        Text text = Texts.of(Texts.placeholder("key"));
+        TextTemplate.of(text);
+        WeakReference<Text> reference = new WeakReference<Text>(text);
+        text = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for the visitor form of {@link BlockRay}.
+ */
+public class BlockRayTest {
+
+    private static final Vector3i MIN = new Vector3i(-20, 0, -20);
+    private static final Vector3i MAX = new Vector3i(20, 15, 20);
+
+    private static Extent createExtent() {
+        Extent extent = mock(Extent.class);
+        when(extent.getBlockMin()).thenReturn(MIN);
+        when(extent.getBlockMax()).thenReturn(MAX);
+        when(extent.containsBlock(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            Vector3i position = new Vector3i((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+            return position.max(MIN).min(MAX).equals(position);
+        });
+        return extent;
+    }
+
+    private static List<Vector3i> trace(BlockRay.BlockRayBuilder<Extent> builder) {
+        List<Vector3i> blocks = Lists.newArrayList();
+        builder.trace((x, y, z, face, t) -> blocks.add(new Vector3i(x, y, z)));
+        return blocks;
+    }
+
+    @Test
+    public void testSameBlocksAsIterator() {
+        Extent extent = createExtent();
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            Vector3d start = new Vector3d(random.nextDouble() * 40 - 20, random.nextDouble() * 15, random.nextDouble() * 40 - 20);
+            Vector3d direction = new Vector3d(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+
+            List<Vector3i> expected = Lists.newArrayList();
+            for (BlockRayHit<Extent> hit : BlockRay.from(extent, start).direction(direction)) {
+                expected.add(hit.getBlockPosition());
+            }
+            assertEquals(expected, trace(BlockRay.from(extent, start).direction(direction)));
+        }
+    }
+
+    @Test
+    public void testFacesAndDistance() {
+        Extent extent = createExtent();
+        List<String> hits = Lists.newArrayList();
+        BlockRay.trace(extent, 0.5, 1.5, 0.5, 1, 1, 0, 3, (x, y, z, face, t) -> hits.add(x + "," + y + "," + z + ":" + face + "@" + t));
+        double diagonal = Math.sqrt(0.5);
+        assertEquals(Lists.newArrayList(
+                "1,2,0:" + (VoxelVisitor.WEST | VoxelVisitor.DOWN) + "@" + diagonal,
+                "2,3,0:" + (VoxelVisitor.WEST | VoxelVisitor.DOWN) + "@" + (diagonal + Math.sqrt(2)),
+                "3,4,0:" + (VoxelVisitor.WEST | VoxelVisitor.DOWN) + "@" + (diagonal + 2 * Math.sqrt(2))), hits);
+    }
+
+    @Test
+    public void testAxisAlignedRay() {
+        List<Vector3i> blocks = Lists.newArrayList();
+        int count = BlockRay.trace(createExtent(), 0.5, 3.5, 17.5, 0, 0, 1, -1, (x, y, z, face, t) -> {
+            assertEquals(VoxelVisitor.NORTH, face);
+            return blocks.add(new Vector3i(x, y, z));
+        });
+        assertEquals(3, count);
+        assertEquals(Lists.newArrayList(new Vector3i(0, 3, 18), new Vector3i(0, 3, 19), new Vector3i(0, 3, 20)), blocks);
+    }
+
+    @Test
+    public void testEarlyExitAndLimits() {
+        Extent extent = createExtent();
+        int[] visited = new int[1];
+        assertEquals(5, BlockRay.trace(extent, 0.5, 0.5, 0.5, 1, 0, 0, -1, (x, y, z, face, t) -> ++visited[0] < 5));
+        assertEquals(4, trace(BlockRay.from(extent, new Vector3d(0.5, 0.5, 0.5)).direction(Vector3d.UNIT_X).blockLimit(4)).size());
+        assertEquals(Lists.newArrayList(new Vector3i(1, 0, 0), new Vector3i(2, 0, 0)),
+                trace(BlockRay.from(extent, new Vector3d(0.5, 0.5, 0.5)).to(new Vector3d(3.5, 0.5, 0.5))));
+    }
+
+    @Test
+    public void testSkipOutsideOfExtent() {
+        Extent extent = createExtent();
+        List<Vector3i> blocks = Lists.newArrayList();
+        // Starts far above the extent and enters it through the top
+        BlockRay.trace(extent, 0.5, 500.5, 0.5, 0, -1, 0, -1, (x, y, z, face, t) -> {
+            if (blocks.isEmpty()) {
+                assertEquals(VoxelVisitor.UP, face);
+                assertEquals(484.5, t, 1e-9);
+            }
+            return blocks.add(new Vector3i(x, y, z));
+        });
+        assertEquals(16, blocks.size());
+        assertEquals(new Vector3i(0, 15, 0), blocks.get(0));
+        assertEquals(new Vector3i(0, 0, 0), blocks.get(15));
+
+        // Misses the extent
+        assertEquals(0, BlockRay.trace(extent, 0.5, 500.5, 0.5, 1, 0, 0, -1, (x, y, z, face, t) -> true));
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.text.Texts;
+import org.spongepowered.api.util.command.args.ArgumentParseException;
+import org.spongepowered.api.util.command.args.CommandArgs;
+import org.spongepowered.api.util.command.args.CommandContext;
+import org.spongepowered.api.util.command.args.CommandElement;
+import org.spongepowered.api.util.command.dispatcher.SimpleDispatcher;
+import org.spongepowered.api.util.command.spec.CommandSpec;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for asynchronous suggestions and the {@link SuggestionScheduler}.
+ */
+public class SuggestionSchedulerTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger completions = new AtomicInteger();
+
+    @After
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    private SimpleDispatcher createDispatcher() {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        dispatcher.register(CommandSpec.builder()
+                .arguments(new CommandElement(Texts.of("value")) {
+                    @Override
+                    protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+                        return args.next();
+                    }
+
+                    @Override
+                    public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
+                        SuggestionSchedulerTest.this.completions.incrementAndGet();
+                        return ImmutableList.of(args.nextIfPresent().orElse("") + "!");
+                    }
+                })
+                .executor((src, args) -> CommandResult.empty())
+                .build(), "cmd");
+        return dispatcher;
+    }
+
+    @Test
+    public void testAsyncSuggestions() throws Exception {
+        SimpleDispatcher dispatcher = createDispatcher();
+        CommandSource source = Mockito.mock(CommandSource.class);
+
+        CompletableFuture<List<String>> aliases = dispatcher.getSuggestionsAsync(source, "c", this.executor);
+        assertTrue(aliases.isDone());
+        assertEquals(ImmutableList.of("cmd"), aliases.get());
+        assertEquals(ImmutableList.of("ab!"), dispatcher.getSuggestionsAsync(source, "cmd ab", MoreExecutors.sameThreadExecutor()).get());
+        assertEquals(ImmutableList.of("ab!"), dispatcher.getSuggestionsAsync(source, "cmd ab", this.executor).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDebounce() throws Exception {
+        SimpleDispatcher dispatcher = createDispatcher();
+        SuggestionScheduler scheduler = new SuggestionScheduler(this.executor, 100, TimeUnit.MILLISECONDS);
+        CommandSource source = Mockito.mock(CommandSource.class);
+        CommandSource other = Mockito.mock(CommandSource.class);
+
+        CompletableFuture<List<String>> first = scheduler.getSuggestions(source, dispatcher, "cmd a");
+        CompletableFuture<List<String>> otherFirst = scheduler.getSuggestions(other, dispatcher, "cmd x");
+        CompletableFuture<List<String>> second = scheduler.getSuggestions(source, dispatcher, "cmd ab");
+        assertTrue(first.isCancelled());
+        assertFalse(otherFirst.isCancelled());
+
+        assertEquals(ImmutableList.of("ab!"), second.get(1, TimeUnit.SECONDS));
+        assertEquals(ImmutableList.of("x!"), otherFirst.get(1, TimeUnit.SECONDS));
+        assertEquals(2, this.completions.get());
+    }
+
+}
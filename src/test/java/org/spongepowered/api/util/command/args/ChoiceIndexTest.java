@@ -0,0 +1,78 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.args;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ChoiceIndex}.
+ */
+public class ChoiceIndexTest {
+
+    @Test
+    public void testPrefixLookup() {
+        ChoiceIndex index = new ChoiceIndex(ImmutableList.of("Notch", "jeb_", "Dinnerbone", "notAPlayer", "Grumm"));
+
+        assertEquals(ImmutableList.of("Dinnerbone", "Grumm", "jeb_", "notAPlayer", "Notch"), ImmutableList.copyOf(index.getChoices()));
+        assertEquals(ImmutableList.of("notAPlayer", "Notch"), ImmutableList.copyOf(index.getChoicesStartingWith("NO")));
+        assertEquals(ImmutableList.of("Notch"), ImmutableList.copyOf(index.getChoicesStartingWith("notc")));
+        assertEquals(ImmutableList.of(), ImmutableList.copyOf(index.getChoicesStartingWith("x")));
+        assertEquals(5, index.getChoicesStartingWith("").size());
+        assertEquals("jeb_", index.getExact("JEB_"));
+        assertNull(index.getExact("jeb"));
+    }
+
+    @Test
+    public void testUpdate() {
+        ChoiceIndex index = new ChoiceIndex(ImmutableList.of("a", "b", "c"));
+        assertFalse(index.add("a"));
+        assertTrue(index.add("A"));
+        assertEquals(3, index.size());
+
+        index.update(ImmutableList.of("A", "c", "d"));
+        assertEquals(ImmutableList.of("A", "c", "d"), ImmutableList.copyOf(index.getChoices()));
+        assertEquals(3, index.size());
+
+        assertFalse(index.remove("a"));
+        assertTrue(index.remove("A"));
+        assertEquals(ImmutableList.of("c", "d"), ImmutableList.copyOf(index.getChoices()));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testUpdateWithCaseDuplicates() {
+        ChoiceIndex index = new ChoiceIndex(ImmutableList.of("a", "b", "c"));
+        index.update(ImmutableList.of("B", "b", "c"));
+        assertEquals(ImmutableList.of("b", "c"), ImmutableList.copyOf(index.getChoices()));
+        assertEquals(2, index.size());
+    }
+
+}
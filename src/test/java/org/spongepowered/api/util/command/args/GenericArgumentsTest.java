@@ -35,6 +35,7 @@
 import static org.spongepowered.api.util.command.args.GenericArguments.none;
 import static org.spongepowered.api.util.command.args.GenericArguments.optional;
 import static org.spongepowered.api.util.command.args.GenericArguments.optionalWeak;
+import static org.spongepowered.api.util.command.args.GenericArguments.player;
 import static org.spongepowered.api.util.command.args.GenericArguments.remainingJoinedStrings;
 import static org.spongepowered.api.util.command.args.GenericArguments.repeated;
 import static org.spongepowered.api.util.command.args.GenericArguments.seq;
@@ -42,19 +43,26 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.Texts;
 import org.spongepowered.api.util.command.CommandException;
 import org.spongepowered.api.util.command.CommandResult;
 import org.spongepowered.api.util.command.CommandSource;
+import org.spongepowered.api.util.command.args.parsing.SingleArg;
 import org.spongepowered.api.util.command.spec.CommandExecutor;
 import org.spongepowered.api.util.command.spec.CommandSpec;
 import org.spongepowered.api.util.test.TestHooks;
 
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Tests for all argument types contained in GenericArguments.
@@ -200,6 +208,54 @@ public void testEnumValue() throws ArgumentParseException {
         parseForInput("notanel", enumEl);
     }
 
+    @Test(expected = PatternSyntaxException.class)
+    public void testEnumValueWithInvalidPattern() throws ArgumentParseException {
+        parseForInput("o[", enumValue(untr("val"), TestEnum.class));
+    }
+
+    @Test
+    public void testEnumValueCompletion() {
+        CommandElement enumEl = enumValue(untr("val"), TestEnum.class);
+        assertEquals(ImmutableList.of("TWO"), enumEl.complete(MOCK_SOURCE, new CommandArgs("t", ImmutableList.of(new SingleArg("t", 0, 1))), null));
+        assertEquals(ImmutableList.of("ONE", "RED", "TWO"), enumEl.complete(MOCK_SOURCE, new CommandArgs("", ImmutableList.<SingleArg>of()), null));
+        assertEquals(ImmutableList.of("ONE", "TWO"),
+                enumEl.complete(MOCK_SOURCE, new CommandArgs("[ot]", ImmutableList.of(new SingleArg("[ot]", 0, 4))), null));
+    }
+
+    private static Player mockPlayer(String name) {
+        Player player = Mockito.mock(Player.class);
+        Mockito.when(player.getName()).thenReturn(name);
+        return player;
+    }
+
+    @Test
+    public void testPlayerIndexFollowsOnlinePlayers() throws ArgumentParseException {
+        final List<Player> online = Lists.newArrayList(mockPlayer("Alice"));
+        Server server = Mockito.mock(Server.class);
+        Mockito.when(server.getOnlinePlayers()).thenReturn(online);
+        Mockito.when(server.getPlayer(Mockito.anyString())).then(invocation -> online.stream()
+                .filter(player -> player.getName().equalsIgnoreCase((String) invocation.getArguments()[0]))
+                .findFirst());
+        Game game = Mockito.mock(Game.class);
+        Mockito.when(game.getServer()).thenReturn(server);
+
+        CommandElement playerEl = player(untr("val"), game);
+        assertEquals(online.get(0), parseForInput("alice", playerEl).getOne("val").get());
+
+        // As many players left as joined, so the index is only updated when parsing fails
+        Player bob = mockPlayer("Bob");
+        online.set(0, bob);
+        assertEquals(bob, parseForInput("bob", playerEl).getOne("val").get());
+        assertEquals(ImmutableList.of("Bob"), playerEl.complete(MOCK_SOURCE, new CommandArgs("", ImmutableList.<SingleArg>of()), null));
+
+        online.add(mockPlayer("Carol"));
+        assertEquals(ImmutableList.of("Carol"),
+                playerEl.complete(MOCK_SOURCE, new CommandArgs("c", ImmutableList.of(new SingleArg("c", 0, 1))), null));
+
+        this.expected.expect(ArgumentParseException.class);
+        parseForInput("alice", playerEl);
+    }
+
     @Test
     public void testRemainingJoinedStrings() throws ArgumentParseException {
         CommandElement remainingJoined = remainingJoinedStrings(untr("val"));
@@ -97,4 +97,24 @@ public void testEscape() throws ArgumentParseException {
                 parseFrom("this demonstrates\\ escapes \\\"of 'various\\' characters\'"));
     }
 
+    @Test
+    public void testOffsets() throws ArgumentParseException {
+        String input = "a 'quoted string' es\\caped ''";
+        ArgumentTokens tokens = new QuotedStringTokenizer(true, false).tokenizeOffsets(input, false);
+        assertEquals(ImmutableList.of("a", "quoted string", "escaped", ""), tokens.getValues());
+        assertEquals(2, tokens.getStartIdx(1));
+        assertEquals(16, tokens.getEndIdx(1));
+
+        List<SingleArg> args = new QuotedStringTokenizer(true, false).tokenize(input, false);
+        assertEquals(args.size(), tokens.size());
+        for (int i = 0; i < args.size(); i++) {
+            assertEquals(args.get(i).getStartIdx(), tokens.getStartIdx(i));
+            assertEquals(args.get(i).getEndIdx(), tokens.getEndIdx(i));
+        }
+
+        tokens.insert(1, "inserted", 2, 2);
+        tokens.remove(2, 4);
+        assertEquals(ImmutableList.of("a", "inserted", ""), tokens.getValues());
+    }
+
 }
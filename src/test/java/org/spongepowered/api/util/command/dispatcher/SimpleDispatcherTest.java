@@ -0,0 +1,103 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.dispatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.util.command.CommandCallable;
+import org.spongepowered.api.util.command.CommandException;
+import org.spongepowered.api.util.command.CommandMapping;
+import org.spongepowered.api.util.command.CommandSource;
+
+import java.util.Optional;
+
+/**
+ * Tests for {@link SimpleDispatcher}.
+ */
+public class SimpleDispatcherTest {
+
+    private static CommandCallable callable(boolean permitted) {
+        CommandCallable callable = mock(CommandCallable.class);
+        when(callable.testPermission(any(CommandSource.class))).thenReturn(permitted);
+        return callable;
+    }
+
+    @Test
+    public void testLookupIsCaseInsensitive() {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        CommandMapping mapping = dispatcher.register(callable(true), "Teleport", "tp").get();
+
+        assertEquals(Optional.of(mapping), dispatcher.get("TELEPORT"));
+        assertEquals(Optional.of(mapping), dispatcher.get("tp"));
+        assertTrue(dispatcher.containsAlias("TP"));
+        assertFalse(dispatcher.containsAlias("t"));
+        assertEquals(ImmutableSet.of(mapping), dispatcher.getAll("Tp"));
+        assertEquals(2, dispatcher.size());
+    }
+
+    @Test
+    public void testSuggestionsUsePrefix() throws CommandException {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        dispatcher.register(callable(true), "time");
+        dispatcher.register(callable(true), "teleport", "tp");
+        dispatcher.register(callable(false), "tell");
+        dispatcher.register(callable(true), "give");
+        CommandSource source = mock(CommandSource.class);
+
+        assertEquals(ImmutableList.of("teleport", "time", "tp"), dispatcher.getSuggestions(source, "T"));
+        assertEquals(ImmutableList.of("teleport"), dispatcher.getSuggestions(source, "te"));
+        assertEquals(ImmutableList.of(), dispatcher.getSuggestions(source, "x"));
+        assertEquals(ImmutableList.of("give", "teleport", "time", "tp"), dispatcher.getSuggestions(source, ""));
+    }
+
+    @Test
+    public void testRemove() {
+        SimpleDispatcher dispatcher = new SimpleDispatcher();
+        CommandMapping teleport = dispatcher.register(callable(true), "teleport", "tp").get();
+        final CommandMapping time = dispatcher.register(callable(true), "time").get();
+
+        assertEquals(ImmutableList.of(teleport), dispatcher.remove("TP"));
+        assertFalse(dispatcher.containsAlias("tp"));
+        assertTrue(dispatcher.containsAlias("teleport"));
+        assertEquals(ImmutableSet.of(teleport, time), dispatcher.getCommands());
+
+        assertEquals(Optional.of(teleport), dispatcher.removeMapping(teleport));
+        assertEquals(ImmutableSet.of(time), dispatcher.getCommands());
+        assertEquals(ImmutableSet.of("time"), dispatcher.getPrimaryAliases());
+
+        assertFalse(dispatcher.removeAll(ImmutableList.of("teleport")));
+        assertTrue(dispatcher.removeMappings(ImmutableList.of(time)));
+        assertEquals(0, dispatcher.size());
+    }
+
+}
@@ -28,9 +28,11 @@
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.closeTo;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertThat;
 
+import com.google.common.base.Defaults;
 import com.google.common.collect.Maps;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -39,6 +41,7 @@
 import org.spongepowered.api.util.annotation.TransformResult;
 import org.spongepowered.api.util.annotation.TransformWith;
 
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -138,6 +141,115 @@ public void testCreate_UnsetPrimitivesWithNonNull() throws Exception {
         factory.apply(Collections.<String, Object>emptyMap());
     }
 
+    @Test
+    public void testCreate_PositionalPrimitives() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<PrimitiveContainer> factory = provider.create(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("byte", (byte) 10);
+        values.put("short", (short) 11);
+        values.put("int", 12);
+        values.put("long", 13L);
+        values.put("float", (float) 14.5);
+        values.put("double", 15.5);
+        values.put("boolean", true);
+        values.put("char", (char) 17);
+
+        List<String> names = factory.getParameterNames();
+        assertThat(names, Matchers.containsInAnyOrder(values.keySet().toArray()));
+
+        Object[] parameters = new Object[names.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = values.get(names.get(i));
+        }
+        PrimitiveContainer result = factory.create(parameters);
+
+        assertThat(result.getByte(), is((byte) 10));
+        assertThat(result.getShort(), is((short) 11));
+        assertThat(result.getInt(), is(12));
+        assertThat(result.getLong(), is(13L));
+        assertThat((double) result.getFloat(), is(closeTo(14.5, ERROR)));
+        assertThat(result.getDouble(), is(closeTo(15.5, ERROR)));
+        assertThat(result.getBoolean(), is(true));
+        assertThat(result.getChar(), is((char) 17));
+    }
+
+    @Test
+    public void testCreate_ConstructorHandle() throws Throwable {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<PrimitiveContainer> factory = provider.create(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        List<String> names = factory.getParameterNames();
+        MethodHandle constructor = factory.getConstructor();
+        assertThat(constructor.type().parameterCount(), is(names.size()));
+        assertEquals(int.class, constructor.type().parameterType(names.indexOf("int")));
+        assertEquals(double.class, constructor.type().parameterType(names.indexOf("double")));
+
+        Object[] parameters = new Object[names.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = Defaults.defaultValue(constructor.type().parameterType(i));
+        }
+        parameters[names.indexOf("int")] = 12;
+        parameters[names.indexOf("double")] = 15.5;
+        PrimitiveContainer result = (PrimitiveContainer) constructor.invokeWithArguments(parameters);
+
+        assertThat(result.getInt(), is(12));
+        assertThat(result.getDouble(), is(closeTo(15.5, ERROR)));
+        assertThat(result.getLong(), is(0L));
+    }
+
+    @Test
+    public void testCreate_PositionalUnsetPrimitives() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<PrimitiveContainer> factory = provider.create(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        PrimitiveContainer result = factory.create(new Object[factory.getParameterNames().size()]);
+
+        assertThat(result.getInt(), is(0));
+        assertThat(result.getLong(), is(0L));
+        assertThat(result.getDouble(), is(closeTo(0, ERROR)));
+        assertThat(result.getBoolean(), is(false));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testCreate_PositionalUnsetPrimitivesWithNonNull() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        provider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        EventFactory<PrimitiveContainer> factory = provider.create(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        factory.create(new Object[factory.getParameterNames().size()]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreate_PositionalParameterCount() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<PrimitiveContainer> factory = provider.create(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        factory.create(1, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGenerate_Pregenerated() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        Map<String, byte[]> classes = provider.generate(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        assertThat(classes.keySet(), Matchers.contains("org.spongepowered.test.ClassGeneratorProviderTest$PrimitiveContainer$Impl",
+                "org.spongepowered.test.ClassGeneratorProviderTest$PrimitiveContainer$Factory"));
+
+        // Load the classes like they would be loaded from the class path
+        ClassGeneratorProvider.LocalClassLoader classLoader = new ClassGeneratorProvider.LocalClassLoader(getClass().getClassLoader());
+        Class<?> factoryClass = null;
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            factoryClass = classLoader.defineClass(entry.getKey(), entry.getValue());
+        }
+        EventFactory<PrimitiveContainer> factory = (EventFactory<PrimitiveContainer>) factoryClass.newInstance();
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("int", 12);
+        PrimitiveContainer result = factory.apply(values);
+        assertThat(result.getInt(), is(12));
+
+        // Not on the class path, so the factory is generated at runtime
+        provider.setUsePregenerated(true);
+        assertThat(provider.create(PrimitiveContainer.class, Object.class, SpongeEventFactoryUtils.plugins).getClass().getClassLoader(),
+                is(equalTo((ClassLoader) provider.getClassLoader())));
+    }
+
     @Test
     public void testCreate_BoxedPrimitives() throws Exception {
         ClassGeneratorProvider provider = createProvider();